@@ -151,6 +151,87 @@ public interface ReleaseDescriptor {
      */
     String getWorkItem();
 
+    /**
+     * Get whether the POM backups are stored as one content-addressed snapshot of the reactor in the
+     * <code>.release-pom-backup</code> directory of the root project, instead of a backup file next to each POM.
+     *
+     * @return boolean
+     * @since 3.0.2
+     */
+    boolean isContentAddressedPomBackups();
+
+    /**
+     * Get whether a dry run keeps the transformed POMs in memory instead of writing them next to the originals.
+     *
+     * @return boolean
+     * @since 3.0.2
+     */
+    boolean isDryRunInMemory();
+
+    /**
+     * Get whether the suggested versions of all modules are reviewed at once instead of prompted for one by one.
+     *
+     * @return boolean
+     * @since 3.0.2
+     */
+    boolean isReviewVersions();
+
+    /**
+     * Get whether the perform goals skip the tests when the checkout of the tag matches the verified reactor.
+     *
+     * @return boolean
+     * @since 3.0.2
+     */
+    boolean isReuseVerification();
+
+    /**
+     * Get whether the preparation goals of the current run ran the tests of the release POMs successfully.
+     *
+     * @return boolean
+     * @since 3.0.2
+     */
+    boolean isPreparationGoalsVerified();
+
+    /**
+     * Get the degree of parallelism of the forked Maven builds.
+     *
+     * @return String, <code>auto</code> or a <code>-T</code> value, <code>null</code> to leave the builds as configured
+     * @since 3.0.2
+     */
+    String getThreads();
+
+    /**
+     * Get the degree of parallelism of the preparation goals, overriding {@link #getThreads()}.
+     *
+     * @return String, <code>auto</code> or a <code>-T</code> value, <code>null</code> if not overridden
+     * @since 3.0.2
+     */
+    String getPreparationThreads();
+
+    /**
+     * Get the degree of parallelism of the perform goals, overriding {@link #getThreads()}.
+     *
+     * @return String, <code>auto</code> or a <code>-T</code> value, <code>null</code> if not overridden
+     * @since 3.0.2
+     */
+    String getPerformThreads();
+
+    /**
+     * Get the directory where read-only SCM query results are cached between runs.
+     *
+     * @return String, <code>null</code> if SCM query results are not cached
+     * @since 3.0.2
+     */
+    String getScmQueryCacheDirectory();
+
+    /**
+     * Get the patch file the changes prepare made to the POMs are written to.
+     *
+     * @return String, <code>null</code> if no report is written
+     * @since 3.0.2
+     */
+    String getPomDiffReport();
+
     /**
      * Get default version to use for new working copy.
      *
@@ -246,6 +327,14 @@ public interface ReleaseDescriptor {
      */
     List<String> getCheckModificationExcludes();
 
+    /**
+     * Get whether the check for local modifications is restricted to the directories of the reactor projects.
+     *
+     * @return boolean
+     * @since 3.0.2
+     */
+    boolean isCheckModificationReactorOnly();
+
     /**
      * Get additional arguments to pass to any executed Maven process.
      *
@@ -437,6 +526,14 @@ public interface ReleaseDescriptor {
      */
     String getReleaseStrategyId();
 
+    /**
+     * Get the role-hint for the ReleaseDescriptorStore implementation keeping the release state between goals.
+     *
+     * @return String
+     * @since 3.0.2
+     */
+    String getReleaseDescriptorStoreId();
+
     /**
      * <p>getDependencyOriginalVersion.</p>
      *
@@ -570,6 +667,14 @@ public interface ReleaseDescriptor {
      */
     void setScmSourceUrl(String scmUrl);
 
+    /**
+     * <p>setPreparationGoalsVerified.</p>
+     *
+     * @param preparationGoalsVerified a boolean
+     * @since 3.0.2
+     */
+    void setPreparationGoalsVerified(boolean preparationGoalsVerified);
+
     /**
      * Returns whether unresolved SNAPSHOT dependencies should automatically be resolved.
      * If this is set, then this specifies the default answer to be used when unresolved SNAPSHOT
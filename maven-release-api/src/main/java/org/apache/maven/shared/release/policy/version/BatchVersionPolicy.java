@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.policy.version;
+
+import java.util.Map;
+
+import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.versions.VersionParseException;
+
+/**
+ * Version policy computing the versions of all modules of a reactor at once.
+ * <p>
+ * A {@link VersionPolicy} is asked once per module. A policy which needs expensive context, like the SCM history, a
+ * remote registry or the other modules, can implement this interface as well to compute that context once for the
+ * whole reactor. Policies only implementing {@link VersionPolicy} are called through a
+ * {@link BatchVersionPolicyAdapter}.
+ *
+ * @since 3.0.2
+ */
+public interface BatchVersionPolicy {
+    /**
+     * <p>getReleaseVersions.</p>
+     *
+     * @param request the {@code BatchVersionPolicyRequest}
+     * @return the calculation of the release versions from development state, by module; modules without result
+     *         are asked for individually
+     * @throws org.apache.maven.shared.release.policy.PolicyException if exception in the policy
+     * @throws org.apache.maven.shared.release.versions.VersionParseException if exception parsing a version
+     */
+    Map<String, VersionPolicyResult> getReleaseVersions(BatchVersionPolicyRequest request)
+            throws PolicyException, VersionParseException;
+
+    /**
+     * <p>getDevelopmentVersions.</p>
+     *
+     * @param request the {@code BatchVersionPolicyRequest}
+     * @return the calculation of the next development versions from release state, by module; modules without
+     *         result are asked for individually
+     * @throws org.apache.maven.shared.release.policy.PolicyException if exception in the policy
+     * @throws org.apache.maven.shared.release.versions.VersionParseException if exception parsing a version
+     */
+    Map<String, VersionPolicyResult> getDevelopmentVersions(BatchVersionPolicyRequest request)
+            throws PolicyException, VersionParseException;
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.policy.version;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.versions.VersionParseException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Calls a {@link VersionPolicy} once per module of a {@link BatchVersionPolicyRequest}.
+ *
+ * @since 3.0.2
+ */
+public class BatchVersionPolicyAdapter implements BatchVersionPolicy {
+    private final VersionPolicy versionPolicy;
+
+    /**
+     * <p>Constructor for BatchVersionPolicyAdapter.</p>
+     *
+     * @param versionPolicy the policy to call for each module
+     */
+    public BatchVersionPolicyAdapter(VersionPolicy versionPolicy) {
+        this.versionPolicy = requireNonNull(versionPolicy);
+    }
+
+    /**
+     * Returns the policy itself if it computes batches, or an adapter calling it once per module otherwise.
+     *
+     * @param versionPolicy the policy
+     * @return a batch version policy
+     */
+    public static BatchVersionPolicy of(VersionPolicy versionPolicy) {
+        if (versionPolicy instanceof BatchVersionPolicy) {
+            return (BatchVersionPolicy) versionPolicy;
+        }
+        return new BatchVersionPolicyAdapter(versionPolicy);
+    }
+
+    @Override
+    public Map<String, VersionPolicyResult> getReleaseVersions(BatchVersionPolicyRequest request)
+            throws PolicyException, VersionParseException {
+        Map<String, VersionPolicyResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> version : request.getVersions().entrySet()) {
+            results.put(version.getKey(), versionPolicy.getReleaseVersion(request.createRequest(version.getValue())));
+        }
+        return results;
+    }
+
+    @Override
+    public Map<String, VersionPolicyResult> getDevelopmentVersions(BatchVersionPolicyRequest request)
+            throws PolicyException, VersionParseException {
+        Map<String, VersionPolicyResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> version : request.getVersions().entrySet()) {
+            results.put(
+                    version.getKey(), versionPolicy.getDevelopmentVersion(request.createRequest(version.getValue())));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.policy.version;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.repository.ScmRepository;
+
+/**
+ * The current versions of all modules of a reactor, with the context shared by all of them.
+ *
+ * @since 3.0.2
+ */
+public class BatchVersionPolicyRequest {
+    private Map<String, String> versions = new LinkedHashMap<>();
+
+    private ScmRepository scmRepository;
+
+    private ScmProvider scmProvider;
+
+    private String workingDirectory;
+
+    private ScmTagIndex scmTagIndex;
+
+    private String config;
+
+    /**
+     * <p>Getter for the field <code>versions</code>.</p>
+     *
+     * @return the versions to compute the next version from, by module <code>groupId:artifactId</code>
+     */
+    public Map<String, String> getVersions() {
+        return Collections.unmodifiableMap(versions);
+    }
+
+    /**
+     * <p>Setter for the field <code>versions</code>.</p>
+     *
+     * @param versions the versions to compute the next version from, by module <code>groupId:artifactId</code>
+     * @return a {@link org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest} object
+     */
+    public BatchVersionPolicyRequest setVersions(Map<String, String> versions) {
+        this.versions = new LinkedHashMap<>(versions);
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>scmRepository</code>.</p>
+     *
+     * @return a {@link ScmRepository} object
+     */
+    public ScmRepository getScmRepository() {
+        return scmRepository;
+    }
+
+    /**
+     * <p>Setter for the field <code>scmRepository</code>.</p>
+     *
+     * @param scmRepository The {@link ScmRepository} where the history can be retrieved.
+     * @return a {@link org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest} object
+     */
+    public BatchVersionPolicyRequest setScmRepository(ScmRepository scmRepository) {
+        this.scmRepository = scmRepository;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>scmProvider</code>.</p>
+     *
+     * @return a {@link ScmProvider} object
+     */
+    public ScmProvider getScmProvider() {
+        return scmProvider;
+    }
+
+    /**
+     * <p>Setter for the field <code>scmProvider</code>.</p>
+     *
+     * @param scmProvider The {@link ScmProvider} where the history can be retrieved.
+     * @return a {@link org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest} object
+     */
+    public BatchVersionPolicyRequest setScmProvider(ScmProvider scmProvider) {
+        this.scmProvider = scmProvider;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>workingDirectory</code>.</p>
+     *
+     * @return the {@link String} that contains the workingDirectory (can be null or empty).
+     */
+    public String getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    /**
+     * <p>Setter for the field <code>workingDirectory</code>.</p>
+     *
+     * @param workingDirectory The {@link String} that contains the workingDirectory (can be null or empty).
+     * @return a {@link org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest} object
+     */
+    public BatchVersionPolicyRequest setWorkingDirectory(String workingDirectory) {
+        this.workingDirectory = workingDirectory;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>scmTagIndex</code>.</p>
+     *
+     * @return the {@link ScmTagIndex} of the SCM repository (can be null).
+     */
+    public ScmTagIndex getScmTagIndex() {
+        return scmTagIndex;
+    }
+
+    /**
+     * <p>Setter for the field <code>scmTagIndex</code>.</p>
+     *
+     * @param scmTagIndex The {@link ScmTagIndex} of the SCM repository.
+     * @return a {@link org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest} object
+     */
+    public BatchVersionPolicyRequest setScmTagIndex(ScmTagIndex scmTagIndex) {
+        this.scmTagIndex = scmTagIndex;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>config</code>.</p>
+     *
+     * @return the {@link String} that contains the config (can be null or empty).
+     */
+    public String getConfig() {
+        return config;
+    }
+
+    /**
+     * <p>Setter for the field <code>config</code>.</p>
+     *
+     * @param config The {@link String} that contains the config (can be null or empty).
+     * @return a {@link org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest} object
+     */
+    public BatchVersionPolicyRequest setConfig(String config) {
+        this.config = config;
+        return this;
+    }
+
+    /**
+     * Creates the request for a single module, with the shared context of this request.
+     *
+     * @param version the version of the module
+     * @return a {@link org.apache.maven.shared.release.policy.version.VersionPolicyRequest} object
+     */
+    public VersionPolicyRequest createRequest(String version) {
+        return new VersionPolicyRequest()
+                .setVersion(version)
+                .setScmRepository(scmRepository)
+                .setScmProvider(scmProvider)
+                .setWorkingDirectory(workingDirectory)
+                .setScmTagIndex(scmTagIndex)
+                .setConfig(config);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.policy.version;
+
+/**
+ * Marker for a {@link VersionPolicy} which may be called for several modules at the same time.
+ * <p>
+ * A policy which is not a {@link BatchVersionPolicy} is called once per module, one module after the other. A
+ * thread-safe policy which spends most of its time waiting, for instance on a remote registry, can implement this
+ * interface to be called for all modules concurrently instead.
+ *
+ * @since 3.0.2
+ */
+public interface ConcurrentVersionPolicy extends VersionPolicy {}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.policy.version;
+
+import java.util.List;
+
+import org.apache.maven.shared.release.policy.PolicyException;
+import org.eclipse.aether.version.Version;
+
+/**
+ * Index of the tags of the SCM repository, shared by all version policy requests of a release phase.
+ * <p>
+ * The tags are only listed on first use and at most once per phase, so a policy looking at the existing tags for
+ * every module does not query the SCM for every module.
+ *
+ * @since 3.0.2
+ */
+public interface ScmTagIndex {
+    /**
+     * <p>getTags.</p>
+     *
+     * @return the names of all tags, sorted by name
+     * @throws org.apache.maven.shared.release.policy.PolicyException if the tags cannot be retrieved
+     */
+    List<String> getTags() throws PolicyException;
+
+    /**
+     * <p>getVersions.</p>
+     *
+     * @param tagPrefix the prefix of the tags to consider, for instance <code>artifactId-</code>
+     * @return the versions following the prefix, in ascending order; tags where the remainder does not start with a
+     *         digit are ignored
+     * @throws org.apache.maven.shared.release.policy.PolicyException if the tags cannot be retrieved
+     */
+    List<Version> getVersions(String tagPrefix) throws PolicyException;
+}
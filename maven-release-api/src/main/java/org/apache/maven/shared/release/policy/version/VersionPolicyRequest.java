@@ -36,6 +36,7 @@ public class VersionPolicyRequest {
     private ScmRepository scmRepository;
     private ScmProvider scmProvider;
     private String workingDirectory;
+    private ScmTagIndex scmTagIndex;
 
     private String config;
 
@@ -158,4 +159,26 @@ public class VersionPolicyRequest {
         this.config = config;
         return this;
     }
+
+    /**
+     * <p>Getter for the field <code>scmTagIndex</code>.</p>
+     *
+     * @return the {@link ScmTagIndex} of the SCM repository (can be null).
+     * @since 3.0.2
+     */
+    public ScmTagIndex getScmTagIndex() {
+        return scmTagIndex;
+    }
+
+    /**
+     * <p>Setter for the field <code>scmTagIndex</code>.</p>
+     *
+     * @param scmTagIndex The {@link ScmTagIndex} shared by all requests of the release phase.
+     * @return a {@link org.apache.maven.shared.release.policy.version.VersionPolicyRequest} object
+     * @since 3.0.2
+     */
+    public VersionPolicyRequest setScmTagIndex(ScmTagIndex scmTagIndex) {
+        this.scmTagIndex = scmTagIndex;
+        return this;
+    }
 }
@@ -44,6 +44,10 @@ class AetherVersion implements org.eclipse.aether.version.Version {
      * @return a int
      */
     public int compareTo(org.eclipse.aether.version.Version other) {
+        // the scheme's versions only compare to versions of the same scheme
+        if (other instanceof AetherVersion) {
+            return this.version.compareTo(((AetherVersion) other).version);
+        }
         return this.version.compareTo(other);
     }
 }
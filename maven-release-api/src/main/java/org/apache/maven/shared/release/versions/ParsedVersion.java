@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.versions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parts of a version string, as parsed by {@link Version} and <code>DefaultVersionInfo</code>.
+ * <p>
+ * The release parses the same few versions over and over: project versions, dependency versions and the inputs of
+ * the version policies. Instead of matching the version patterns and splitting the digits each time, the version is
+ * tokenized in a single pass and the result is kept in a cache shared by all callers. Instances are immutable.
+ * <p>
+ * The tokenizer gives the same result as matching {@link Version#ALTERNATE_PATTERN} and then
+ * {@link Version#STANDARD_PATTERN}.
+ *
+ * @since 3.0.2
+ */
+public final class ParsedVersion {
+    /**
+     * Bound of the cache, which is simply emptied when reached: a reactor does not have that many distinct versions.
+     */
+    private static final int MAX_CACHED = 4096;
+
+    private static final String SNAPSHOT_IDENTIFIER = "SNAPSHOT";
+
+    private static final Map<String, ParsedVersion> CACHE = new ConcurrentHashMap<>();
+
+    private final List<String> digits;
+
+    private final String annotationSeparator;
+
+    private final String annotation;
+
+    private final String annotationRevSeparator;
+
+    private final String annotationRevision;
+
+    private final String buildSeparator;
+
+    private final String buildSpecifier;
+
+    private ParsedVersion(
+            List<String> digits,
+            String annotationSeparator,
+            String annotation,
+            String annotationRevSeparator,
+            String annotationRevision,
+            String buildSeparator,
+            String buildSpecifier) {
+        this.digits = digits;
+        this.annotationSeparator = annotationSeparator;
+        this.annotation = annotation;
+        this.annotationRevSeparator = annotationRevSeparator;
+        this.annotationRevision = annotationRevision;
+        this.buildSeparator = buildSeparator;
+        this.buildSpecifier = buildSpecifier;
+    }
+
+    /**
+     * Parses a version string, or returns the cached result of a previous parse.
+     *
+     * @param version the version string
+     * @return the parts of the version
+     * @throws VersionParseException if the version cannot be parsed
+     */
+    public static ParsedVersion parse(String version) throws VersionParseException {
+        ParsedVersion parsed = CACHE.get(version);
+        if (parsed == null) {
+            parsed = tokenize(version);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            CACHE.put(version, parsed);
+        }
+        return parsed;
+    }
+
+    private static ParsedVersion tokenize(String version) throws VersionParseException {
+        int length = version.length();
+
+        // FIX for non-digit release numbers, e.g. trunk-SNAPSHOT or just SNAPSHOT
+        if (isAlternate(version)) {
+            return new ParsedVersion(null, null, null, null, null, null, version);
+        }
+
+        // digits: numbers separated by single periods, a trailing period is not part of them
+        List<String> digits = new ArrayList<>(4);
+        int position = 0;
+        while (true) {
+            // only the first number can be missing, a period is only consumed when followed by a digit
+            int start = position;
+            while (position < length && isDigit(version.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw new VersionParseException("Unable to parse the version string: \"" + version + "\"");
+            }
+            digits.add(version.substring(start, position));
+            if (position + 1 < length && version.charAt(position) == '.' && isDigit(version.charAt(position + 1))) {
+                position++;
+            } else {
+                break;
+            }
+        }
+
+        String separator1 = null;
+        if (position < length && isSeparator(version.charAt(position))) {
+            separator1 = version.substring(position, position + 1);
+            position++;
+        }
+
+        int start = position;
+        while (position < length && isLetter(version.charAt(position))) {
+            position++;
+        }
+        String letters = version.substring(start, position);
+
+        String separator2 = null;
+        if (position < length && isSeparator(version.charAt(position))) {
+            separator2 = version.substring(position, position + 1);
+            position++;
+        }
+
+        start = position;
+        while (position < length && isDigit(version.charAt(position))) {
+            position++;
+        }
+        String number = version.substring(start, position);
+
+        String separator3 = null;
+        if (position < length && isSeparator(version.charAt(position))) {
+            separator3 = version.substring(position, position + 1);
+            position++;
+        }
+
+        // the rest of the version, which like '.' in a pattern cannot contain line terminators
+        for (int i = position; i < length; i++) {
+            if (isLineTerminator(version.charAt(i))) {
+                throw new VersionParseException("Unable to parse the version string: \"" + version + "\"");
+            }
+        }
+        String rest = nullIfEmpty(version.substring(position));
+
+        List<String> unmodifiableDigits = Collections.unmodifiableList(digits);
+        if (SNAPSHOT_IDENTIFIER.equals(letters)) {
+            // Annotation was "SNAPSHOT" so populate the build specifier with that data
+            return new ParsedVersion(unmodifiableDigits, null, null, null, null, separator1, letters);
+        }
+        if (separator2 != null && number.isEmpty()) {
+            // The build separator was picked up as the annotation revision separator
+            return new ParsedVersion(
+                    unmodifiableDigits, separator1, nullIfEmpty(letters), null, null, separator2, rest);
+        }
+        return new ParsedVersion(
+                unmodifiableDigits,
+                separator1,
+                nullIfEmpty(letters),
+                separator2,
+                nullIfEmpty(number),
+                separator3,
+                rest);
+    }
+
+    /**
+     * Whether the version is <code>SNAPSHOT</code> or letters followed by <code>-SNAPSHOT</code> or
+     * <code>_SNAPSHOT</code>.
+     */
+    private static boolean isAlternate(String version) {
+        if (!version.endsWith(SNAPSHOT_IDENTIFIER)) {
+            return false;
+        }
+        int prefixLength = version.length() - SNAPSHOT_IDENTIFIER.length();
+        if (prefixLength == 0) {
+            return true;
+        }
+        if (prefixLength < 2 || !isSeparator(version.charAt(prefixLength - 1))) {
+            return false;
+        }
+        for (int i = 0; i < prefixLength - 1; i++) {
+            if (!isLetter(version.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == '_';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static String nullIfEmpty(String s) {
+        return s.isEmpty() ? null : s;
+    }
+
+    /**
+     * <p>Getter for the field <code>digits</code>.</p>
+     *
+     * @return the unmodifiable digits, or <code>null</code> for versions like <code>trunk-SNAPSHOT</code>
+     */
+    public List<String> getDigits() {
+        return digits;
+    }
+
+    /**
+     * <p>Getter for the field <code>annotationSeparator</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getAnnotationSeparator() {
+        return annotationSeparator;
+    }
+
+    /**
+     * <p>Getter for the field <code>annotation</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getAnnotation() {
+        return annotation;
+    }
+
+    /**
+     * <p>Getter for the field <code>annotationRevSeparator</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getAnnotationRevSeparator() {
+        return annotationRevSeparator;
+    }
+
+    /**
+     * <p>Getter for the field <code>annotationRevision</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getAnnotationRevision() {
+        return annotationRevision;
+    }
+
+    /**
+     * <p>Getter for the field <code>buildSeparator</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getBuildSeparator() {
+        return buildSeparator;
+    }
+
+    /**
+     * <p>Getter for the field <code>buildSpecifier</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getBuildSpecifier() {
+        return buildSpecifier;
+    }
+}
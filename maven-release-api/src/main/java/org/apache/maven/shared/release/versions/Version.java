@@ -18,10 +18,9 @@
  */
 package org.apache.maven.shared.release.versions;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.maven.artifact.ArtifactUtils;
@@ -31,9 +30,10 @@ import org.codehaus.plexus.util.StringUtils;
  * <p>Version class.</p>
  */
 public class Version implements Comparable<Version>, Cloneable {
-    private final AetherVersion aetherVersion;
+    // created on the first comparison, most versions are only parsed and printed
+    private AetherVersion aetherVersion;
 
-    private final MavenArtifactVersion mavenArtifactVersion;
+    private MavenArtifactVersion mavenArtifactVersion;
 
     private final String strVersion;
 
@@ -51,22 +51,6 @@ public class Version implements Comparable<Version>, Cloneable {
 
     private String buildSeparator;
 
-    private static final int DIGITS_INDEX = 1;
-
-    private static final int ANNOTATION_SEPARATOR_INDEX = 2;
-
-    private static final int ANNOTATION_INDEX = 3;
-
-    private static final int ANNOTATION_REV_SEPARATOR_INDEX = 4;
-
-    private static final int ANNOTATION_REVISION_INDEX = 5;
-
-    private static final int BUILD_SEPARATOR_INDEX = 6;
-
-    private static final int BUILD_SPECIFIER_INDEX = 7;
-
-    private static final String SNAPSHOT_IDENTIFIER = "SNAPSHOT";
-
     private static final String DIGIT_SEPARATOR_STRING = ".";
 
     private static final String DEFAULT_ANNOTATION_REV_SEPARATOR = "-";
@@ -108,10 +92,6 @@ public class Version implements Comparable<Version>, Cloneable {
         this.annotationRevSeparator = annotationRevSeparator;
         this.buildSeparator = buildSeparator;
         this.strVersion = getVersionString(this, buildSpecifier, buildSeparator);
-
-        // for now no need to reparse, original version was valid
-        this.aetherVersion = null;
-        this.mavenArtifactVersion = null;
     }
 
     /**
@@ -121,48 +101,17 @@ public class Version implements Comparable<Version>, Cloneable {
      * @throws org.apache.maven.shared.release.versions.VersionParseException if any.
      */
     public Version(String version) throws VersionParseException {
-        this.strVersion = version;
-        this.aetherVersion = new AetherVersion(version);
-        this.mavenArtifactVersion = new MavenArtifactVersion(version);
-
-        // FIX for non-digit release numbers, e.g. trunk-SNAPSHOT or just SNAPSHOT
-        Matcher matcher = ALTERNATE_PATTERN.matcher(strVersion);
-        // TODO: hack because it didn't support "SNAPSHOT"
-        if (matcher.matches()) {
-            annotation = null;
-            digits = null;
-            buildSpecifier = version;
-            buildSeparator = null;
-            return;
-        }
+        ParsedVersion parsed = ParsedVersion.parse(version);
 
-        Matcher m = STANDARD_PATTERN.matcher(strVersion);
-        if (m.matches()) {
-            digits = parseDigits(m.group(DIGITS_INDEX));
-            if (!SNAPSHOT_IDENTIFIER.equals(m.group(ANNOTATION_INDEX))) {
-                annotationSeparator = m.group(ANNOTATION_SEPARATOR_INDEX);
-                annotation = nullIfEmpty(m.group(ANNOTATION_INDEX));
-
-                if (StringUtils.isNotEmpty(m.group(ANNOTATION_REV_SEPARATOR_INDEX))
-                        && StringUtils.isEmpty(m.group(ANNOTATION_REVISION_INDEX))) {
-                    // The build separator was picked up as the annotation revision separator
-                    buildSeparator = m.group(ANNOTATION_REV_SEPARATOR_INDEX);
-                    buildSpecifier = nullIfEmpty(m.group(BUILD_SPECIFIER_INDEX));
-                } else {
-                    annotationRevSeparator = m.group(ANNOTATION_REV_SEPARATOR_INDEX);
-                    annotationRevision = nullIfEmpty(m.group(ANNOTATION_REVISION_INDEX));
-
-                    buildSeparator = m.group(BUILD_SEPARATOR_INDEX);
-                    buildSpecifier = nullIfEmpty(m.group(BUILD_SPECIFIER_INDEX));
-                }
-            } else {
-                // Annotation was "SNAPSHOT" so populate the build specifier with that data
-                buildSeparator = m.group(ANNOTATION_SEPARATOR_INDEX);
-                buildSpecifier = nullIfEmpty(m.group(ANNOTATION_INDEX));
-            }
-        } else {
-            throw new VersionParseException("Unable to parse the version string: \"" + version + "\"");
-        }
+        this.strVersion = version;
+        // parsed digits are shared by all versions with the same string, so keep a copy of our own
+        this.digits = parsed.getDigits() != null ? new ArrayList<>(parsed.getDigits()) : null;
+        this.annotation = parsed.getAnnotation();
+        this.annotationRevision = parsed.getAnnotationRevision();
+        this.buildSpecifier = parsed.getBuildSpecifier();
+        this.annotationSeparator = parsed.getAnnotationSeparator();
+        this.annotationRevSeparator = parsed.getAnnotationRevSeparator();
+        this.buildSeparator = parsed.getBuildSeparator();
     }
 
     /**
@@ -230,23 +179,10 @@ public class Version implements Comparable<Version>, Cloneable {
         return digits != null ? StringUtils.join(digits.iterator(), DIGIT_SEPARATOR_STRING) : null;
     }
 
-    /**
-     * Splits the string on "." and returns a list containing each digit.
-     *
-     * @param strDigits
-     */
-    private List<String> parseDigits(String strDigits) {
-        return Arrays.asList(StringUtils.split(strDigits, DIGIT_SEPARATOR_STRING));
-    }
-
-    private static String nullIfEmpty(String s) {
-        return (s == null || s.isEmpty()) ? null : s;
-    }
-
     /**
      * <p>Getter for the field <code>digits</code>.</p>
      *
-     * @return a {@link java.util.List} object
+     * @return the digits of this version, or <code>null</code> for versions like <code>trunk-SNAPSHOT</code>
      */
     public List<String> getDigits() {
         return digits;
@@ -358,8 +294,8 @@ public class Version implements Comparable<Version>, Cloneable {
      * @return a int
      */
     public int compareTo(Version other) throws VersionComparisonConflictException {
-        int aetherComparisonResult = this.aetherVersion.compareTo(other.aetherVersion);
-        int mavenComparisonResult = this.mavenArtifactVersion.compareTo(other.mavenArtifactVersion);
+        int aetherComparisonResult = this.getAetherVersion().compareTo(other.getAetherVersion());
+        int mavenComparisonResult = this.getMavenArtifactVersion().compareTo(other.getMavenArtifactVersion());
 
         if (aetherComparisonResult < 0 && mavenComparisonResult < 0) {
             return -1;
@@ -372,4 +308,23 @@ public class Version implements Comparable<Version>, Cloneable {
                     this.strVersion, other.strVersion, aetherComparisonResult, mavenComparisonResult);
         }
     }
+
+    private AetherVersion getAetherVersion() {
+        if (aetherVersion == null) {
+            try {
+                aetherVersion = new AetherVersion(strVersion);
+            } catch (VersionParseException e) {
+                // the generic version scheme accepts any string
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return aetherVersion;
+    }
+
+    private MavenArtifactVersion getMavenArtifactVersion() {
+        if (mavenArtifactVersion == null) {
+            mavenArtifactVersion = new MavenArtifactVersion(strVersion);
+        }
+        return mavenArtifactVersion;
+    }
 }
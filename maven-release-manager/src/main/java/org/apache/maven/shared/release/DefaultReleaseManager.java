@@ -23,24 +23,38 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStore;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStoreException;
 import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.apache.maven.shared.release.phase.AbstractRewritePomsPhase;
 import org.apache.maven.shared.release.phase.ReleasePhase;
 import org.apache.maven.shared.release.phase.ResourceGenerator;
 import org.apache.maven.shared.release.strategy.Strategy;
+import org.apache.maven.shared.release.transform.PomDiffReport;
+import org.apache.maven.shared.release.transform.PomSnapshot;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +68,8 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 @Named
 public class DefaultReleaseManager implements ReleaseManager {
+    private static final String DEFAULT_CONFIG_STORE_ID = "properties";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final Map<String, Strategy> strategies;
@@ -68,14 +84,28 @@ public class DefaultReleaseManager implements ReleaseManager {
      */
     private final AtomicReference<ReleaseDescriptorStore> configStore;
 
+    /**
+     * The available configuration storages, selected by the release descriptor.
+     */
+    private final Map<String, ReleaseDescriptorStore> configStores;
+
+    /**
+     * The POMs of in-memory dry runs.
+     */
+    private final PomSnapshotStore pomSnapshotStore;
+
     @Inject
     public DefaultReleaseManager(
             Map<String, Strategy> strategies,
             Map<String, ReleasePhase> releasePhases,
-            @Named("properties") ReleaseDescriptorStore configStore) {
+            @Named("properties") ReleaseDescriptorStore configStore,
+            Map<String, ReleaseDescriptorStore> configStores,
+            PomSnapshotStore pomSnapshotStore) {
         this.strategies = requireNonNull(strategies);
         this.releasePhases = requireNonNull(releasePhases);
         this.configStore = new AtomicReference<>(requireNonNull(configStore));
+        this.configStores = requireNonNull(configStores);
+        this.pomSnapshotStore = requireNonNull(pomSnapshotStore);
     }
 
     /**
@@ -110,7 +140,7 @@ public class DefaultReleaseManager implements ReleaseManager {
         prepare(prepareRequest, new ReleaseResult());
     }
 
-    private void prepare(ReleasePrepareRequest prepareRequest, ReleaseResult result)
+    private BuilderReleaseDescriptor prepare(ReleasePrepareRequest prepareRequest, ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
 
         final ReleaseDescriptorBuilder builder = prepareRequest.getReleaseDescriptorBuilder();
@@ -172,8 +202,36 @@ public class DefaultReleaseManager implements ReleaseManager {
             logInfo(result, "Resuming release from phase '" + preparePhases.get(index + 1) + "'");
         }
 
-        // start from next phase
-        for (int i = index + 1; i < preparePhases.size(); i++) {
+        boolean inMemory = BooleanUtils.isTrue(prepareRequest.getDryRun()) && config.isDryRunInMemory();
+        try {
+            runPreparePhases(prepareRequest, config, preparePhases, index + 1, inMemory, result);
+
+            if (config.getPomDiffReport() != null && isPomRewritten(preparePhases, index)) {
+                // the original POMs are gone, a report would be against the POMs rewritten before resuming
+                logWarn(
+                        result,
+                        "Not writing the POM diff report, the POMs were already rewritten before resuming the release");
+            } else {
+                writePomDiffReport(config, result);
+            }
+        } finally {
+            endPomSnapshots(config, inMemory, result);
+        }
+
+        goalEnd(prepareRequest.getReleaseManagerListener());
+
+        return config;
+    }
+
+    private void runPreparePhases(
+            ReleasePrepareRequest prepareRequest,
+            BuilderReleaseDescriptor config,
+            List<String> preparePhases,
+            int start,
+            boolean inMemory,
+            ReleaseResult result)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        for (int i = start; i < preparePhases.size(); i++) {
             String name = preparePhases.get(i);
 
             ReleasePhase phase = releasePhases.get(name);
@@ -200,17 +258,62 @@ public class DefaultReleaseManager implements ReleaseManager {
             }
 
             config.setCompletedPhase(name);
-            try {
-                configStore.get().write(config);
-            } catch (ReleaseDescriptorStoreException e) {
-                // TODO: rollback?
-                throw new ReleaseExecutionException("Error writing release properties after completing phase", e);
+            if (!inMemory) {
+                try {
+                    getConfigStore(config.getReleaseDescriptorStoreId()).write(config);
+                } catch (ReleaseDescriptorStoreException e) {
+                    // TODO: rollback?
+                    throw new ReleaseExecutionException("Error writing release properties after completing phase", e);
+                }
             }
 
             phaseEnd(prepareRequest.getReleaseManagerListener());
         }
+    }
 
-        goalEnd(prepareRequest.getReleaseManagerListener());
+    /**
+     * @return whether one of the phases up to the completed one rewrote the POMs
+     */
+    private boolean isPomRewritten(List<String> phases, int completedIndex) {
+        for (int i = 0; i <= completedIndex; i++) {
+            if (releasePhases.get(phases.get(i)) instanceof AbstractRewritePomsPhase) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writePomDiffReport(ReleaseDescriptor releaseDescriptor, ReleaseResult result)
+            throws ReleaseExecutionException {
+        if (releaseDescriptor.getPomDiffReport() == null) {
+            return;
+        }
+
+        File reportFile = new File(releaseDescriptor.getPomDiffReport());
+        try {
+            PomDiffReport.write(
+                    reportFile,
+                    new File(releaseDescriptor.getWorkingDirectory()),
+                    pomSnapshotStore.getSnapshots(releaseDescriptor));
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error writing POM diff report: " + e.getMessage(), e);
+        }
+        logInfo(result, "Wrote the changes made to the POMs to " + reportFile);
+    }
+
+    private void endPomSnapshots(ReleaseDescriptor releaseDescriptor, boolean inMemory, ReleaseResult result) {
+        if (inMemory) {
+            int states = 0;
+            List<PomSnapshot> snapshots = pomSnapshotStore.getSnapshots(releaseDescriptor);
+            for (PomSnapshot snapshot : snapshots) {
+                states += snapshot.getStates().size();
+            }
+            logInfo(
+                    result,
+                    "Dry run kept " + states + " transformed POMs of " + snapshots.size() + " modules in memory");
+        }
+
+        pomSnapshotStore.clear(releaseDescriptor);
     }
 
     @Override
@@ -344,6 +447,188 @@ public class DefaultReleaseManager implements ReleaseManager {
         goalEnd(performRequest.getReleaseManagerListener());
     }
 
+    @Override
+    public Map<String, ReleaseResult> releaseRepositories(ReleaseRepositoriesRequest repositoriesRequest)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        final Map<String, ReleaseRepositoriesRequest.Repository> repositories =
+                getRepositoriesById(repositoriesRequest.getRepositories());
+        final Map<String, ReleaseResult> results = new ConcurrentHashMap<>();
+
+        // all futures exist before any task runs, so the tasks only ever read this map
+        Map<String, CompletableFuture<ReleaseDescriptor>> futures = new LinkedHashMap<>();
+        for (String id : repositories.keySet()) {
+            futures.put(id, new CompletableFuture<ReleaseDescriptor>());
+        }
+        final Map<String, CompletableFuture<ReleaseDescriptor>> releases = Collections.unmodifiableMap(futures);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, repositoriesRequest.getThreads()));
+        try {
+            // dependencies are submitted first, so a task waiting for them never blocks them from a thread
+            for (final ReleaseRepositoriesRequest.Repository repository : sortRepositories(repositories)) {
+                final CompletableFuture<ReleaseDescriptor> release = releases.get(repository.getId());
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            Map<ReleaseRepositoriesRequest.Repository, ReleaseDescriptor> dependencies =
+                                    new LinkedHashMap<>();
+                            for (String dependency : repository.getDependencies()) {
+                                dependencies.put(
+                                        repositories.get(dependency),
+                                        releases.get(dependency).get());
+                            }
+                            release.complete(releaseRepository(repository, dependencies, results));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            release.completeExceptionally(e);
+                        } catch (ExecutionException e) {
+                            release.completeExceptionally(e.getCause());
+                        } catch (RuntimeException | Error e) {
+                            release.completeExceptionally(e);
+                        }
+                    }
+                });
+            }
+
+            Map<String, ReleaseResult> orderedResults = new LinkedHashMap<>();
+            for (ReleaseRepositoriesRequest.Repository repository : repositoriesRequest.getRepositories()) {
+                releases.get(repository.getId()).get();
+                orderedResults.put(repository.getId(), results.get(repository.getId()));
+            }
+            return orderedResults;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseFailureException("Interrupted while releasing the repositories");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReleaseFailureException) {
+                throw (ReleaseFailureException) cause;
+            }
+            if (cause instanceof ReleaseExecutionException) {
+                throw (ReleaseExecutionException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ReleaseExecutionException("Unable to release the repositories: " + cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReleaseDescriptor releaseRepository(
+            ReleaseRepositoriesRequest.Repository repository,
+            Map<ReleaseRepositoriesRequest.Repository, ReleaseDescriptor> dependencies,
+            Map<String, ReleaseResult> results) {
+        ReleasePrepareRequest prepareRequest = repository.getPrepareRequest();
+        ReleasePerformRequest performRequest = repository.getPerformRequest();
+
+        ReleaseResult result = new ReleaseResult();
+        result.setStartTime(System.currentTimeMillis());
+
+        try {
+            ReleaseDescriptorBuilder builder = prepareRequest.getReleaseDescriptorBuilder();
+
+            for (Map.Entry<ReleaseRepositoriesRequest.Repository, ReleaseDescriptor> dependency :
+                    dependencies.entrySet()) {
+                ReleaseDescriptor descriptor = dependency.getValue();
+                if (descriptor == null) {
+                    throw new ReleaseFailureException(
+                            "Repository '" + dependency.getKey().getId() + "' has not been released");
+                }
+
+                // released versions of the upstream reactor become the dependency versions of this one
+                for (MavenProject project :
+                        dependency.getKey().getPrepareRequest().getReactorProjects()) {
+                    String key = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
+                    if (descriptor.getProjectReleaseVersion(key) != null) {
+                        builder.addDependencyReleaseVersion(key, descriptor.getProjectReleaseVersion(key));
+                    }
+                    if (descriptor.getProjectDevelopmentVersion(key) != null) {
+                        builder.addDependencyDevelopmentVersion(key, descriptor.getProjectDevelopmentVersion(key));
+                    }
+                }
+            }
+
+            // nobody can answer prompts of concurrent releases
+            builder.setInteractive(false);
+
+            ReleaseDescriptor released = prepare(prepareRequest, result);
+
+            if (performRequest != null) {
+                performRequest.getReleaseDescriptorBuilder().setInteractive(false);
+
+                perform(performRequest, result);
+            }
+
+            result.setResultCode(ReleaseResult.SUCCESS);
+
+            return released;
+        } catch (ReleaseExecutionException | ReleaseFailureException e) {
+            captureException(result, prepareRequest.getReleaseManagerListener(), e);
+
+            return null;
+        } finally {
+            result.setEndTime(System.currentTimeMillis());
+
+            results.put(repository.getId(), result);
+        }
+    }
+
+    private static Map<String, ReleaseRepositoriesRequest.Repository> getRepositoriesById(
+            List<ReleaseRepositoriesRequest.Repository> repositories) throws ReleaseFailureException {
+        Map<String, ReleaseRepositoriesRequest.Repository> repositoriesById = new LinkedHashMap<>();
+        for (ReleaseRepositoriesRequest.Repository repository : repositories) {
+            if (repositoriesById.put(repository.getId(), repository) != null) {
+                throw new ReleaseFailureException("Duplicate repository '" + repository.getId() + "'");
+            }
+        }
+        for (ReleaseRepositoriesRequest.Repository repository : repositories) {
+            for (String dependency : repository.getDependencies()) {
+                if (!repositoriesById.containsKey(dependency)) {
+                    throw new ReleaseFailureException("Repository '" + repository.getId()
+                            + "' depends on unknown repository '" + dependency + "'");
+                }
+            }
+        }
+        return repositoriesById;
+    }
+
+    private static List<ReleaseRepositoriesRequest.Repository> sortRepositories(
+            Map<String, ReleaseRepositoriesRequest.Repository> repositories) throws ReleaseFailureException {
+        List<ReleaseRepositoriesRequest.Repository> sorted = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        for (ReleaseRepositoriesRequest.Repository repository : repositories.values()) {
+            sortRepositories(repository, repositories, new LinkedHashSet<String>(), visited, sorted);
+        }
+        return sorted;
+    }
+
+    private static void sortRepositories(
+            ReleaseRepositoriesRequest.Repository repository,
+            Map<String, ReleaseRepositoriesRequest.Repository> repositories,
+            Set<String> path,
+            Set<String> visited,
+            List<ReleaseRepositoriesRequest.Repository> sorted)
+            throws ReleaseFailureException {
+        if (visited.contains(repository.getId())) {
+            return;
+        }
+        if (!path.add(repository.getId())) {
+            throw new ReleaseFailureException(
+                    "Cycle in the repository dependencies: " + path + " -> " + repository.getId());
+        }
+        for (String dependency : repository.getDependencies()) {
+            sortRepositories(repositories.get(dependency), repositories, path, visited, sorted);
+        }
+        path.remove(repository.getId());
+        visited.add(repository.getId());
+        sorted.add(repository);
+    }
+
     @Override
     public void branch(ReleaseBranchRequest branchRequest) throws ReleaseExecutionException, ReleaseFailureException {
         final ReleaseDescriptorBuilder builder = branchRequest.getReleaseDescriptorBuilder();
@@ -371,6 +656,28 @@ public class DefaultReleaseManager implements ReleaseManager {
 
         goalStart(branchRequest.getReleaseManagerListener(), "branch", branchPhases);
 
+        boolean inMemory = dryRun && releaseDescriptor.isDryRunInMemory();
+        try {
+            runBranchPhases(branchRequest, releaseDescriptor, branchPhases, dryRun);
+
+            writePomDiffReport(releaseDescriptor, null);
+        } finally {
+            endPomSnapshots(releaseDescriptor, inMemory, null);
+        }
+
+        if (!dryRun) {
+            clean(branchRequest);
+        }
+
+        goalEnd(branchRequest.getReleaseManagerListener());
+    }
+
+    private void runBranchPhases(
+            ReleaseBranchRequest branchRequest,
+            ReleaseDescriptor releaseDescriptor,
+            List<String> branchPhases,
+            boolean dryRun)
+            throws ReleaseExecutionException, ReleaseFailureException {
         for (String name : branchPhases) {
             ReleasePhase phase = releasePhases.get(name);
 
@@ -391,12 +698,6 @@ public class DefaultReleaseManager implements ReleaseManager {
 
             phaseEnd(branchRequest.getReleaseManagerListener());
         }
-
-        if (!dryRun) {
-            clean(branchRequest);
-        }
-
-        goalEnd(branchRequest.getReleaseManagerListener());
     }
 
     @Override
@@ -466,14 +767,17 @@ public class DefaultReleaseManager implements ReleaseManager {
     }
 
     private BuilderReleaseDescriptor loadReleaseDescriptor(
-            ReleaseDescriptorBuilder builder, ReleaseManagerListener listener) throws ReleaseExecutionException {
+            ReleaseDescriptorBuilder builder, ReleaseManagerListener listener)
+            throws ReleaseExecutionException, ReleaseFailureException {
         return ReleaseUtils.buildReleaseDescriptor(loadReleaseDescriptorBuilder(builder, listener));
     }
 
     private ReleaseDescriptorBuilder loadReleaseDescriptorBuilder(
-            ReleaseDescriptorBuilder builder, ReleaseManagerListener listener) throws ReleaseExecutionException {
+            ReleaseDescriptorBuilder builder, ReleaseManagerListener listener)
+            throws ReleaseExecutionException, ReleaseFailureException {
         try {
-            return configStore.get().read(builder);
+            return getConfigStore(ReleaseUtils.buildReleaseDescriptor(builder).getReleaseDescriptorStoreId())
+                    .read(builder);
         } catch (ReleaseDescriptorStoreException e) {
             throw new ReleaseExecutionException("Error reading stored configuration: " + e.getMessage(), e);
         }
@@ -501,7 +805,7 @@ public class DefaultReleaseManager implements ReleaseManager {
         ReleaseDescriptor releaseDescriptor =
                 ReleaseUtils.buildReleaseDescriptor(cleanRequest.getReleaseDescriptorBuilder());
 
-        configStore.get().delete(releaseDescriptor);
+        getConfigStore(releaseDescriptor.getReleaseDescriptorStoreId()).delete(releaseDescriptor);
 
         Strategy releaseStrategy = getStrategy(releaseDescriptor.getReleaseStrategyId());
 
@@ -554,6 +858,21 @@ public class DefaultReleaseManager implements ReleaseManager {
         }
     }
 
+    private ReleaseDescriptorStore getConfigStore(String storeId) throws ReleaseFailureException {
+        if (isDefaultConfigStore(storeId)) {
+            return configStore.get();
+        }
+        ReleaseDescriptorStore store = configStores.get(storeId);
+        if (store == null) {
+            throw new ReleaseFailureException("Unknown release descriptor store: " + storeId);
+        }
+        return store;
+    }
+
+    private static boolean isDefaultConfigStore(String storeId) {
+        return storeId == null || DEFAULT_CONFIG_STORE_ID.equals(storeId);
+    }
+
     private Strategy getStrategy(String strategyId) throws ReleaseFailureException {
         Strategy strategy = strategies.get(strategyId);
         if (strategy == null) {
@@ -605,6 +924,14 @@ public class DefaultReleaseManager implements ReleaseManager {
         logger.info(message);
     }
 
+    private void logWarn(ReleaseResult result, String message) {
+        if (result != null) {
+            result.appendWarn(message);
+        }
+
+        logger.warn(message);
+    }
+
     private void captureException(ReleaseResult result, ReleaseManagerListener listener, Exception e) {
         if (listener != null) {
             listener.error(e.getMessage());
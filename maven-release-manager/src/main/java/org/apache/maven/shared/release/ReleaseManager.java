@@ -18,6 +18,8 @@
  */
 package org.apache.maven.shared.release;
 
+import java.util.Map;
+
 /**
  * Release management classes.
  *
@@ -99,4 +101,17 @@ public interface ReleaseManager {
      */
     void updateVersions(ReleaseUpdateVersionsRequest updateVersionsRequest)
             throws ReleaseExecutionException, ReleaseFailureException;
+
+    /**
+     * Prepare and perform the release of several repositories, concurrently where their dependencies allow it.
+     *
+     * @param repositoriesRequest all repositories and their release arguments
+     * @return the result of each repository, by repository id
+     * @throws org.apache.maven.shared.release.ReleaseExecutionException if the releases cannot be run
+     * @throws org.apache.maven.shared.release.ReleaseFailureException if the repositories or their dependencies are
+     *             invalid
+     * @since 3.0.2
+     */
+    Map<String, ReleaseResult> releaseRepositories(ReleaseRepositoriesRequest repositoriesRequest)
+            throws ReleaseExecutionException, ReleaseFailureException;
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>Request to release a set of repositories, each with its own reactor.</p>
+ *
+ * Repositories without a release dependency between them are released concurrently. A repository is only prepared
+ * once all the repositories it depends on have been performed, and the released and next development versions of
+ * their projects are then added as <code>dependency.*.release</code> and <code>dependency.*.development</code>
+ * mappings of its release.
+ *
+ * @since 3.0.2
+ */
+public class ReleaseRepositoriesRequest {
+    private final List<Repository> repositories = new ArrayList<>();
+
+    private int threads = 1;
+
+    /**
+     * <p>Adds a repository to release.</p>
+     *
+     * @param id             the id of the repository, unique in this request
+     * @param prepareRequest the prepare arguments of the repository
+     * @param performRequest the perform arguments of the repository, <code>null</code> to only prepare it
+     * @return the repository, to add its dependencies to
+     */
+    public Repository addRepository(
+            String id, ReleasePrepareRequest prepareRequest, ReleasePerformRequest performRequest) {
+        Repository repository = new Repository(id, prepareRequest, performRequest);
+        repositories.add(repository);
+        return repository;
+    }
+
+    /**
+     * <p>Getter for the field <code>repositories</code>.</p>
+     *
+     * @return the repositories, in the order they were added
+     */
+    public List<Repository> getRepositories() {
+        return Collections.unmodifiableList(repositories);
+    }
+
+    /**
+     * <p>Getter for the field <code>threads</code>.</p>
+     *
+     * @return the maximum number of repositories released at the same time
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * <p>Setter for the field <code>threads</code>.</p>
+     *
+     * @param threads the maximum number of repositories released at the same time
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * A repository of a {@link ReleaseRepositoriesRequest}.
+     */
+    public static class Repository {
+        private final String id;
+
+        private final ReleasePrepareRequest prepareRequest;
+
+        private final ReleasePerformRequest performRequest;
+
+        private final Set<String> dependencies = new LinkedHashSet<>();
+
+        Repository(String id, ReleasePrepareRequest prepareRequest, ReleasePerformRequest performRequest) {
+            this.id = requireNonNull(id);
+            this.prepareRequest = requireNonNull(prepareRequest);
+            this.performRequest = performRequest;
+        }
+
+        /**
+         * <p>Adds a repository which has to be released before this one.</p>
+         *
+         * @param repositoryId the id of the repository
+         * @return this repository
+         */
+        public Repository addDependency(String repositoryId) {
+            dependencies.add(requireNonNull(repositoryId));
+            return this;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public ReleasePrepareRequest getPrepareRequest() {
+            return prepareRequest;
+        }
+
+        public ReleasePerformRequest getPerformRequest() {
+            return performRequest;
+        }
+
+        public Set<String> getDependencies() {
+            return Collections.unmodifiableSet(dependencies);
+        }
+    }
+}
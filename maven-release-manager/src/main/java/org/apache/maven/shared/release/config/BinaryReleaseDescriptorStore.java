@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.maven.model.Scm;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+import org.apache.maven.shared.release.scm.IdentifiedScm;
+import org.apache.maven.shared.release.util.AtomicFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Read and write release configuration and state from a compact binary file.
+ * <p>
+ * The file is made for reactors with thousands of modules: every string is stored once in a string table and
+ * referenced by index, the SCM information of the projects is stored as shared records (most modules inherit the same
+ * SCM from their parent) and the projects are stored as fixed records instead of one property per version and SCM
+ * element, so reading is a single linear pass. The configuration itself uses the properties of the
+ * {@link PropertiesReleaseDescriptorStore}, including the encryption of the SCM credentials.
+ *
+ * @since 3.0.2
+ */
+@Singleton
+@Named("binary")
+public class BinaryReleaseDescriptorStore implements ReleaseDescriptorStore {
+    private static final int MAGIC = 0x4d52454c;
+
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Index of an absent string or SCM record.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Index of the SCM record of a project without SCM information.
+     */
+    private static final int EMPTY_SCM = -2;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final PropertiesReleaseDescriptorStore propertiesStore;
+
+    @Inject
+    public BinaryReleaseDescriptorStore(PropertiesReleaseDescriptorStore propertiesStore) {
+        this.propertiesStore = requireNonNull(propertiesStore);
+    }
+
+    @Override
+    public ReleaseDescriptorBuilder read(ReleaseDescriptorBuilder mergeDescriptor)
+            throws ReleaseDescriptorStoreException {
+        return read(mergeDescriptor, getDefaultReleaseStateFile(mergeDescriptor.build()));
+    }
+
+    /**
+     * <p>read.</p>
+     *
+     * @param mergeDescriptor a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @param file            a {@link java.io.File} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @throws org.apache.maven.shared.release.config.ReleaseDescriptorStoreException if any.
+     */
+    public ReleaseDescriptorBuilder read(ReleaseDescriptorBuilder mergeDescriptor, File file)
+            throws ReleaseDescriptorStoreException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (NoSuchFileException e) {
+            logger.debug(file.getName() + " not found - using empty properties");
+            return propertiesStore.read(mergeDescriptor, new Properties());
+        } catch (IOException e) {
+            throw new ReleaseDescriptorStoreException(
+                    "Error reading release state file '" + file.getName() + "': " + e.getMessage(), e);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a release state file");
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("unsupported format version " + version);
+            }
+
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = Utf8Strings.read(in);
+            }
+
+            Properties properties = new Properties();
+            for (int i = in.readInt(); i > 0; i--) {
+                properties.setProperty(strings[in.readInt()], strings[in.readInt()]);
+            }
+            ReleaseDescriptorBuilder builder = propertiesStore.read(mergeDescriptor, properties);
+
+            // the records are shared by all projects with the same SCM, which only ever read them
+            Scm[] scms = new Scm[in.readInt()];
+            for (int i = 0; i < scms.length; i++) {
+                IdentifiedScm scm = new IdentifiedScm();
+                scm.setConnection(readString(in, strings));
+                scm.setDeveloperConnection(readString(in, strings));
+                scm.setUrl(readString(in, strings));
+                scm.setTag(readString(in, strings));
+                scm.setId(readString(in, strings));
+                scms[i] = scm;
+            }
+
+            for (int i = in.readInt(); i > 0; i--) {
+                String key = strings[in.readInt()];
+                String release = readString(in, strings);
+                String development = readString(in, strings);
+                int scm = in.readInt();
+                if (release != null) {
+                    builder.addReleaseVersion(key, release);
+                }
+                if (development != null) {
+                    builder.addDevelopmentVersion(key, development);
+                }
+                if (scm == EMPTY_SCM) {
+                    builder.addOriginalScmInfo(key, null);
+                } else if (scm != NONE) {
+                    builder.addOriginalScmInfo(key, scms[scm]);
+                }
+            }
+
+            for (int i = in.readInt(); i > 0; i--) {
+                String key = strings[in.readInt()];
+                String release = readString(in, strings);
+                String development = readString(in, strings);
+                if (release != null) {
+                    builder.addDependencyReleaseVersion(key, release);
+                }
+                if (development != null) {
+                    builder.addDependencyDevelopmentVersion(key, development);
+                }
+            }
+
+            return builder;
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new ReleaseDescriptorStoreException(
+                    "Error reading release state file '" + file.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void write(ReleaseDescriptor config) throws ReleaseDescriptorStoreException {
+        write((BuilderReleaseDescriptor) config, getDefaultReleaseStateFile(config));
+    }
+
+    /**
+     * <p>write.</p>
+     *
+     * @param config a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor}
+     *               object
+     * @param file   a {@link java.io.File} object
+     * @throws org.apache.maven.shared.release.config.ReleaseDescriptorStoreException if any.
+     */
+    public void write(BuilderReleaseDescriptor config, File file) throws ReleaseDescriptorStoreException {
+        Properties properties = propertiesStore.toConfigurationProperties(config);
+        propertiesStore.encryptProperties(properties);
+
+        File tmp = AtomicFiles.getTemporaryFile(file);
+        try {
+            StringTable strings = new StringTable();
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(records)) {
+                writeRecords(out, strings, properties, config);
+            }
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(strings.values.size());
+                for (String value : strings.values) {
+                    Utf8Strings.write(out, value);
+                }
+                records.writeTo(out);
+            }
+            AtomicFiles.commit(tmp, file);
+        } catch (IOException e) {
+            throw new ReleaseDescriptorStoreException(
+                    "Error writing release state file '" + file.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(ReleaseDescriptor config) {
+        File file = getDefaultReleaseStateFile(config);
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+
+    private static void writeRecords(
+            DataOutputStream out, StringTable strings, Properties properties, BuilderReleaseDescriptor config)
+            throws IOException {
+        out.writeInt(properties.size());
+        for (String name : properties.stringPropertyNames()) {
+            out.writeInt(strings.indexOf(name));
+            out.writeInt(strings.indexOf(properties.getProperty(name)));
+        }
+
+        Map<String, ReleaseStageVersions> projectVersions = config.getProjectVersions();
+        Map<String, Scm> originalScmInfo = config.getOriginalScmInfo();
+
+        Map<List<String>, Integer> scmIndexes = new HashMap<>();
+        List<List<String>> scms = new ArrayList<>();
+        Map<String, Integer> projectScms = new HashMap<>();
+        for (Map.Entry<String, Scm> entry : originalScmInfo.entrySet()) {
+            Scm scm = entry.getValue();
+            if (scm == null) {
+                projectScms.put(entry.getKey(), EMPTY_SCM);
+                continue;
+            }
+            List<String> record = new ArrayList<>(5);
+            record.add(scm.getConnection());
+            record.add(scm.getDeveloperConnection());
+            record.add(scm.getUrl());
+            record.add(scm.getTag());
+            record.add(scm instanceof IdentifiedScm ? ((IdentifiedScm) scm).getId() : null);
+
+            Integer index = scmIndexes.get(record);
+            if (index == null) {
+                index = scms.size();
+                scmIndexes.put(record, index);
+                scms.add(record);
+            }
+            projectScms.put(entry.getKey(), index);
+        }
+
+        out.writeInt(scms.size());
+        for (List<String> record : scms) {
+            for (String value : record) {
+                out.writeInt(strings.indexOfNullable(value));
+            }
+        }
+
+        Set<String> projects = new LinkedHashSet<>(projectVersions.keySet());
+        projects.addAll(originalScmInfo.keySet());
+        out.writeInt(projects.size());
+        for (String key : projects) {
+            ReleaseStageVersions versions = projectVersions.get(key);
+            Integer scm = projectScms.get(key);
+            out.writeInt(strings.indexOf(key));
+            out.writeInt(strings.indexOfNullable(versions != null ? versions.getRelease() : null));
+            out.writeInt(strings.indexOfNullable(versions != null ? versions.getDevelopment() : null));
+            out.writeInt(scm != null ? scm : NONE);
+        }
+
+        Map<String, ReleaseStageVersions> dependencies = config.getResolvedSnapshotDependencies();
+        out.writeInt(dependencies.size());
+        for (Map.Entry<String, ReleaseStageVersions> entry : dependencies.entrySet()) {
+            out.writeInt(strings.indexOf(entry.getKey()));
+            out.writeInt(strings.indexOfNullable(entry.getValue().getRelease()));
+            out.writeInt(strings.indexOfNullable(entry.getValue().getDevelopment()));
+        }
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        int index = in.readInt();
+        return index != NONE ? strings[index] : null;
+    }
+
+    private static File getDefaultReleaseStateFile(ReleaseDescriptor mergeDescriptor) {
+        return new File(mergeDescriptor.getWorkingDirectory(), "release.state");
+    }
+
+    /**
+     * The deduplicated strings of a file, in order of first use.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        private final List<String> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                indexes.put(value, index);
+                values.add(value);
+            }
+            return index;
+        }
+
+        int indexOfNullable(String value) {
+            return value != null ? indexOf(value) : NONE;
+        }
+    }
+}
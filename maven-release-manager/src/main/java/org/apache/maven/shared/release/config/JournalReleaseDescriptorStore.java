@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+import org.apache.maven.shared.release.util.AtomicFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Read and write release configuration and state from an append-only journal.
+ * <p>
+ * Each write only appends the properties which changed since the previous write, as a checksummed record which is
+ * forced to disk before the write returns. A record torn by a crash fails its checksum and is ignored, so the state
+ * read back is always the one of the last completed write. Reading compacts the journal into a single snapshot
+ * record. The properties are the ones of the {@link PropertiesReleaseDescriptorStore}, including the encryption of
+ * the SCM credentials, which are only encrypted again when they changed.
+ *
+ * @since 3.0.2
+ */
+@Singleton
+@Named("journal")
+public class JournalReleaseDescriptorStore implements ReleaseDescriptorStore {
+    private static final int HEADER_LENGTH = 4 + 8;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final PropertiesReleaseDescriptorStore propertiesStore;
+
+    /**
+     * The state of each journal as last read or written, with SCM credentials in plain text. The store may outlive a
+     * build, in a long-lived build JVM, so a state is only trusted while the journal file is unchanged.
+     */
+    private final Map<File, JournalState> states = new ConcurrentHashMap<>();
+
+    @Inject
+    public JournalReleaseDescriptorStore(PropertiesReleaseDescriptorStore propertiesStore) {
+        this.propertiesStore = requireNonNull(propertiesStore);
+    }
+
+    @Override
+    public ReleaseDescriptorBuilder read(ReleaseDescriptorBuilder mergeDescriptor)
+            throws ReleaseDescriptorStoreException {
+        return read(mergeDescriptor, getDefaultReleaseJournalFile(mergeDescriptor.build()));
+    }
+
+    /**
+     * <p>read.</p>
+     *
+     * @param mergeDescriptor a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @param file            a {@link java.io.File} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @throws org.apache.maven.shared.release.config.ReleaseDescriptorStoreException if any.
+     */
+    public synchronized ReleaseDescriptorBuilder read(ReleaseDescriptorBuilder mergeDescriptor, File file)
+            throws ReleaseDescriptorStoreException {
+        Replay replay = replay(file);
+
+        if (replay.records > 1 || replay.length < replay.fileLength) {
+            writeSnapshot(file, replay.properties);
+        }
+
+        Properties properties = new Properties();
+        properties.putAll(replay.properties);
+
+        ReleaseDescriptorBuilder builder = propertiesStore.read(mergeDescriptor, properties);
+
+        // decrypted by the properties store
+        states.put(file.getAbsoluteFile(), new JournalState(properties, file));
+
+        return builder;
+    }
+
+    @Override
+    public void write(ReleaseDescriptor config) throws ReleaseDescriptorStoreException {
+        write((BuilderReleaseDescriptor) config, getDefaultReleaseJournalFile(config));
+    }
+
+    /**
+     * <p>write.</p>
+     *
+     * @param config a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor}
+     *               object
+     * @param file   a {@link java.io.File} object
+     * @throws org.apache.maven.shared.release.config.ReleaseDescriptorStoreException if any.
+     */
+    public synchronized void write(BuilderReleaseDescriptor config, File file) throws ReleaseDescriptorStoreException {
+        File key = file.getAbsoluteFile();
+
+        JournalState state = states.get(key);
+        Properties previous = state != null && state.isCurrent(file) ? state.properties : null;
+        if (previous == null) {
+            Replay replay = replay(file);
+            if (replay.length < replay.fileLength) {
+                // never append behind a record torn by a crash
+                writeSnapshot(file, replay.properties);
+            }
+            previous = new Properties();
+            previous.putAll(replay.properties);
+            propertiesStore.read(null, previous);
+        }
+
+        Properties current = propertiesStore.toProperties(config);
+
+        Properties changed = new Properties();
+        for (String name : current.stringPropertyNames()) {
+            String value = current.getProperty(name);
+            if (!value.equals(previous.getProperty(name))) {
+                changed.setProperty(name, value);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String name : previous.stringPropertyNames()) {
+            if (current.getProperty(name) == null) {
+                removed.add(name);
+            }
+        }
+
+        if (!changed.isEmpty() || !removed.isEmpty() || !file.exists()) {
+            propertiesStore.encryptProperties(changed);
+
+            try (FileChannel channel = FileChannel.open(
+                    file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                write(channel, encodeRecord(changed, removed));
+                channel.force(true);
+            } catch (IOException e) {
+                throw new ReleaseDescriptorStoreException(
+                        "Error writing journal file '" + file.getName() + "': " + e.getMessage(), e);
+            }
+        }
+
+        states.put(key, new JournalState(current, file));
+    }
+
+    @Override
+    public synchronized void delete(ReleaseDescriptor config) {
+        File file = getDefaultReleaseJournalFile(config);
+        states.remove(file.getAbsoluteFile());
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+
+    private void writeSnapshot(File file, Properties properties) throws ReleaseDescriptorStoreException {
+        File tmp = AtomicFiles.getTemporaryFile(file);
+        try {
+            try (FileChannel channel = FileChannel.open(
+                    tmp.toPath(),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(channel, encodeRecord(properties, new ArrayList<String>()));
+                channel.force(true);
+            }
+            AtomicFiles.commit(tmp, file);
+        } catch (IOException e) {
+            throw new ReleaseDescriptorStoreException(
+                    "Error compacting journal file '" + file.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    private Replay replay(File file) throws ReleaseDescriptorStoreException {
+        Replay replay = new Replay();
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (NoSuchFileException e) {
+            logger.debug(file.getName() + " not found - using empty properties");
+            return replay;
+        } catch (IOException e) {
+            throw new ReleaseDescriptorStoreException(
+                    "Error reading journal file '" + file.getName() + "': " + e.getMessage(), e);
+        }
+        replay.fileLength = content.length;
+
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.remaining() >= HEADER_LENGTH) {
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(content, buffer.position(), length);
+            if (crc.getValue() != checksum) {
+                break;
+            }
+
+            try (DataInputStream in =
+                    new DataInputStream(new ByteArrayInputStream(content, buffer.position(), length))) {
+                for (int i = in.readInt(); i > 0; i--) {
+                    replay.properties.setProperty(Utf8Strings.read(in), Utf8Strings.read(in));
+                }
+                for (int i = in.readInt(); i > 0; i--) {
+                    replay.properties.remove(Utf8Strings.read(in));
+                }
+            } catch (IOException e) {
+                throw new ReleaseDescriptorStoreException(
+                        "Error reading journal file '" + file.getName() + "': " + e.getMessage(), e);
+            }
+
+            buffer.position(buffer.position() + length);
+            replay.records++;
+            replay.length = buffer.position();
+        }
+
+        if (replay.length < replay.fileLength) {
+            logger.warn("Ignoring incomplete last record of " + file.getName());
+        }
+
+        return replay;
+    }
+
+    private static ByteBuffer encodeRecord(Properties changed, List<String> removed) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            out.writeInt(changed.size());
+            for (String name : changed.stringPropertyNames()) {
+                Utf8Strings.write(out, name);
+                Utf8Strings.write(out, changed.getProperty(name));
+            }
+            out.writeInt(removed.size());
+            for (String name : removed) {
+                Utf8Strings.write(out, name);
+            }
+        }
+        byte[] bytes = payload.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_LENGTH + bytes.length);
+        record.putInt(bytes.length);
+        record.putLong(crc.getValue());
+        record.put(bytes);
+        record.flip();
+        return record;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static File getDefaultReleaseJournalFile(ReleaseDescriptor mergeDescriptor) {
+        return new File(mergeDescriptor.getWorkingDirectory(), "release.journal");
+    }
+
+    /**
+     * The properties of a journal, and the journal file they correspond to.
+     */
+    private static final class JournalState {
+        private final Properties properties;
+
+        private final long length;
+
+        private final long lastModified;
+
+        JournalState(Properties properties, File file) {
+            this.properties = properties;
+            this.length = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        /**
+         * @return whether the file was not changed by someone else since
+         */
+        boolean isCurrent(File file) {
+            return file.length() == length && file.lastModified() == lastModified;
+        }
+    }
+
+    private static final class Replay {
+        private final Properties properties = new Properties();
+
+        private int records;
+
+        private long length;
+
+        private long fileLength;
+    }
+}
@@ -35,6 +35,7 @@ import java.util.Properties;
 import org.apache.maven.model.Scm;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
 import org.apache.maven.shared.release.scm.IdentifiedScm;
+import org.apache.maven.shared.release.util.AtomicFiles;
 import org.apache.maven.shared.release.util.MavenCrypto;
 import org.apache.maven.shared.release.util.MavenCrypto.MavenCryptoException;
 import org.codehaus.plexus.util.StringUtils;
@@ -51,6 +52,11 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 @Named("properties")
 public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore {
+    /**
+     * The properties holding SCM credentials, stored encrypted.
+     */
+    static final String[] SECURED_PROPERTIES = {"scm.password", "scm.passphrase"};
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final MavenCrypto mavenCrypto;
@@ -98,6 +104,18 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
                     "Error reading properties file '" + file.getName() + "': " + e.getMessage(), e);
         }
 
+        return read(mergeDescriptor, properties);
+    }
+
+    /**
+     * Decrypts the properties and copies them to the configuration.
+     *
+     * @param mergeDescriptor configuration to merge with the loaded configuration, may be <code>null</code>
+     * @param properties      the properties as written by {@link #toProperties(BuilderReleaseDescriptor)}, with
+     *                        encrypted SCM credentials
+     * @return the configuration
+     */
+    ReleaseDescriptorBuilder read(ReleaseDescriptorBuilder mergeDescriptor, Properties properties) {
         try {
             mavenCrypto.decryptProperties(properties);
         } catch (MavenCryptoException e) {
@@ -138,6 +156,103 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
      * @throws org.apache.maven.shared.release.config.ReleaseDescriptorStoreException if any.
      */
     public void write(BuilderReleaseDescriptor config, File file) throws ReleaseDescriptorStoreException {
+        Properties properties = toProperties(config);
+        encryptProperties(properties);
+
+        File tmp = AtomicFiles.getTemporaryFile(file);
+        try {
+            try (OutputStream outStream = new FileOutputStream(tmp)) {
+                properties.store(outStream, "release configuration");
+            }
+            AtomicFiles.commit(tmp, file);
+        } catch (IOException e) {
+            throw new ReleaseDescriptorStoreException(
+                    "Error writing properties file '" + file.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encrypts the SCM credentials of properties created by {@link #toProperties(BuilderReleaseDescriptor)}.
+     *
+     * @param properties the properties
+     */
+    void encryptProperties(Properties properties) {
+        for (String key : SECURED_PROPERTIES) {
+            String value = properties.getProperty(key);
+            if (value != null) {
+                try {
+                    properties.setProperty(key, mavenCrypto.encryptAndDecorate(value));
+                } catch (MavenCryptoException e) {
+                    logger.debug(e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts the configuration to properties, with the SCM credentials still in plain text.
+     *
+     * @param config the configuration
+     * @return the properties
+     */
+    Properties toProperties(BuilderReleaseDescriptor config) {
+        Properties properties = toConfigurationProperties(config);
+
+        for (Map.Entry<String, ReleaseStageVersions> entry :
+                config.getProjectVersions().entrySet()) {
+            if (entry.getValue().getRelease() != null) {
+                properties.setProperty(
+                        "project.rel." + entry.getKey(), entry.getValue().getRelease());
+            }
+            if (entry.getValue().getDevelopment() != null) {
+                properties.setProperty(
+                        "project.dev." + entry.getKey(), entry.getValue().getDevelopment());
+            }
+        }
+
+        for (Map.Entry<String, Scm> entry : config.getOriginalScmInfo().entrySet()) {
+            Scm scm = entry.getValue();
+            String prefix = "project.scm." + entry.getKey();
+            if (scm != null) {
+                if (scm.getConnection() != null) {
+                    properties.setProperty(prefix + ".connection", scm.getConnection());
+                }
+                if (scm.getDeveloperConnection() != null) {
+                    properties.setProperty(prefix + ".developerConnection", scm.getDeveloperConnection());
+                }
+                if (scm.getUrl() != null) {
+                    properties.setProperty(prefix + ".url", scm.getUrl());
+                }
+                if (scm.getTag() != null) {
+                    properties.setProperty(prefix + ".tag", scm.getTag());
+                }
+                if (scm instanceof IdentifiedScm) {
+                    IdentifiedScm identifiedScm = (IdentifiedScm) scm;
+                    if (identifiedScm.getId() != null) {
+                        properties.setProperty(prefix + ".id", identifiedScm.getId());
+                    }
+                }
+            } else {
+                properties.setProperty(prefix + ".empty", "true");
+            }
+        }
+
+        if ((config.getResolvedSnapshotDependencies() != null)
+                && (config.getResolvedSnapshotDependencies().size() > 0)) {
+            processResolvedDependencies(properties, config.getResolvedSnapshotDependencies());
+        }
+
+        return properties;
+    }
+
+    /**
+     * Converts the configuration to properties, without the versions and SCM information of the projects and
+     * dependencies. The SCM credentials are still in plain text.
+     *
+     * @param config the configuration
+     * @return the properties
+     */
+    Properties toConfigurationProperties(BuilderReleaseDescriptor config) {
         Properties properties = new Properties();
         properties.setProperty("completedPhase", config.getCompletedPhase());
         if (config.isCommitByProject()) // default is false
@@ -152,25 +267,13 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
             properties.setProperty("scm.username", config.getScmUsername());
         }
         if (config.getScmPassword() != null) {
-            String password = config.getScmPassword();
-            try {
-                password = mavenCrypto.encryptAndDecorate(password);
-            } catch (MavenCryptoException e) {
-                logger.debug(e.getMessage());
-            }
-            properties.setProperty("scm.password", password);
+            properties.setProperty("scm.password", config.getScmPassword());
         }
         if (config.getScmPrivateKey() != null) {
             properties.setProperty("scm.privateKey", config.getScmPrivateKey());
         }
         if (config.getScmPrivateKeyPassPhrase() != null) {
-            String passPhrase = config.getScmPrivateKeyPassPhrase();
-            try {
-                passPhrase = mavenCrypto.encryptAndDecorate(passPhrase);
-            } catch (MavenCryptoException e) {
-                logger.debug(e.getMessage());
-            }
-            properties.setProperty("scm.passphrase", passPhrase);
+            properties.setProperty("scm.passphrase", config.getScmPrivateKeyPassPhrase());
         }
         if (config.getScmTagBase() != null) {
             properties.setProperty("scm.tagBase", config.getScmTagBase());
@@ -199,6 +302,12 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
         if (config.getScmRollbackCommitComment() != null) {
             properties.setProperty("scm.rollbackCommitComment", config.getScmRollbackCommitComment());
         }
+        if (config.getScmQueryCacheDirectory() != null) {
+            properties.setProperty("scm.queryCacheDirectory", config.getScmQueryCacheDirectory());
+        }
+        if (config.getPomDiffReport() != null) {
+            properties.setProperty("pomDiffReport", config.getPomDiffReport());
+        }
         if (config.getAdditionalArguments() != null) {
             properties.setProperty("exec.additionalArguments", config.getAdditionalArguments());
         }
@@ -251,56 +360,7 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
         // others boolean properties are not written to the properties file because the value from the caller is always
         // used
 
-        for (Map.Entry<String, ReleaseStageVersions> entry :
-                config.getProjectVersions().entrySet()) {
-            if (entry.getValue().getRelease() != null) {
-                properties.setProperty(
-                        "project.rel." + entry.getKey(), entry.getValue().getRelease());
-            }
-            if (entry.getValue().getDevelopment() != null) {
-                properties.setProperty(
-                        "project.dev." + entry.getKey(), entry.getValue().getDevelopment());
-            }
-        }
-
-        for (Map.Entry<String, Scm> entry : config.getOriginalScmInfo().entrySet()) {
-            Scm scm = entry.getValue();
-            String prefix = "project.scm." + entry.getKey();
-            if (scm != null) {
-                if (scm.getConnection() != null) {
-                    properties.setProperty(prefix + ".connection", scm.getConnection());
-                }
-                if (scm.getDeveloperConnection() != null) {
-                    properties.setProperty(prefix + ".developerConnection", scm.getDeveloperConnection());
-                }
-                if (scm.getUrl() != null) {
-                    properties.setProperty(prefix + ".url", scm.getUrl());
-                }
-                if (scm.getTag() != null) {
-                    properties.setProperty(prefix + ".tag", scm.getTag());
-                }
-                if (scm instanceof IdentifiedScm) {
-                    IdentifiedScm identifiedScm = (IdentifiedScm) scm;
-                    if (identifiedScm.getId() != null) {
-                        properties.setProperty(prefix + ".id", identifiedScm.getId());
-                    }
-                }
-            } else {
-                properties.setProperty(prefix + ".empty", "true");
-            }
-        }
-
-        if ((config.getResolvedSnapshotDependencies() != null)
-                && (config.getResolvedSnapshotDependencies().size() > 0)) {
-            processResolvedDependencies(properties, config.getResolvedSnapshotDependencies());
-        }
-
-        try (OutputStream outStream = new FileOutputStream(file)) {
-            properties.store(outStream, "release configuration");
-        } catch (IOException e) {
-            throw new ReleaseDescriptorStoreException(
-                    "Error writing properties file '" + file.getName() + "': " + e.getMessage(), e);
-        }
+        return properties;
     }
 
     private void processResolvedDependencies(Properties prop, Map<String, ReleaseStageVersions> resolvedDependencies) {
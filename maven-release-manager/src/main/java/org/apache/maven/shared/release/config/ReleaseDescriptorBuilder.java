@@ -165,6 +165,17 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setCheckModificationReactorOnly.</p>
+     *
+     * @param checkModificationReactorOnly a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     */
+    public ReleaseDescriptorBuilder setCheckModificationReactorOnly(boolean checkModificationReactorOnly) {
+        releaseDescriptor.setCheckModificationReactorOnly(checkModificationReactorOnly);
+        return this;
+    }
+
     /**
      * <p>setCheckoutDirectory.</p>
      *
@@ -396,6 +407,125 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setContentAddressedPomBackups.</p>
+     *
+     * @param contentAddressedPomBackups a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setContentAddressedPomBackups(boolean contentAddressedPomBackups) {
+        releaseDescriptor.setContentAddressedPomBackups(contentAddressedPomBackups);
+        return this;
+    }
+
+    /**
+     * <p>setDryRunInMemory.</p>
+     *
+     * @param dryRunInMemory a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setDryRunInMemory(boolean dryRunInMemory) {
+        releaseDescriptor.setDryRunInMemory(dryRunInMemory);
+        return this;
+    }
+
+    /**
+     * <p>setReviewVersions.</p>
+     *
+     * @param reviewVersions a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setReviewVersions(boolean reviewVersions) {
+        releaseDescriptor.setReviewVersions(reviewVersions);
+        return this;
+    }
+
+    /**
+     * <p>setReuseVerification.</p>
+     *
+     * @param reuseVerification a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setReuseVerification(boolean reuseVerification) {
+        releaseDescriptor.setReuseVerification(reuseVerification);
+        return this;
+    }
+
+    /**
+     * <p>setPreparationGoalsVerified.</p>
+     *
+     * @param preparationGoalsVerified a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setPreparationGoalsVerified(boolean preparationGoalsVerified) {
+        releaseDescriptor.setPreparationGoalsVerified(preparationGoalsVerified);
+        return this;
+    }
+
+    /**
+     * <p>setThreads.</p>
+     *
+     * @param threads a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setThreads(String threads) {
+        releaseDescriptor.setThreads(threads);
+        return this;
+    }
+
+    /**
+     * <p>setPreparationThreads.</p>
+     *
+     * @param preparationThreads a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setPreparationThreads(String preparationThreads) {
+        releaseDescriptor.setPreparationThreads(preparationThreads);
+        return this;
+    }
+
+    /**
+     * <p>setPerformThreads.</p>
+     *
+     * @param performThreads a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setPerformThreads(String performThreads) {
+        releaseDescriptor.setPerformThreads(performThreads);
+        return this;
+    }
+
+    /**
+     * <p>setPomDiffReport.</p>
+     *
+     * @param pomDiffReport a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setPomDiffReport(String pomDiffReport) {
+        releaseDescriptor.setPomDiffReport(pomDiffReport);
+        return this;
+    }
+
+    /**
+     * <p>setScmQueryCacheDirectory.</p>
+     *
+     * @param scmQueryCacheDirectory a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     */
+    public ReleaseDescriptorBuilder setScmQueryCacheDirectory(String scmQueryCacheDirectory) {
+        releaseDescriptor.setScmQueryCacheDirectory(scmQueryCacheDirectory);
+        return this;
+    }
+
     /**
      * <p>setReleaseStrategyId.</p>
      *
@@ -407,6 +537,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setReleaseDescriptorStoreId.</p>
+     *
+     * @param releaseDescriptorStoreId a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.0.2
+     */
+    public ReleaseDescriptorBuilder setReleaseDescriptorStoreId(String releaseDescriptorStoreId) {
+        releaseDescriptor.setReleaseDescriptorStoreId(releaseDescriptorStoreId);
+        return this;
+    }
+
     /**
      * <p>setRemoteTagging.</p>
      *
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.model.Scm;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+import org.apache.maven.shared.release.scm.IdentifiedScm;
+
+/**
+ * Converts a complete release descriptor to properties and back, to hand it to another process.
+ * <p>
+ * Unlike the {@link PropertiesReleaseDescriptorStore}, which only stores the state a later goal needs, every
+ * property of the descriptor is converted, including the original versions of the projects, and the SCM
+ * credentials are kept in plain text. The properties must therefore never be written to disk.
+ *
+ * @since 3.0.2
+ */
+public final class ReleaseDescriptorProperties {
+    private static final String PROJECT_VERSIONS = "projectVersions.";
+
+    private static final String DEPENDENCY_VERSIONS = "resolvedSnapshotDependencies.";
+
+    private static final String ORIGINAL_SCM = "originalScmInfo.";
+
+    private static final PropertyDescriptor[] PROPERTIES = getProperties();
+
+    private ReleaseDescriptorProperties() {
+        // noop
+    }
+
+    /**
+     * Converts the release descriptor of the builder to properties.
+     *
+     * @param builder the builder of the release descriptor
+     * @return the properties
+     */
+    public static Properties toProperties(ReleaseDescriptorBuilder builder) {
+        BuilderReleaseDescriptor config = builder.build();
+        Properties properties = new Properties();
+
+        for (PropertyDescriptor property : PROPERTIES) {
+            Object value = invoke(property.getReadMethod(), config);
+            if (value instanceof List) {
+                List<?> values = (List<?>) value;
+                properties.setProperty(property.getName(), String.valueOf(values.size()));
+                for (int i = 0; i < values.size(); i++) {
+                    properties.setProperty(property.getName() + "." + i, String.valueOf(values.get(i)));
+                }
+            } else if (value != null) {
+                properties.setProperty(property.getName(), String.valueOf(value));
+            }
+        }
+
+        writeVersions(properties, PROJECT_VERSIONS, config.getProjectVersions());
+        writeVersions(properties, DEPENDENCY_VERSIONS, config.getResolvedSnapshotDependencies());
+
+        for (Map.Entry<String, Scm> entry : config.getOriginalScmInfo().entrySet()) {
+            String prefix = ORIGINAL_SCM + entry.getKey();
+            Scm scm = entry.getValue();
+            if (scm == null) {
+                properties.setProperty(prefix + ".empty", "true");
+                continue;
+            }
+            setIfNotNull(properties, prefix + ".connection", scm.getConnection());
+            setIfNotNull(properties, prefix + ".developerConnection", scm.getDeveloperConnection());
+            setIfNotNull(properties, prefix + ".url", scm.getUrl());
+            setIfNotNull(properties, prefix + ".tag", scm.getTag());
+            if (scm instanceof IdentifiedScm) {
+                setIfNotNull(properties, prefix + ".id", ((IdentifiedScm) scm).getId());
+            }
+        }
+
+        return properties;
+    }
+
+    /**
+     * Creates a builder with the release descriptor converted by {@link #toProperties(ReleaseDescriptorBuilder)}.
+     *
+     * @param properties the properties
+     * @return the builder
+     */
+    public static ReleaseDescriptorBuilder toBuilder(Properties properties) {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        BuilderReleaseDescriptor config = builder.build();
+
+        for (PropertyDescriptor property : PROPERTIES) {
+            String value = properties.getProperty(property.getName());
+            Class<?> type = property.getPropertyType();
+            Object converted;
+            if (type == boolean.class) {
+                converted = Boolean.valueOf(value);
+            } else if (type == int.class) {
+                converted = Integer.valueOf(value);
+            } else if (type == List.class) {
+                List<String> values = new ArrayList<>();
+                for (int i = 0; i < Integer.parseInt(value); i++) {
+                    values.add(properties.getProperty(property.getName() + "." + i));
+                }
+                converted = values;
+            } else {
+                converted = value;
+            }
+            invoke(property.getWriteMethod(), config, converted);
+        }
+
+        for (String name : properties.stringPropertyNames()) {
+            String value = properties.getProperty(name);
+            if (name.startsWith(PROJECT_VERSIONS)) {
+                String key = getKey(name, PROJECT_VERSIONS);
+                switch (getField(name)) {
+                    case "original":
+                        config.addOriginalVersion(key, value);
+                        break;
+                    case "release":
+                        config.addReleaseVersion(key, value);
+                        break;
+                    default:
+                        config.addDevelopmentVersion(key, value);
+                }
+            } else if (name.startsWith(DEPENDENCY_VERSIONS)) {
+                String key = getKey(name, DEPENDENCY_VERSIONS);
+                switch (getField(name)) {
+                    case "original":
+                        config.addDependencyOriginalVersion(key, value);
+                        break;
+                    case "release":
+                        config.addDependencyReleaseVersion(key, value);
+                        break;
+                    default:
+                        config.addDependencyDevelopmentVersion(key, value);
+                }
+            } else if (name.startsWith(ORIGINAL_SCM)) {
+                readScm(config, getKey(name, ORIGINAL_SCM), getField(name), value);
+            }
+        }
+
+        return builder;
+    }
+
+    private static void readScm(BuilderReleaseDescriptor config, String key, String field, String value) {
+        if ("empty".equals(field)) {
+            config.addOriginalScmInfo(key, null);
+            return;
+        }
+        IdentifiedScm scm = (IdentifiedScm) config.getOriginalScmInfo().get(key);
+        if (scm == null) {
+            scm = new IdentifiedScm();
+            config.addOriginalScmInfo(key, scm);
+        }
+        switch (field) {
+            case "connection":
+                scm.setConnection(value);
+                break;
+            case "developerConnection":
+                scm.setDeveloperConnection(value);
+                break;
+            case "url":
+                scm.setUrl(value);
+                break;
+            case "tag":
+                scm.setTag(value);
+                break;
+            default:
+                scm.setId(value);
+        }
+    }
+
+    private static void writeVersions(
+            Properties properties, String prefix, Map<String, ReleaseStageVersions> versions) {
+        for (Map.Entry<String, ReleaseStageVersions> entry : versions.entrySet()) {
+            String key = prefix + entry.getKey();
+            setIfNotNull(properties, key + ".original", entry.getValue().getOriginal());
+            setIfNotNull(properties, key + ".release", entry.getValue().getRelease());
+            setIfNotNull(properties, key + ".development", entry.getValue().getDevelopment());
+        }
+    }
+
+    private static void setIfNotNull(Properties properties, String name, String value) {
+        if (value != null) {
+            properties.setProperty(name, value);
+        }
+    }
+
+    private static String getKey(String name, String prefix) {
+        return name.substring(prefix.length(), name.lastIndexOf('.'));
+    }
+
+    private static String getField(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static Object invoke(Method method, Object target, Object... arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot access release descriptor property " + method.getName(), e);
+        }
+    }
+
+    private static PropertyDescriptor[] getProperties() {
+        List<PropertyDescriptor> properties = new ArrayList<>();
+        try {
+            for (PropertyDescriptor property : Introspector.getBeanInfo(ModelloReleaseDescriptor.class, Object.class)
+                    .getPropertyDescriptors()) {
+                if (property.getReadMethod() != null && property.getWriteMethod() != null) {
+                    properties.add(property);
+                }
+            }
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("Cannot inspect the release descriptor", e);
+        }
+        return properties.toArray(new PropertyDescriptor[0]);
+    }
+}
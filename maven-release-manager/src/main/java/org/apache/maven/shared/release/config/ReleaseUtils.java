@@ -19,10 +19,10 @@
 package org.apache.maven.shared.release.config;
 
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
-import java.util.Set;
 
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
 import org.apache.maven.shared.release.scm.IdentifiedScm;
@@ -37,6 +37,23 @@ public class ReleaseUtils {
 
     private static final String RELEASE_KEY = "rel";
 
+    /**
+     * The suffixes of the <code>project.scm.*</code> properties, indexed by the <code>SCM_*</code> constants.
+     */
+    private static final String[] SCM_ELEMENTS = {"connection", "developerConnection", "url", "tag", "id", "empty"};
+
+    private static final int SCM_CONNECTION = 0;
+
+    private static final int SCM_DEVELOPER_CONNECTION = 1;
+
+    private static final int SCM_URL = 2;
+
+    private static final int SCM_TAG = 3;
+
+    private static final int SCM_ID = 4;
+
+    private static final int SCM_EMPTY = 5;
+
     private ReleaseUtils() {
         // nothing to see here
     }
@@ -156,89 +173,105 @@ public class ReleaseUtils {
         if (properties.containsKey("workItem")) {
             builder.setWorkItem(properties.getProperty("workItem"));
         }
+        if (properties.containsKey("scm.queryCacheDirectory")) {
+            builder.setScmQueryCacheDirectory(properties.getProperty("scm.queryCacheDirectory"));
+        }
+        if (properties.containsKey("pomDiffReport")) {
+            builder.setPomDiffReport(properties.getProperty("pomDiffReport"));
+        }
         if (properties.containsKey("autoResolveSnapshots")) {
             String resolve = properties.getProperty("autoResolveSnapshots");
             builder.setAutoResolveSnapshots(resolve);
         }
 
-        loadResolvedDependencies(properties, builder);
-
         // boolean properties are not written to the properties file because the value from the caller is always used
 
-        for (Object o : properties.keySet()) {
-            String property = (String) o;
-            if (property.startsWith("project.rel.")) {
-                builder.addReleaseVersion(
-                        property.substring("project.rel.".length()), properties.getProperty(property));
-            } else if (property.startsWith("project.dev.")) {
-                builder.addDevelopmentVersion(
-                        property.substring("project.dev.".length()), properties.getProperty(property));
-            } else if (property.startsWith("dependency.rel.")) {
-                builder.addDependencyReleaseVersion(
-                        property.substring("dependency.rel.".length()), properties.getProperty(property));
-            } else if (property.startsWith("dependency.dev.")) {
-                builder.addDependencyDevelopmentVersion(
-                        property.substring("dependency.dev.".length()), properties.getProperty(property));
-            } else if (property.startsWith("project.scm.")) {
-                int index = property.lastIndexOf('.');
-                if (index > "project.scm.".length()) {
-                    String key = property.substring("project.scm.".length(), index);
-
-                    if (builder.build().getOriginalScmInfo(key) == null) {
-                        if (properties.getProperty("project.scm." + key + ".empty") != null) {
-                            builder.addOriginalScmInfo(key, null);
-                        } else {
-                            IdentifiedScm scm = new IdentifiedScm();
-                            scm.setConnection(properties.getProperty("project.scm." + key + ".connection"));
-                            scm.setDeveloperConnection(
-                                    properties.getProperty("project.scm." + key + ".developerConnection"));
-                            scm.setUrl(properties.getProperty("project.scm." + key + ".url"));
-                            scm.setTag(properties.getProperty("project.scm." + key + ".tag"));
-                            scm.setId(properties.getProperty("project.scm." + key + ".id"));
-
-                            builder.addOriginalScmInfo(key, scm);
+        // single pass over the keys; the SCM elements are grouped by project and only turned into SCMs afterwards
+        Map<String, String[]> originalScmInfo = new LinkedHashMap<>();
+        for (Entry<Object, Object> entry : properties.entrySet()) {
+            if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof String)) {
+                continue;
+            }
+            String property = (String) entry.getKey();
+            String value = (String) entry.getValue();
+
+            if (property.startsWith("project.")) {
+                if (property.startsWith("project.rel.")) {
+                    builder.addReleaseVersion(property.substring("project.rel.".length()), value);
+                } else if (property.startsWith("project.dev.")) {
+                    builder.addDevelopmentVersion(property.substring("project.dev.".length()), value);
+                } else if (property.startsWith("project.scm.")) {
+                    int index = property.lastIndexOf('.');
+                    if (index > "project.scm.".length()) {
+                        String key = property.substring("project.scm.".length(), index);
+                        String[] elements = originalScmInfo.get(key);
+                        if (elements == null) {
+                            elements = new String[SCM_ELEMENTS.length];
+                            originalScmInfo.put(key, elements);
+                        }
+                        String element = property.substring(index + 1);
+                        for (int i = 0; i < SCM_ELEMENTS.length; i++) {
+                            if (SCM_ELEMENTS[i].equals(element)) {
+                                elements[i] = value;
+                                break;
+                            }
                         }
                     }
                 }
+            } else if (property.startsWith("dependency.")) {
+                loadResolvedDependency(property, value, builder);
             }
         }
-    }
 
-    private static void loadResolvedDependencies(Properties prop, ReleaseDescriptorBuilder builder) {
-        Set entries = prop.entrySet();
-        Iterator<Entry<String, String>> iterator = entries.iterator();
-        String propertyName;
-        Entry<String, String> currentEntry;
-
-        while (iterator.hasNext()) {
-            currentEntry = iterator.next();
-            propertyName = currentEntry.getKey();
-
-            if (propertyName.startsWith("dependency.")) {
-                String artifactVersionlessKey;
-                int startIndex = "dependency.".length();
-                int endIndex;
-                String versionType;
-
-                if (propertyName.contains(".development")) {
-                    endIndex = propertyName.lastIndexOf(".development");
-                    versionType = DEVELOPMENT_KEY;
-                } else if (propertyName.contains(".release")) {
-                    endIndex = propertyName.lastIndexOf(".release");
-                    versionType = RELEASE_KEY;
+        BuilderReleaseDescriptor descriptor = builder.build();
+        for (Map.Entry<String, String[]> entry : originalScmInfo.entrySet()) {
+            String key = entry.getKey();
+            if (descriptor.getOriginalScmInfo(key) == null) {
+                String[] elements = entry.getValue();
+                if (elements[SCM_EMPTY] != null) {
+                    builder.addOriginalScmInfo(key, null);
                 } else {
-                    // MRELEASE-834, probably a maven-dependency-plugin property
-                    continue;
-                }
-
-                artifactVersionlessKey = propertyName.substring(startIndex, endIndex);
+                    IdentifiedScm scm = new IdentifiedScm();
+                    scm.setConnection(elements[SCM_CONNECTION]);
+                    scm.setDeveloperConnection(elements[SCM_DEVELOPER_CONNECTION]);
+                    scm.setUrl(elements[SCM_URL]);
+                    scm.setTag(elements[SCM_TAG]);
+                    scm.setId(elements[SCM_ID]);
 
-                if (RELEASE_KEY.equals(versionType)) {
-                    builder.addDependencyReleaseVersion(artifactVersionlessKey, currentEntry.getValue());
-                } else if (DEVELOPMENT_KEY.equals(versionType)) {
-                    builder.addDependencyDevelopmentVersion(artifactVersionlessKey, currentEntry.getValue());
+                    builder.addOriginalScmInfo(key, scm);
                 }
             }
         }
     }
+
+    private static void loadResolvedDependency(String propertyName, String value, ReleaseDescriptorBuilder builder) {
+        if (propertyName.startsWith("dependency.rel.")) {
+            builder.addDependencyReleaseVersion(propertyName.substring("dependency.rel.".length()), value);
+        } else if (propertyName.startsWith("dependency.dev.")) {
+            builder.addDependencyDevelopmentVersion(propertyName.substring("dependency.dev.".length()), value);
+        }
+
+        int startIndex = "dependency.".length();
+        int endIndex;
+        String versionType;
+
+        if (propertyName.contains(".development")) {
+            endIndex = propertyName.lastIndexOf(".development");
+            versionType = DEVELOPMENT_KEY;
+        } else if (propertyName.contains(".release")) {
+            endIndex = propertyName.lastIndexOf(".release");
+            versionType = RELEASE_KEY;
+        } else {
+            // MRELEASE-834, probably a maven-dependency-plugin property
+            return;
+        }
+
+        String artifactVersionlessKey = propertyName.substring(startIndex, endIndex);
+
+        if (RELEASE_KEY.equals(versionType)) {
+            builder.addDependencyReleaseVersion(artifactVersionlessKey, value);
+        } else {
+            builder.addDependencyDevelopmentVersion(artifactVersionlessKey, value);
+        }
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.daemon;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.shared.release.util.AtomicFiles;
+
+/**
+ * The messages exchanged between the {@link RemoteReleaseManager} and the {@link ReleaseDaemon}.
+ * <p>
+ * Every message is a set of properties, sent as its length followed by the properties in the format of
+ * {@link Properties#store(OutputStream, String)}. A client sends one request and then reads events until it
+ * receives the result.
+ *
+ * @since 3.0.2
+ */
+final class DaemonProtocol {
+    static final String TYPE = "type";
+
+    static final String TYPE_EVENT = "event";
+
+    static final String TYPE_RESULT = "result";
+
+    static final String TOKEN = "token";
+
+    static final String PORT = "port";
+
+    static final String GOAL = "goal";
+
+    static final String GOAL_STOP = "stop";
+
+    static final String DRY_RUN = "dryRun";
+
+    static final String RESUME = "resume";
+
+    static final String CLEAN = "clean";
+
+    static final String REACTOR = "reactor.";
+
+    static final String REACTOR_ROOT = "reactorRoot";
+
+    static final String ENVIRONMENT = "environment.";
+
+    static final String USER_PROPERTY = "userProperty.";
+
+    static final String DESCRIPTOR = "descriptor.";
+
+    static final String EVENT = "event";
+
+    static final String NAME = "name";
+
+    static final String PHASE = "phase.";
+
+    static final String STATUS = "status";
+
+    static final String STATUS_SUCCESS = "success";
+
+    static final String STATUS_FAILURE = "failure";
+
+    static final String STATUS_ERROR = "error";
+
+    static final String MESSAGE = "message";
+
+    /**
+     * Upper bound of a message, so a stray connection cannot make the daemon allocate arbitrary memory.
+     */
+    private static final int MAX_MESSAGE_LENGTH = 64 * 1024 * 1024;
+
+    private DaemonProtocol() {
+        // noop
+    }
+
+    static void write(DataOutputStream out, Properties message) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        message.store(content, null);
+        out.writeInt(content.size());
+        content.writeTo(out);
+        out.flush();
+    }
+
+    static Properties read(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_MESSAGE_LENGTH) {
+            throw new IOException("Invalid message length " + length);
+        }
+        byte[] content = new byte[length];
+        in.readFully(content);
+
+        Properties message = new Properties();
+        message.load(new ByteArrayInputStream(content));
+        return message;
+    }
+
+    /**
+     * Copies the properties starting with the prefix, without the prefix.
+     */
+    static Properties getProperties(Properties message, String prefix) {
+        Properties properties = new Properties();
+        for (String name : message.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                properties.setProperty(name.substring(prefix.length()), message.getProperty(name));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Copies the properties, with the prefix added to their names.
+     */
+    static void putProperties(Properties message, String prefix, Properties properties) {
+        if (properties != null) {
+            for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+                message.setProperty(prefix + entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Writes the file telling clients the port of the daemon and the token to authenticate with. Only the owner
+     * can read it, so only the user who started the daemon can use it.
+     */
+    static void writeEndpoint(File file, int port, String token) throws IOException {
+        Properties endpoint = new Properties();
+        endpoint.setProperty(PORT, String.valueOf(port));
+        endpoint.setProperty(TOKEN, token);
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        File tmp = AtomicFiles.getTemporaryFile(file);
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            tmp.setReadable(false, false);
+            tmp.setReadable(true, true);
+            endpoint.store(out, "release daemon");
+        }
+        AtomicFiles.commit(tmp, file);
+    }
+
+    static Properties readEndpoint(File file) throws IOException {
+        Properties endpoint = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            endpoint.load(in);
+        }
+        return endpoint;
+    }
+}
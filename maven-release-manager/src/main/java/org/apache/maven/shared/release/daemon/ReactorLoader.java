@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.daemon;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+
+/**
+ * Builds the reactor projects of a request to the {@link ReleaseDaemon} from their POM files. Implementations are
+ * expected to keep the projects between requests as long as their POM files are unchanged.
+ *
+ * @since 3.0.2
+ */
+public interface ReactorLoader {
+    /**
+     * Builds the projects of a reactor.
+     *
+     * @param pomFiles the POM files of the projects, in reactor order
+     * @return the projects, in the order of the POM files
+     * @throws ReleaseExecutionException if a project cannot be built
+     */
+    List<MavenProject> load(List<File> pomFiles) throws ReleaseExecutionException;
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.shared.release.AbstractReleaseRequest;
+import org.apache.maven.shared.release.ReleaseBranchRequest;
+import org.apache.maven.shared.release.ReleaseCleanRequest;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseManager;
+import org.apache.maven.shared.release.ReleaseManagerListener;
+import org.apache.maven.shared.release.ReleasePerformRequest;
+import org.apache.maven.shared.release.ReleasePrepareRequest;
+import org.apache.maven.shared.release.ReleaseRollbackRequest;
+import org.apache.maven.shared.release.ReleaseUpdateVersionsRequest;
+import org.apache.maven.shared.release.config.ReleaseDescriptorProperties;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Long-lived process hosting a release manager for the {@link RemoteReleaseManager} clients of the same user.
+ * <p>
+ * The daemon listens on an ephemeral port of the loopback interface and writes the port, together with a random
+ * token the clients have to send with each request, to an endpoint file only its owner can read. The release
+ * manager and everything it caches, like the SCM providers, the parsed POMs, the decrypted master password and, by
+ * the {@link ReactorLoader}, the reactor projects, stay warm between the requests. The requests are executed one
+ * at a time, in the order they are received.
+ *
+ * @since 3.0.2
+ */
+public class ReleaseDaemon implements Closeable {
+    private static final int TOKEN_LENGTH = 32;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ReleaseManager releaseManager;
+
+    private final ReactorLoader reactorLoader;
+
+    private final Settings settings;
+
+    private final String token;
+
+    private ServerSocket serverSocket;
+
+    private File endpointFile;
+
+    /**
+     * Creates a daemon.
+     *
+     * @param releaseManager the release manager executing the requests
+     * @param reactorLoader  builds the reactor projects of the requests
+     * @param settings       the settings of the releases, which are not sent by the clients
+     */
+    public ReleaseDaemon(ReleaseManager releaseManager, ReactorLoader reactorLoader, Settings settings) {
+        this.releaseManager = requireNonNull(releaseManager);
+        this.reactorLoader = requireNonNull(reactorLoader);
+        this.settings = requireNonNull(settings);
+
+        byte[] bytes = new byte[TOKEN_LENGTH];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        this.token = hex.toString();
+    }
+
+    /**
+     * Starts listening and writes the endpoint file.
+     *
+     * @param endpointFile the file telling the clients how to connect
+     * @throws IOException if the daemon cannot listen or the file cannot be written
+     */
+    public void start(File endpointFile) throws IOException {
+        serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        try {
+            DaemonProtocol.writeEndpoint(endpointFile, serverSocket.getLocalPort(), token);
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+        this.endpointFile = endpointFile;
+        logger.info("Release daemon listening on port " + serverSocket.getLocalPort());
+    }
+
+    /**
+     * Executes the requests until a client asks the daemon to stop or it is closed.
+     *
+     * @throws IOException if the daemon fails to accept connections
+     */
+    public void run() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    break;
+                }
+                throw e;
+            }
+            try (Socket client = socket) {
+                handle(client);
+            } catch (IOException e) {
+                logger.warn("Release daemon request failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (endpointFile != null) {
+            endpointFile.delete();
+        }
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        Properties request = DaemonProtocol.read(in);
+        if (!isAuthenticated(request.getProperty(DaemonProtocol.TOKEN))) {
+            writeResult(out, DaemonProtocol.STATUS_FAILURE, "Invalid release daemon token");
+            return;
+        }
+
+        String goal = request.getProperty(DaemonProtocol.GOAL);
+        if (DaemonProtocol.GOAL_STOP.equals(goal)) {
+            writeResult(out, DaemonProtocol.STATUS_SUCCESS, null);
+            close();
+            return;
+        }
+
+        logger.info("Executing release:" + goal);
+        RemoteListener listener = new RemoteListener(out);
+        try {
+            execute(goal, request, listener);
+            writeResult(out, DaemonProtocol.STATUS_SUCCESS, null);
+        } catch (ReleaseFailureException e) {
+            writeResult(out, DaemonProtocol.STATUS_FAILURE, e.getMessage());
+        } catch (ReleaseExecutionException | RuntimeException e) {
+            logger.error("release:" + goal + " failed", e);
+            writeResult(out, DaemonProtocol.STATUS_ERROR, e.getMessage());
+        }
+    }
+
+    private void execute(String goal, Properties request, ReleaseManagerListener listener)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        ReleaseEnvironment environment = getReleaseEnvironment(request);
+        Properties userProperties = DaemonProtocol.getProperties(request, DaemonProtocol.USER_PROPERTY);
+
+        switch (String.valueOf(goal)) {
+            case "prepare":
+                ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+                initialize(prepareRequest, request, listener);
+                prepareRequest.setReleaseEnvironment(environment);
+                prepareRequest.setUserProperties(userProperties);
+                prepareRequest.setDryRun(getBoolean(request, DaemonProtocol.DRY_RUN));
+                prepareRequest.setResume(getBoolean(request, DaemonProtocol.RESUME));
+                releaseManager.prepare(prepareRequest);
+                break;
+            case "perform":
+                ReleasePerformRequest performRequest = new ReleasePerformRequest();
+                initialize(performRequest, request, listener);
+                performRequest.setReleaseEnvironment(environment);
+                performRequest.setDryRun(getBoolean(request, DaemonProtocol.DRY_RUN));
+                performRequest.setClean(getBoolean(request, DaemonProtocol.CLEAN));
+                releaseManager.perform(performRequest);
+                break;
+            case "branch":
+                ReleaseBranchRequest branchRequest = new ReleaseBranchRequest();
+                initialize(branchRequest, request, listener);
+                branchRequest.setReleaseEnvironment(environment);
+                branchRequest.setUserProperties(userProperties);
+                branchRequest.setDryRun(getBoolean(request, DaemonProtocol.DRY_RUN));
+                releaseManager.branch(branchRequest);
+                break;
+            case "rollback":
+                ReleaseRollbackRequest rollbackRequest = new ReleaseRollbackRequest();
+                initialize(rollbackRequest, request, listener);
+                rollbackRequest.setReleaseEnvironment(environment);
+                releaseManager.rollback(rollbackRequest);
+                break;
+            case "update-versions":
+                ReleaseUpdateVersionsRequest updateVersionsRequest = new ReleaseUpdateVersionsRequest();
+                initialize(updateVersionsRequest, request, listener);
+                updateVersionsRequest.setReleaseEnvironment(environment);
+                updateVersionsRequest.setUserProperties(userProperties);
+                releaseManager.updateVersions(updateVersionsRequest);
+                break;
+            case "clean":
+                ReleaseCleanRequest cleanRequest = new ReleaseCleanRequest();
+                initialize(cleanRequest, request, listener);
+                releaseManager.clean(cleanRequest);
+                break;
+            default:
+                throw new ReleaseFailureException("Unknown release goal '" + goal + "'");
+        }
+    }
+
+    private void initialize(AbstractReleaseRequest releaseRequest, Properties request, ReleaseManagerListener listener)
+            throws ReleaseExecutionException {
+        releaseRequest.setReleaseDescriptorBuilder(ReleaseDescriptorProperties.toBuilder(
+                DaemonProtocol.getProperties(request, DaemonProtocol.DESCRIPTOR)));
+        releaseRequest.setReleaseManagerListener(listener);
+
+        List<File> pomFiles = new ArrayList<>();
+        for (int i = 0; request.getProperty(DaemonProtocol.REACTOR + i) != null; i++) {
+            pomFiles.add(new File(request.getProperty(DaemonProtocol.REACTOR + i)));
+        }
+        if (!pomFiles.isEmpty()) {
+            List<MavenProject> reactorProjects = reactorLoader.load(pomFiles);
+            String root = request.getProperty(DaemonProtocol.REACTOR_ROOT);
+            for (int i = 0; i < reactorProjects.size(); i++) {
+                reactorProjects.get(i).setExecutionRoot(String.valueOf(i).equals(root));
+            }
+            releaseRequest.setReactorProjects(reactorProjects);
+        }
+    }
+
+    private ReleaseEnvironment getReleaseEnvironment(Properties request) {
+        Properties environment = DaemonProtocol.getProperties(request, DaemonProtocol.ENVIRONMENT);
+        DefaultReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment()
+                .setSettings(settings)
+                .setMavenHome(getFile(environment, "mavenHome"))
+                .setJavaHome(getFile(environment, "javaHome"))
+                .setLocalRepositoryDirectory(getFile(environment, "localRepositoryDirectory"));
+        if (environment.getProperty("mavenExecutorId") != null) {
+            releaseEnvironment.setMavenExecutorId(environment.getProperty("mavenExecutorId"));
+        }
+        return releaseEnvironment;
+    }
+
+    private boolean isAuthenticated(String requestToken) {
+        return requestToken != null
+                && MessageDigest.isEqual(
+                        token.getBytes(StandardCharsets.US_ASCII), requestToken.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static File getFile(Properties properties, String name) {
+        String path = properties.getProperty(name);
+        return path != null ? new File(path) : null;
+    }
+
+    private static Boolean getBoolean(Properties properties, String name) {
+        String value = properties.getProperty(name);
+        return value != null ? Boolean.valueOf(value) : null;
+    }
+
+    private static void writeResult(DataOutputStream out, String status, String message) throws IOException {
+        Properties result = new Properties();
+        result.setProperty(DaemonProtocol.TYPE, DaemonProtocol.TYPE_RESULT);
+        result.setProperty(DaemonProtocol.STATUS, status);
+        if (message != null) {
+            result.setProperty(DaemonProtocol.MESSAGE, message);
+        }
+        DaemonProtocol.write(out, result);
+    }
+
+    /**
+     * Sends the events of the release manager to the client. Once the client is gone, the release continues without
+     * sending events.
+     */
+    private class RemoteListener implements ReleaseManagerListener {
+        private final DataOutputStream out;
+
+        private boolean connected = true;
+
+        RemoteListener(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void goalStart(String goal, List<String> phases) {
+            Properties event = createEvent("goalStart", goal);
+            for (int i = 0; i < phases.size(); i++) {
+                event.setProperty(DaemonProtocol.PHASE + i, phases.get(i));
+            }
+            send(event);
+        }
+
+        @Override
+        public void phaseStart(String name) {
+            send(createEvent("phaseStart", name));
+        }
+
+        @Override
+        public void phaseEnd() {
+            send(createEvent("phaseEnd", null));
+        }
+
+        @Override
+        public void phaseSkip(String name) {
+            send(createEvent("phaseSkip", name));
+        }
+
+        @Override
+        public void goalEnd() {
+            send(createEvent("goalEnd", null));
+        }
+
+        @Override
+        public void error(String reason) {
+            send(createEvent("error", reason));
+        }
+
+        private Properties createEvent(String type, String name) {
+            Properties event = new Properties();
+            event.setProperty(DaemonProtocol.TYPE, DaemonProtocol.TYPE_EVENT);
+            event.setProperty(DaemonProtocol.EVENT, type);
+            if (name != null) {
+                event.setProperty(DaemonProtocol.NAME, name);
+            }
+            return event;
+        }
+
+        private void send(Properties event) {
+            if (!connected) {
+                return;
+            }
+            try {
+                DaemonProtocol.write(out, event);
+            } catch (IOException e) {
+                logger.warn("Release daemon client disconnected: " + e.getMessage());
+                connected = false;
+            }
+        }
+    }
+}
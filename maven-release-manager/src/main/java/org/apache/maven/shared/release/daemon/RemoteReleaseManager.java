@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.AbstractReleaseRequest;
+import org.apache.maven.shared.release.ReleaseBranchRequest;
+import org.apache.maven.shared.release.ReleaseCleanRequest;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseManager;
+import org.apache.maven.shared.release.ReleaseManagerListener;
+import org.apache.maven.shared.release.ReleasePerformRequest;
+import org.apache.maven.shared.release.ReleasePrepareRequest;
+import org.apache.maven.shared.release.ReleaseRepositoriesRequest;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.ReleaseRollbackRequest;
+import org.apache.maven.shared.release.ReleaseUpdateVersionsRequest;
+import org.apache.maven.shared.release.config.ReleaseDescriptorProperties;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Release manager executing the goals in a {@link ReleaseDaemon}.
+ * <p>
+ * The requests are sent with the POM files of their reactor projects instead of the projects, which the daemon builds
+ * itself. The settings of the daemon are used, and as the daemon has no console, interactive releases are rejected.
+ * The release of several repositories is not sent to the daemon but executed by the local release manager.
+ *
+ * @since 3.0.2
+ */
+public class RemoteReleaseManager implements ReleaseManager {
+    private final File endpointFile;
+
+    private final ReleaseManager localReleaseManager;
+
+    /**
+     * Creates a client of a daemon.
+     *
+     * @param endpointFile        the endpoint file written by the daemon
+     * @param localReleaseManager the release manager for the requests which are not sent to the daemon
+     */
+    public RemoteReleaseManager(File endpointFile, ReleaseManager localReleaseManager) {
+        this.endpointFile = requireNonNull(endpointFile);
+        this.localReleaseManager = requireNonNull(localReleaseManager);
+    }
+
+    @Override
+    public void prepare(ReleasePrepareRequest prepareRequest)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        Properties request = createRequest("prepare", prepareRequest, true);
+        putEnvironment(request, prepareRequest.getReleaseEnvironment());
+        DaemonProtocol.putProperties(request, DaemonProtocol.USER_PROPERTY, prepareRequest.getUserProperties());
+        putBoolean(request, DaemonProtocol.DRY_RUN, prepareRequest.getDryRun());
+        putBoolean(request, DaemonProtocol.RESUME, prepareRequest.getResume());
+        execute(request, prepareRequest.getReleaseManagerListener());
+    }
+
+    @Override
+    public ReleaseResult prepareWithResult(ReleasePrepareRequest prepareRequest) {
+        ReleaseResult result = new ReleaseResult();
+        result.setStartTime(System.currentTimeMillis());
+        try {
+            prepare(prepareRequest);
+            result.setResultCode(ReleaseResult.SUCCESS);
+        } catch (ReleaseExecutionException | ReleaseFailureException e) {
+            captureException(result, prepareRequest.getReleaseManagerListener(), e);
+        } finally {
+            result.setEndTime(System.currentTimeMillis());
+        }
+        return result;
+    }
+
+    @Override
+    public void perform(ReleasePerformRequest performRequest)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        Properties request = createRequest("perform", performRequest, false);
+        putEnvironment(request, performRequest.getReleaseEnvironment());
+        putBoolean(request, DaemonProtocol.DRY_RUN, performRequest.getDryRun());
+        putBoolean(request, DaemonProtocol.CLEAN, performRequest.getClean());
+        execute(request, performRequest.getReleaseManagerListener());
+    }
+
+    @Override
+    public ReleaseResult performWithResult(ReleasePerformRequest performRequest) {
+        ReleaseResult result = new ReleaseResult();
+        result.setStartTime(System.currentTimeMillis());
+        try {
+            perform(performRequest);
+            result.setResultCode(ReleaseResult.SUCCESS);
+        } catch (ReleaseExecutionException | ReleaseFailureException e) {
+            captureException(result, performRequest.getReleaseManagerListener(), e);
+        } finally {
+            result.setEndTime(System.currentTimeMillis());
+        }
+        return result;
+    }
+
+    @Override
+    public void clean(ReleaseCleanRequest cleanRequest) throws ReleaseFailureException {
+        try {
+            execute(createRequest("clean", cleanRequest, false), cleanRequest.getReleaseManagerListener());
+        } catch (ReleaseExecutionException e) {
+            throw new ReleaseFailureException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void rollback(ReleaseRollbackRequest rollbackRequest)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        Properties request = createRequest("rollback", rollbackRequest, false);
+        putEnvironment(request, rollbackRequest.getReleaseEnvironment());
+        execute(request, rollbackRequest.getReleaseManagerListener());
+    }
+
+    @Override
+    public void branch(ReleaseBranchRequest branchRequest) throws ReleaseExecutionException, ReleaseFailureException {
+        Properties request = createRequest("branch", branchRequest, true);
+        putEnvironment(request, branchRequest.getReleaseEnvironment());
+        DaemonProtocol.putProperties(request, DaemonProtocol.USER_PROPERTY, branchRequest.getUserProperties());
+        putBoolean(request, DaemonProtocol.DRY_RUN, branchRequest.getDryRun());
+        execute(request, branchRequest.getReleaseManagerListener());
+    }
+
+    @Override
+    public void updateVersions(ReleaseUpdateVersionsRequest updateVersionsRequest)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        Properties request = createRequest("update-versions", updateVersionsRequest, true);
+        putEnvironment(request, updateVersionsRequest.getReleaseEnvironment());
+        DaemonProtocol.putProperties(request, DaemonProtocol.USER_PROPERTY, updateVersionsRequest.getUserProperties());
+        execute(request, updateVersionsRequest.getReleaseManagerListener());
+    }
+
+    @Override
+    public Map<String, ReleaseResult> releaseRepositories(ReleaseRepositoriesRequest repositoriesRequest)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        return localReleaseManager.releaseRepositories(repositoriesRequest);
+    }
+
+    /**
+     * Asks the daemon to stop.
+     *
+     * @throws ReleaseExecutionException if the daemon cannot be reached
+     * @throws ReleaseFailureException   if the daemon refuses to stop
+     */
+    public void stop() throws ReleaseExecutionException, ReleaseFailureException {
+        Properties request = new Properties();
+        request.setProperty(DaemonProtocol.GOAL, DaemonProtocol.GOAL_STOP);
+        execute(request, null);
+    }
+
+    private Properties createRequest(String goal, AbstractReleaseRequest releaseRequest, boolean prompting)
+            throws ReleaseFailureException {
+        if (prompting && releaseRequest.getReleaseDescriptorBuilder().build().isInteractive()) {
+            throw new ReleaseFailureException(
+                    "The release daemon cannot prompt for input, run release:" + goal + " in batch mode (-B)");
+        }
+
+        Properties request = new Properties();
+        request.setProperty(DaemonProtocol.GOAL, goal);
+        DaemonProtocol.putProperties(
+                request,
+                DaemonProtocol.DESCRIPTOR,
+                ReleaseDescriptorProperties.toProperties(releaseRequest.getReleaseDescriptorBuilder()));
+
+        List<MavenProject> reactorProjects = releaseRequest.getReactorProjects();
+        if (reactorProjects != null) {
+            for (int i = 0; i < reactorProjects.size(); i++) {
+                MavenProject project = reactorProjects.get(i);
+                request.setProperty(
+                        DaemonProtocol.REACTOR + i, project.getFile().getAbsolutePath());
+                if (project.isExecutionRoot()) {
+                    request.setProperty(DaemonProtocol.REACTOR_ROOT, String.valueOf(i));
+                }
+            }
+        }
+        return request;
+    }
+
+    private void execute(Properties request, ReleaseManagerListener listener)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        Properties endpoint;
+        try {
+            endpoint = DaemonProtocol.readEndpoint(endpointFile);
+        } catch (IOException e) {
+            throw new ReleaseExecutionException(
+                    "No release daemon found at " + endpointFile + ", start one with release:daemon", e);
+        }
+        request.setProperty(DaemonProtocol.TOKEN, endpoint.getProperty(DaemonProtocol.TOKEN, ""));
+
+        Properties result;
+        try (Socket socket = new Socket(
+                InetAddress.getLoopbackAddress(), Integer.parseInt(endpoint.getProperty(DaemonProtocol.PORT)))) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            DaemonProtocol.write(out, request);
+            result = DaemonProtocol.read(in);
+            while (DaemonProtocol.TYPE_EVENT.equals(result.getProperty(DaemonProtocol.TYPE))) {
+                if (listener != null) {
+                    dispatch(result, listener);
+                }
+                result = DaemonProtocol.read(in);
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new ReleaseExecutionException("Cannot reach the release daemon: " + e.getMessage(), e);
+        }
+
+        String status = result.getProperty(DaemonProtocol.STATUS);
+        String message = result.getProperty(DaemonProtocol.MESSAGE);
+        if (DaemonProtocol.STATUS_FAILURE.equals(status)) {
+            throw new ReleaseFailureException(message);
+        } else if (!DaemonProtocol.STATUS_SUCCESS.equals(status)) {
+            throw new ReleaseExecutionException(message);
+        }
+    }
+
+    private static void dispatch(Properties event, ReleaseManagerListener listener) {
+        String name = event.getProperty(DaemonProtocol.NAME);
+        switch (event.getProperty(DaemonProtocol.EVENT, "")) {
+            case "goalStart":
+                List<String> phases = new ArrayList<>();
+                for (int i = 0; event.getProperty(DaemonProtocol.PHASE + i) != null; i++) {
+                    phases.add(event.getProperty(DaemonProtocol.PHASE + i));
+                }
+                listener.goalStart(name, phases);
+                break;
+            case "phaseStart":
+                listener.phaseStart(name);
+                break;
+            case "phaseEnd":
+                listener.phaseEnd();
+                break;
+            case "phaseSkip":
+                listener.phaseSkip(name);
+                break;
+            case "goalEnd":
+                listener.goalEnd();
+                break;
+            case "error":
+                listener.error(name);
+                break;
+            default:
+                // events of a newer daemon
+        }
+    }
+
+    private static void putEnvironment(Properties request, ReleaseEnvironment environment) {
+        if (environment == null) {
+            return;
+        }
+        putFile(request, DaemonProtocol.ENVIRONMENT + "mavenHome", environment.getMavenHome());
+        putFile(request, DaemonProtocol.ENVIRONMENT + "javaHome", environment.getJavaHome());
+        putFile(
+                request,
+                DaemonProtocol.ENVIRONMENT + "localRepositoryDirectory",
+                environment.getLocalRepositoryDirectory());
+        if (environment.getMavenExecutorId() != null) {
+            request.setProperty(DaemonProtocol.ENVIRONMENT + "mavenExecutorId", environment.getMavenExecutorId());
+        }
+    }
+
+    private static void putFile(Properties request, String name, File file) {
+        if (file != null) {
+            request.setProperty(name, file.getAbsolutePath());
+        }
+    }
+
+    private static void putBoolean(Properties request, String name, Boolean value) {
+        if (value != null) {
+            request.setProperty(name, value.toString());
+        }
+    }
+
+    private static void captureException(ReleaseResult result, ReleaseManagerListener listener, Exception e) {
+        if (listener != null) {
+            listener.error(e.getMessage());
+        }
+        result.appendError(e);
+        result.setResultCode(ReleaseResult.ERROR);
+    }
+}
@@ -19,7 +19,13 @@
 package org.apache.maven.shared.release.phase;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
 
+import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 
@@ -31,6 +37,18 @@ import org.apache.maven.shared.release.util.ReleaseUtil;
 public abstract class AbstractBackupPomsPhase extends AbstractReleasePhase {
     protected static final String BACKUP_SUFFIX = ".releaseBackup";
 
+    /**
+     * The directory of the content-addressed POM backups, relative to the root project. It is kept out of the build
+     * directory, which the preparation goals clean before the backups are needed by a rollback.
+     */
+    protected static final String BACKUP_DIRECTORY = ".release-pom-backup";
+
+    /**
+     * The index of the content-addressed POM backups, mapping the versionless key of each project to the hash of its
+     * POM, which is the name of the backup in the <code>objects</code> directory.
+     */
+    protected static final String BACKUP_INDEX = "index.properties";
+
     /**
      * <p>getPomBackup.</p>
      *
@@ -59,4 +77,65 @@ public abstract class AbstractBackupPomsPhase extends AbstractReleasePhase {
             pomBackup.delete();
         }
     }
+
+    /**
+     * <p>getPomBackupDirectory.</p>
+     *
+     * @param reactorProjects the reactor projects
+     * @return the directory of the content-addressed POM backups
+     */
+    protected File getPomBackupDirectory(List<MavenProject> reactorProjects) {
+        return new File(ReleaseUtil.getRootProject(reactorProjects).getBasedir(), BACKUP_DIRECTORY);
+    }
+
+    /**
+     * <p>getPomBackupObjectDirectory.</p>
+     *
+     * @param backupDirectory the directory of the content-addressed POM backups
+     * @return the directory holding one backup per distinct POM content
+     */
+    protected File getPomBackupObjectDirectory(File backupDirectory) {
+        return new File(backupDirectory, "objects");
+    }
+
+    /**
+     * <p>getPomBackupObject.</p>
+     *
+     * @param backupDirectory the directory of the content-addressed POM backups
+     * @param hash            the hash of the POM
+     * @return the backup of the POM
+     */
+    protected File getPomBackupObject(File backupDirectory, String hash) {
+        return new File(getPomBackupObjectDirectory(backupDirectory), hash);
+    }
+
+    /**
+     * Reads the index of the content-addressed POM backups.
+     *
+     * @param backupDirectory the directory of the content-addressed POM backups
+     * @return the index, or <code>null</code> if there is no content-addressed backup
+     * @throws IOException if the index cannot be read
+     */
+    protected Properties readPomBackupIndex(File backupDirectory) throws IOException {
+        File indexFile = new File(backupDirectory, BACKUP_INDEX);
+        if (!indexFile.exists()) {
+            return null;
+        }
+
+        Properties index = new Properties();
+        try (InputStream in = new FileInputStream(indexFile)) {
+            index.load(in);
+        }
+        return index;
+    }
+
+    /**
+     * <p>getProjectKey.</p>
+     *
+     * @param project a {@link org.apache.maven.project.MavenProject} object
+     * @return the key of the project in the index of the content-addressed POM backups
+     */
+    protected static String getProjectKey(MavenProject project) {
+        return ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
+    }
 }
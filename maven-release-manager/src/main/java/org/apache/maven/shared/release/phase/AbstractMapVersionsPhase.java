@@ -18,8 +18,18 @@
  */
 package org.apache.maven.shared.release.phase;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.project.MavenProject;
@@ -32,8 +42,16 @@ import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicy;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicyAdapter;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest;
+import org.apache.maven.shared.release.policy.version.ConcurrentVersionPolicy;
+import org.apache.maven.shared.release.policy.version.ScmTagIndex;
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
+import org.apache.maven.shared.release.policy.version.VersionPolicyResult;
+import org.apache.maven.shared.release.scm.DefaultScmTagIndex;
+import org.apache.maven.shared.release.scm.ScmQueryCache;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.apache.maven.shared.release.versions.VersionParseException;
@@ -120,13 +138,21 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
 
         MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
 
+        PolicyRequestSupplier policyRequest = new PolicyRequestSupplier(releaseDescriptor, releaseEnvironment);
+
         if (releaseDescriptor.isAutoVersionSubmodules() && ArtifactUtils.isSnapshot(rootProject.getVersion())) {
             // get the root project
             MavenProject project = rootProject;
 
             String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
 
-            String nextVersion = resolveNextVersion(project, projectId, releaseDescriptor, releaseEnvironment);
+            List<MavenProject> projects = Collections.singletonList(project);
+            Map<String, String> suggestedVersions =
+                    resolveSuggestedVersions(projects, releaseDescriptor, policyRequest);
+            boolean accepted = reviewSuggestedVersions(projects, releaseDescriptor, suggestedVersions);
+
+            String nextVersion = resolveNextVersion(
+                    project, projectId, releaseDescriptor, suggestedVersions.get(projectId), accepted, policyRequest);
 
             if (!convertToSnapshot) {
                 releaseDescriptor.addReleaseVersion(projectId, nextVersion);
@@ -165,10 +191,20 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                 }
             }
         } else {
+            Map<String, String> suggestedVersions =
+                    resolveSuggestedVersions(reactorProjects, releaseDescriptor, policyRequest);
+            boolean accepted = reviewSuggestedVersions(reactorProjects, releaseDescriptor, suggestedVersions);
+
             for (MavenProject project : reactorProjects) {
                 String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
 
-                String nextVersion = resolveNextVersion(project, projectId, releaseDescriptor, releaseEnvironment);
+                String nextVersion = resolveNextVersion(
+                        project,
+                        projectId,
+                        releaseDescriptor,
+                        suggestedVersions.get(projectId),
+                        accepted,
+                        policyRequest);
 
                 if (!convertToSnapshot) {
                     releaseDescriptor.addReleaseVersion(projectId, nextVersion);
@@ -185,65 +221,220 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
         return result;
     }
 
-    private String resolveNextVersion(
-            MavenProject project,
-            String projectId,
-            ReleaseDescriptor releaseDescriptor,
-            ReleaseEnvironment releaseEnvironment)
+    /**
+     * Asks the version policy for the suggested versions of all projects needing one at once, so expensive context
+     * is only computed once for the reactor, before any prompt. Policies without batch support are asked for one
+     * project after the other, or for all projects concurrently if they are a {@link ConcurrentVersionPolicy}. If a
+     * version cannot be parsed, the projects are asked for one by one when resolving their next version.
+     */
+    private Map<String, String> resolveSuggestedVersions(
+            List<MavenProject> projects, ReleaseDescriptor releaseDescriptor, PolicyRequestSupplier policyRequest)
             throws ReleaseExecutionException {
-        String defaultVersion;
+        Map<String, String> baseVersions = new LinkedHashMap<>();
+        for (MavenProject project : projects) {
+            String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
+            if (needsSuggestedVersion(project, projectId, releaseDescriptor)) {
+                baseVersions.put(projectId, getBaseVersion(project, projectId, releaseDescriptor));
+            }
+        }
+        if (baseVersions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, VersionPolicyResult> results;
+        try {
+            VersionPolicy policy = getVersionPolicy(releaseDescriptor);
+            BatchVersionPolicyRequest request = policyRequest.get();
+            request.setVersions(baseVersions);
+            if (policy instanceof ConcurrentVersionPolicy && !(policy instanceof BatchVersionPolicy)) {
+                results = resolveConcurrently(policy, request);
+            } else {
+                BatchVersionPolicy batchPolicy = BatchVersionPolicyAdapter.of(policy);
+                results = convertToSnapshot
+                        ? batchPolicy.getDevelopmentVersions(request)
+                        : batchPolicy.getReleaseVersions(request);
+            }
+        } catch (VersionParseException e) {
+            getLogger().debug("Resolving suggested versions one by one: {}", e.getMessage());
+            return Collections.emptyMap();
+        } catch (PolicyException e) {
+            throw new ReleaseExecutionException(e.getMessage(), e);
+        }
+
+        Map<String, String> suggestedVersions = new HashMap<>();
+        for (Map.Entry<String, VersionPolicyResult> result : results.entrySet()) {
+            if (result.getValue() != null) {
+                suggestedVersions.put(result.getKey(), result.getValue().getVersion());
+            }
+        }
+        return suggestedVersions;
+    }
+
+    private Map<String, VersionPolicyResult> resolveConcurrently(
+            final VersionPolicy policy, final BatchVersionPolicyRequest policyRequest)
+            throws PolicyException, VersionParseException, ReleaseExecutionException {
+        Map<String, String> versions = policyRequest.getVersions();
+        if (versions.size() == 1) {
+            BatchVersionPolicy batchPolicy = new BatchVersionPolicyAdapter(policy);
+            return convertToSnapshot
+                    ? batchPolicy.getDevelopmentVersions(policyRequest)
+                    : batchPolicy.getReleaseVersions(policyRequest);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(versions.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            Map<String, Future<VersionPolicyResult>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<String, String> version : versions.entrySet()) {
+                futures.put(version.getKey(), executor.submit(new Callable<VersionPolicyResult>() {
+                    @Override
+                    public VersionPolicyResult call() throws PolicyException, VersionParseException {
+                        VersionPolicyRequest request = policyRequest.createRequest(version.getValue());
+                        return convertToSnapshot
+                                ? policy.getDevelopmentVersion(request)
+                                : policy.getReleaseVersion(request);
+                    }
+                }));
+            }
+
+            Map<String, VersionPolicyResult> results = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<VersionPolicyResult>> future : futures.entrySet()) {
+                results.put(future.getKey(), future.getValue().get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseExecutionException("Interrupted while resolving the suggested versions", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PolicyException) {
+                throw (PolicyException) e.getCause();
+            }
+            if (e.getCause() instanceof VersionParseException) {
+                throw (VersionParseException) e.getCause();
+            }
+            throw new ReleaseExecutionException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Presents the suggested versions of all projects that would otherwise be prompted for one by one, to accept all
+     * of them with a single answer.
+     *
+     * @return whether the suggested versions are accepted
+     */
+    private boolean reviewSuggestedVersions(
+            List<MavenProject> projects, ReleaseDescriptor releaseDescriptor, Map<String, String> suggestedVersions)
+            throws ReleaseExecutionException {
+        if (!releaseDescriptor.isInteractive() || !releaseDescriptor.isReviewVersions()) {
+            return false;
+        }
+
+        StringBuilder message = new StringBuilder();
+        for (MavenProject project : projects) {
+            String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
+            String suggestedVersion = suggestedVersions.get(projectId);
+            if (suggestedVersion != null && ArtifactUtils.isSnapshot(suggestedVersion) == convertToSnapshot) {
+                message.append("  ")
+                        .append(buffer().project(projectId))
+                        .append(": ")
+                        .append(project.getVersion())
+                        .append(" -> ")
+                        .append(suggestedVersion)
+                        .append('\n');
+            }
+        }
+        if (message.length() == 0) {
+            return false;
+        }
+
+        message.insert(0, "Suggested " + getContextString(releaseDescriptor) + " versions:\n");
+        message.append("Accept all suggested versions?");
+        try {
+            return "y".equalsIgnoreCase(prompter.prompt(message.toString(), Arrays.asList("y", "n"), "y"));
+        } catch (PrompterException e) {
+            throw new ReleaseExecutionException("Error reading version from input handler: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether {@link #resolveNextVersion} will ask for a suggested version.
+     */
+    private boolean needsSuggestedVersion(MavenProject project, String projectId, ReleaseDescriptor releaseDescriptor) {
+        if (isVersionKept(project, releaseDescriptor)) {
+            return false;
+        }
+        String defaultVersion = getDefaultVersion(projectId, releaseDescriptor);
+        return defaultVersion == null
+                || (ArtifactUtils.isSnapshot(defaultVersion) != convertToSnapshot && releaseDescriptor.isInteractive());
+    }
+
+    private boolean isVersionKept(MavenProject project, ReleaseDescriptor releaseDescriptor) {
         if (convertToBranch) {
             // no branch modification
-            if (!(releaseDescriptor.isUpdateBranchVersions()
+            return !(releaseDescriptor.isUpdateBranchVersions()
                     && (ArtifactUtils.isSnapshot(project.getVersion())
-                            || releaseDescriptor.isUpdateVersionsToSnapshot()))) {
-                return project.getVersion();
-            }
-
-            defaultVersion = getReleaseVersion(projectId, releaseDescriptor);
+                            || releaseDescriptor.isUpdateVersionsToSnapshot()));
         } else if (!convertToSnapshot) // map-release-version
         {
-            defaultVersion = getReleaseVersion(projectId, releaseDescriptor);
+            return false;
         } else if (releaseDescriptor.isBranchCreation()) {
             // no working copy modification
-            if (!(ArtifactUtils.isSnapshot(project.getVersion()) && releaseDescriptor.isUpdateWorkingCopyVersions())) {
-                return project.getVersion();
-            }
-
-            defaultVersion = getDevelopmentVersion(projectId, releaseDescriptor);
+            return !(ArtifactUtils.isSnapshot(project.getVersion()) && releaseDescriptor.isUpdateWorkingCopyVersions());
         } else {
             // no working copy modification
-            if (!(releaseDescriptor.isUpdateWorkingCopyVersions())) {
-                return project.getVersion();
-            }
+            return !releaseDescriptor.isUpdateWorkingCopyVersions();
+        }
+    }
 
-            defaultVersion = getDevelopmentVersion(projectId, releaseDescriptor);
+    private String getDefaultVersion(String projectId, ReleaseDescriptor releaseDescriptor) {
+        if (convertToBranch || !convertToSnapshot) {
+            return getReleaseVersion(projectId, releaseDescriptor);
+        }
+        return getDevelopmentVersion(projectId, releaseDescriptor);
+    }
+
+    private String getBaseVersion(MavenProject project, String projectId, ReleaseDescriptor releaseDescriptor) {
+        String baseVersion = null;
+        if (convertToSnapshot) {
+            baseVersion = getReleaseVersion(projectId, releaseDescriptor);
+        }
+        // unspecified and unmapped version, so use project version
+        if (baseVersion == null) {
+            baseVersion = project.getVersion();
         }
+        return baseVersion;
+    }
+
+    private String resolveNextVersion(
+            MavenProject project,
+            String projectId,
+            ReleaseDescriptor releaseDescriptor,
+            String suggestedVersion,
+            boolean suggestionAccepted,
+            PolicyRequestSupplier policyRequest)
+            throws ReleaseExecutionException {
+        if (isVersionKept(project, releaseDescriptor)) {
+            return project.getVersion();
+        }
+
+        String defaultVersion = getDefaultVersion(projectId, releaseDescriptor);
         // @todo validate default version, maybe with DefaultArtifactVersion
 
-        String suggestedVersion = null;
         String nextVersion = defaultVersion;
         String messageFormat = null;
         try {
             while (nextVersion == null || ArtifactUtils.isSnapshot(nextVersion) != convertToSnapshot) {
                 if (suggestedVersion == null) {
-                    String baseVersion = null;
-                    if (convertToSnapshot) {
-                        baseVersion = getReleaseVersion(projectId, releaseDescriptor);
-                    }
-                    // unspecified and unmapped version, so use project version
-                    if (baseVersion == null) {
-                        baseVersion = project.getVersion();
-                    }
+                    String baseVersion = getBaseVersion(project, projectId, releaseDescriptor);
 
                     try {
                         try {
-                            suggestedVersion =
-                                    resolveSuggestedVersion(baseVersion, releaseDescriptor, releaseEnvironment);
+                            suggestedVersion = resolveSuggestedVersion(baseVersion, releaseDescriptor, policyRequest);
                         } catch (VersionParseException e) {
                             if (releaseDescriptor.isInteractive()) {
-                                suggestedVersion =
-                                        resolveSuggestedVersion("1.0", releaseDescriptor, releaseEnvironment);
+                                suggestedVersion = resolveSuggestedVersion("1.0", releaseDescriptor, policyRequest);
                             } else {
                                 throw new ReleaseExecutionException(
                                         "Error parsing version, cannot determine next " + "version: " + e.getMessage(),
@@ -255,7 +446,9 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                     }
                 }
 
-                if (releaseDescriptor.isInteractive()) {
+                if (suggestionAccepted && ArtifactUtils.isSnapshot(suggestedVersion) == convertToSnapshot) {
+                    nextVersion = suggestedVersion;
+                } else if (releaseDescriptor.isInteractive()) {
                     if (messageFormat == null) {
                         messageFormat = "What is the " + getContextString(releaseDescriptor) + " version for \"%s\"? ("
                                 + buffer().project("%s") + ")";
@@ -291,16 +484,57 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
         return "new development";
     }
 
-    private String resolveSuggestedVersion(
-            String baseVersion, ReleaseDescriptor releaseDescriptor, ReleaseEnvironment releaseEnvironment)
-            throws PolicyException, VersionParseException {
-        String policyId = releaseDescriptor.getProjectVersionPolicyId();
-        VersionPolicy policy = versionPolicies.get(policyId);
-        if (policy == null) {
-            throw new PolicyException("Policy '" + policyId + "' is unknown, available: " + versionPolicies.keySet());
+    /**
+     * Creates the policy request with the context shared by all projects on first use, so the SCM repository is only
+     * configured when a version policy is actually asked for a suggested version.
+     */
+    private class PolicyRequestSupplier {
+        private final ReleaseDescriptor releaseDescriptor;
+
+        private final ReleaseEnvironment releaseEnvironment;
+
+        private BatchVersionPolicyRequest request;
+
+        PolicyRequestSupplier(ReleaseDescriptor releaseDescriptor, ReleaseEnvironment releaseEnvironment) {
+            this.releaseDescriptor = releaseDescriptor;
+            this.releaseEnvironment = releaseEnvironment;
+        }
+
+        BatchVersionPolicyRequest get() {
+            if (request == null) {
+                request = createPolicyRequest(releaseDescriptor, releaseEnvironment);
+            }
+            return request;
         }
+    }
 
-        VersionPolicyRequest request = new VersionPolicyRequest().setVersion(baseVersion);
+    private ScmQueryCache openScmQueryCache(
+            ReleaseDescriptor releaseDescriptor, ScmRepository repository, ScmProvider provider) {
+        if (releaseDescriptor.getScmQueryCacheDirectory() == null) {
+            return null;
+        }
+
+        return ScmQueryCache.open(
+                new File(releaseDescriptor.getScmQueryCacheDirectory()),
+                releaseDescriptor.getScmSourceUrl(),
+                repository,
+                provider,
+                new File(releaseDescriptor.getWorkingDirectory()));
+    }
+
+    private ScmTagIndex createScmTagIndex(
+            ReleaseDescriptor releaseDescriptor, ScmRepository repository, ScmProvider provider) {
+        // tags are only listed when a policy asks for them, and then once for all modules
+        return new DefaultScmTagIndex(repository, provider, new File(releaseDescriptor.getWorkingDirectory()));
+    }
+
+    /**
+     * Creates the policy request with the context shared by all projects. The SCM repository is configured once, for
+     * the query cache, the tag index and the policy request.
+     */
+    private BatchVersionPolicyRequest createPolicyRequest(
+            ReleaseDescriptor releaseDescriptor, ReleaseEnvironment releaseEnvironment) {
+        BatchVersionPolicyRequest request = new BatchVersionPolicyRequest();
 
         if (releaseDescriptor.getProjectVersionPolicyConfig() != null) {
             request.setConfig(releaseDescriptor.getProjectVersionPolicyConfig().toString());
@@ -314,8 +548,12 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
 
                 ScmProvider provider = scmRepositoryConfigurator.getRepositoryProvider(repository);
 
+                ScmQueryCache scmQueryCache = openScmQueryCache(releaseDescriptor, repository, provider);
+                ScmProvider queryProvider = scmQueryCache != null ? scmQueryCache.decorate(provider) : provider;
+
                 request.setScmRepository(repository);
-                request.setScmProvider(provider);
+                request.setScmProvider(queryProvider);
+                request.setScmTagIndex(createScmTagIndex(releaseDescriptor, repository, queryProvider));
             } catch (ScmRepositoryException | NoSuchScmProviderException e) {
                 Logger logger = getLogger();
                 if (logger.isWarnEnabled()) {
@@ -327,6 +565,25 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                 }
             }
         }
+        return request;
+    }
+
+    private VersionPolicy getVersionPolicy(ReleaseDescriptor releaseDescriptor) throws PolicyException {
+        String policyId = releaseDescriptor.getProjectVersionPolicyId();
+        VersionPolicy policy = versionPolicies.get(policyId);
+        if (policy == null) {
+            throw new PolicyException("Policy '" + policyId + "' is unknown, available: " + versionPolicies.keySet());
+        }
+        return policy;
+    }
+
+    private String resolveSuggestedVersion(
+            String baseVersion, ReleaseDescriptor releaseDescriptor, PolicyRequestSupplier policyRequest)
+            throws PolicyException, VersionParseException {
+        VersionPolicy policy = getVersionPolicy(releaseDescriptor);
+
+        VersionPolicyRequest request = policyRequest.get().createRequest(baseVersion);
+
         return convertToSnapshot
                 ? policy.getDevelopmentVersion(request).getVersion()
                 : policy.getReleaseVersion(request).getVersion();
@@ -19,9 +19,12 @@
 package org.apache.maven.shared.release.phase;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -59,7 +62,9 @@ import org.apache.maven.shared.release.transform.MavenCoordinate;
 import org.apache.maven.shared.release.transform.ModelETL;
 import org.apache.maven.shared.release.transform.ModelETLFactory;
 import org.apache.maven.shared.release.transform.ModelETLRequest;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 import org.apache.maven.shared.release.transform.jdom2.JDomModelETLFactory;
+import org.apache.maven.shared.release.util.AtomicFiles;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.util.StringUtils;
 
@@ -79,6 +84,11 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
 
     private final Map<String, ModelETLFactory> modelETLFactories;
 
+    /**
+     * Holds the transformed POMs of a dry run in memory.
+     */
+    private final PomSnapshotStore pomSnapshotStore;
+
     /**
      * SCM URL translators mapped by provider name.
      */
@@ -89,14 +99,19 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
      */
     private String modelETL = JDomModelETLFactory.NAME;
 
-    private long startTime = -1 * 1000;
+    /**
+     * The clock giving the start time of each run, which is the default <code>project.build.outputTimestamp</code>.
+     */
+    private Clock clock = Clock.systemUTC();
 
     protected AbstractRewritePomsPhase(
             ScmRepositoryConfigurator scmRepositoryConfigurator,
             Map<String, ModelETLFactory> modelETLFactories,
-            Map<String, ScmTranslator> scmTranslators) {
+            Map<String, ScmTranslator> scmTranslators,
+            PomSnapshotStore pomSnapshotStore) {
         this.scmRepositoryConfigurator = requireNonNull(scmRepositoryConfigurator);
         this.modelETLFactories = requireNonNull(modelETLFactories);
+        this.pomSnapshotStore = requireNonNull(pomSnapshotStore);
         this.scmTranslators = requireNonNull(scmTranslators);
     }
 
@@ -119,12 +134,12 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
     }
 
     /**
-     * <p>Setter for the field <code>startTime</code>.</p>
+     * For easier testing only!
      *
-     * @param startTime a long
+     * @param clock the clock giving the start time of each run
      */
-    public void setStartTime(long startTime) {
-        this.startTime = startTime;
+    public void setClock(Clock clock) {
+        this.clock = requireNonNull(clock);
     }
 
     /**
@@ -193,19 +208,29 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
             boolean simulate,
             ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
-        result.setStartTime((startTime >= 0) ? startTime : System.currentTimeMillis());
+        result.setStartTime(clock.millis());
 
         URI root = ReleaseUtil.getRootProject(reactorProjects).getBasedir().toURI();
 
-        for (MavenProject project : reactorProjects) {
-            URI pom = project.getFile().toURI();
-            logInfo(
-                    result,
-                    "Transforming " + root.relativize(pom).getPath() + ' '
-                            + buffer().project(project.getArtifactId()) + " '" + project.getName() + "'"
-                            + (simulate ? " with ." + getPomSuffix() + " suffix" : "") + "...");
+        // all POMs are replaced at once after the whole reactor has been transformed
+        AtomicFiles.Batch pomWrites = new AtomicFiles.Batch();
+        try {
+            for (MavenProject project : reactorProjects) {
+                URI pom = project.getFile().toURI();
+                logInfo(
+                        result,
+                        "Transforming " + root.relativize(pom).getPath() + ' '
+                                + buffer().project(project.getArtifactId()) + " '" + project.getName() + "'"
+                                + (simulate ? getSimulationTarget(releaseDescriptor) : "") + "...");
 
-            transformProject(project, releaseDescriptor, releaseEnvironment, simulate, result);
+                transformProject(project, releaseDescriptor, releaseEnvironment, simulate, pomWrites, result);
+            }
+
+            pomWrites.commit();
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error writing POM: " + e.getMessage(), e);
+        } finally {
+            pomWrites.abort();
         }
     }
 
@@ -214,6 +239,7 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
             ReleaseDescriptor releaseDescriptor,
             ReleaseEnvironment releaseEnvironment,
             boolean simulate,
+            AtomicFiles.Batch pomWrites,
             ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
         File pomFile = ReleaseUtil.getStandardPom(project);
@@ -244,6 +270,21 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
 
         transformDocument(project, etl.getModel(), releaseDescriptor, scmRepository, result, simulate);
 
+        boolean inMemory = simulate && releaseDescriptor.isDryRunInMemory();
+        if (inMemory || releaseDescriptor.getPomDiffReport() != null) {
+            // snapshot before the POM is overwritten, so the original is still on disk
+            StringWriter writer = new StringWriter();
+            etl.load(writer);
+            try {
+                pomSnapshotStore.put(releaseDescriptor, pomFile, getPomSuffix(), writer.toString());
+            } catch (IOException e) {
+                throw new ReleaseExecutionException("Error reading POM: " + e.getMessage(), e);
+            }
+            if (inMemory) {
+                return;
+            }
+        }
+
         File outputFile;
         if (simulate) {
             outputFile = new File(pomFile.getParentFile(), pomFile.getName() + "." + getPomSuffix());
@@ -251,7 +292,11 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
             outputFile = pomFile;
             prepareScm(pomFile, releaseDescriptor, scmRepository, provider);
         }
-        etl.load(outputFile);
+        etl.load(pomWrites.add(outputFile));
+    }
+
+    private String getSimulationTarget(ReleaseDescriptor releaseDescriptor) {
+        return releaseDescriptor.isDryRunInMemory() ? " in memory" : " with ." + getPomSuffix() + " suffix";
     }
 
     private void transformDocument(
@@ -21,6 +21,7 @@ package org.apache.maven.shared.release.phase;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.ReleaseExecutionException;
@@ -40,6 +41,10 @@ import static org.apache.maven.shared.utils.logging.MessageUtils.buffer;
  * @author <a href="mailto:brett@apache.org">Brett Porter</a>
  */
 public abstract class AbstractRunGoalsPhase extends AbstractReleasePhase {
+    private static final String AUTO_THREADS = "auto";
+
+    private static final Pattern THREADS_PATTERN = Pattern.compile("\\d+(\\.\\d+)?C?");
+
     /**
      * Component to assist in executing Maven.
      */
@@ -59,7 +64,7 @@ public abstract class AbstractRunGoalsPhase extends AbstractReleasePhase {
                 releaseDescriptor,
                 releaseEnvironment,
                 new File(releaseDescriptor.getWorkingDirectory()),
-                getAdditionalArguments(releaseDescriptor),
+                addThreads(releaseDescriptor, reactorProjects, getAdditionalArguments(releaseDescriptor)),
                 logArguments);
     }
 
@@ -122,6 +127,68 @@ public abstract class AbstractRunGoalsPhase extends AbstractReleasePhase {
 
     protected abstract String getGoals(ReleaseDescriptor releaseDescriptor);
 
+    /**
+     * Gets the degree of parallelism configured for the goals of this phase.
+     *
+     * @param releaseDescriptor the release descriptor
+     * @return <code>auto</code>, a <code>-T</code> value or <code>null</code>
+     */
+    protected String getThreads(ReleaseDescriptor releaseDescriptor) {
+        return releaseDescriptor.getThreads();
+    }
+
+    /**
+     * Adds the degree of parallelism configured for this phase to the arguments, unless they already give one.
+     * <code>auto</code> builds as many projects in parallel as there are projects in the reactor, up to the number of
+     * available processors, and leaves a single project build alone.
+     *
+     * @param releaseDescriptor   the release descriptor
+     * @param reactorProjects     the reactor projects, may be <code>null</code>
+     * @param additionalArguments the arguments, may be <code>null</code>
+     * @return the arguments with <code>-T</code>, or the arguments as they are
+     * @throws ReleaseExecutionException if the configured degree of parallelism is invalid
+     */
+    protected String addThreads(
+            ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects, String additionalArguments)
+            throws ReleaseExecutionException {
+        String threads = getThreads(releaseDescriptor);
+        if (threads == null || threads.isEmpty() || hasThreadsArgument(additionalArguments)) {
+            return additionalArguments;
+        }
+
+        String degree;
+        if (AUTO_THREADS.equals(threads)) {
+            int projects = reactorProjects != null ? reactorProjects.size() : 1;
+            int parallelism = Math.min(projects, Runtime.getRuntime().availableProcessors());
+            if (parallelism <= 1) {
+                return additionalArguments;
+            }
+            degree = String.valueOf(parallelism);
+        } else if (THREADS_PATTERN.matcher(threads).matches()) {
+            degree = threads;
+        } else {
+            throw new ReleaseExecutionException(
+                    "Invalid threads '" + threads + "': expected auto or a -T value like 4 or 1C");
+        }
+
+        String argument = "-T " + degree;
+        return additionalArguments == null || additionalArguments.isEmpty()
+                ? argument
+                : additionalArguments + " " + argument;
+    }
+
+    private static boolean hasThreadsArgument(String additionalArguments) {
+        if (additionalArguments == null) {
+            return false;
+        }
+        for (String argument : additionalArguments.trim().split("\\s+")) {
+            if (argument.startsWith("-T") || argument.equals("--threads") || argument.startsWith("--threads=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected String getAdditionalArguments(ReleaseDescriptor releaseDescriptor) {
         StringBuilder builder = new StringBuilder();
 
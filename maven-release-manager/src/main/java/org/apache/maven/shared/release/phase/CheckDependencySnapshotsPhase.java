@@ -84,11 +84,6 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
     // as PluginCollector
     // @TODO MRELEASE-763: verify all dependencies in inactive profiles
 
-    // Don't prompt for every project in reactor, remember state of questions
-    private String resolveSnapshot;
-
-    private String resolveSnapshotType;
-
     @Inject
     public CheckDependencySnapshotsPhase(Prompter prompter) {
         this.prompter = new AtomicReference<>(requireNonNull(prompter));
@@ -112,8 +107,10 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
         if (!releaseDescriptor.isAllowTimestampedSnapshots()) {
             logInfo(result, "Checking dependencies and plugins for snapshots ...");
 
+            // Don't prompt for every project in reactor, remember state of questions for this run
+            SnapshotAnswers answers = new SnapshotAnswers();
             for (MavenProject project : reactorProjects) {
-                checkProject(project, releaseDescriptor);
+                checkProject(project, releaseDescriptor, answers);
             }
         } else {
             logInfo(result, "Ignoring SNAPSHOT dependencies and plugins ...");
@@ -123,7 +120,7 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
         return result;
     }
 
-    private void checkProject(MavenProject project, ReleaseDescriptor releaseDescriptor)
+    private void checkProject(MavenProject project, ReleaseDescriptor releaseDescriptor, SnapshotAnswers answers)
             throws ReleaseFailureException, ReleaseExecutionException {
         Map<String, Artifact> artifactMap = ArtifactUtils.artifactMapByVersionlessId(project.getArtifacts());
 
@@ -163,7 +160,8 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
                         usedSnapshotReports,
                         usedSnapshotExtensions,
                         usedSnapshotPlugins,
-                        releaseDescriptor);
+                        releaseDescriptor,
+                        answers);
             }
 
             if (!usedSnapshotDependencies.isEmpty()
@@ -335,22 +333,24 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
             Set<Artifact> reportDependencies,
             Set<Artifact> extensionDependencies,
             Set<Artifact> pluginDependencies,
-            ReleaseDescriptor releaseDescriptor)
+            ReleaseDescriptor releaseDescriptor,
+            SnapshotAnswers answers)
             throws ReleaseExecutionException {
         try {
             String autoResolveSnapshots = releaseDescriptor.getAutoResolveSnapshots();
-            if (resolveSnapshot == null) {
+            if (answers.resolveSnapshot == null) {
                 prompter.get().showMessage(RESOLVE_SNAPSHOT_MESSAGE);
                 if (autoResolveSnapshots != null) {
-                    resolveSnapshot = "yes";
-                    prompter.get().showMessage(RESOLVE_SNAPSHOT_PROMPT + " " + resolveSnapshot);
+                    answers.resolveSnapshot = "yes";
+                    prompter.get().showMessage(RESOLVE_SNAPSHOT_PROMPT + " " + answers.resolveSnapshot);
                 } else {
-                    resolveSnapshot = prompter.get().prompt(RESOLVE_SNAPSHOT_PROMPT, Arrays.asList("yes", "no"), "no");
+                    answers.resolveSnapshot =
+                            prompter.get().prompt(RESOLVE_SNAPSHOT_PROMPT, Arrays.asList("yes", "no"), "no");
                 }
             }
 
-            if (resolveSnapshot.toLowerCase(Locale.ENGLISH).startsWith("y")) {
-                if (resolveSnapshotType == null) {
+            if (answers.resolveSnapshot.toLowerCase(Locale.ENGLISH).startsWith("y")) {
+                if (answers.resolveSnapshotType == null) {
                     prompter.get().showMessage(RESOLVE_SNAPSHOT_TYPE_MESSAGE);
                     int defaultAnswer = -1;
                     if (autoResolveSnapshots != null) {
@@ -374,14 +374,14 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
                     }
                     if (defaultAnswer >= 0 && defaultAnswer <= 4) {
                         prompter.get().showMessage(RESOLVE_SNAPSHOT_TYPE_PROMPT + " " + autoResolveSnapshots);
-                        resolveSnapshotType = Integer.toString(defaultAnswer);
+                        answers.resolveSnapshotType = Integer.toString(defaultAnswer);
                     } else {
-                        resolveSnapshotType = prompter.get()
+                        answers.resolveSnapshotType = prompter.get()
                                 .prompt(RESOLVE_SNAPSHOT_TYPE_PROMPT, Arrays.asList("0", "1", "2", "3"), "1");
                     }
                 }
 
-                switch (Integer.parseInt(resolveSnapshotType.toLowerCase(Locale.ENGLISH))) {
+                switch (Integer.parseInt(answers.resolveSnapshotType.toLowerCase(Locale.ENGLISH))) {
                         // all
                     case 0:
                         processSnapshot(projectDependencies, releaseDescriptor, autoResolveSnapshots);
@@ -468,4 +468,13 @@ public class CheckDependencySnapshotsPhase extends AbstractReleasePhase {
             releaseDescriptor.addDependencyDevelopmentVersion(versionlessKey, result);
         }
     }
+
+    /**
+     * The answers to the snapshot questions, asked once per release rather than once per project.
+     */
+    private static class SnapshotAnswers {
+        private String resolveSnapshot;
+
+        private String resolveSnapshotType;
+    }
 }
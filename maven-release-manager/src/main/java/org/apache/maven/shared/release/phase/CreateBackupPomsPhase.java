@@ -21,8 +21,15 @@ package org.apache.maven.shared.release.phase;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.ReleaseExecutionException;
@@ -30,6 +37,8 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.util.AtomicFiles;
+import org.apache.maven.shared.release.util.Digests;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.util.FileUtils;
 
@@ -50,10 +59,16 @@ public class CreateBackupPomsPhase extends AbstractBackupPomsPhase implements Re
         // remove previous backups, if any
         clean(reactorProjects);
 
-        logInfo(result, "Creating pom.xml backup with " + BACKUP_SUFFIX + " suffix");
+        if (releaseDescriptor != null && releaseDescriptor.isContentAddressedPomBackups()) {
+            logInfo(result, "Creating pom.xml backup in " + BACKUP_DIRECTORY);
 
-        for (MavenProject project : reactorProjects) {
-            createPomBackup(project);
+            createPomBackups(reactorProjects);
+        } else {
+            logInfo(result, "Creating pom.xml backup with " + BACKUP_SUFFIX + " suffix");
+
+            for (MavenProject project : reactorProjects) {
+                createPomBackup(project);
+            }
         }
 
         result.setResultCode(ReleaseResult.SUCCESS);
@@ -65,6 +80,16 @@ public class CreateBackupPomsPhase extends AbstractBackupPomsPhase implements Re
     public ReleaseResult clean(List<MavenProject> reactorProjects) {
         ReleaseResult result = new ReleaseResult();
 
+        File backupDirectory = getPomBackupDirectory(reactorProjects);
+        if (backupDirectory.exists()) {
+            try {
+                FileUtils.deleteDirectory(backupDirectory);
+            } catch (IOException e) {
+                logWarn(result, "Unable to delete " + backupDirectory + ": " + e.getMessage());
+            }
+        }
+
+        // backups next to the POMs may be left over from a release made without content-addressed backups
         for (MavenProject project : reactorProjects) {
             deletePomBackup(project);
         }
@@ -80,6 +105,17 @@ public class CreateBackupPomsPhase extends AbstractBackupPomsPhase implements Re
             ReleaseEnvironment releaseEnvironment,
             List<MavenProject> reactorProjects)
             throws ReleaseExecutionException, ReleaseFailureException {
+        if (releaseDescriptor != null && releaseDescriptor.isDryRunInMemory()) {
+            ReleaseResult result = new ReleaseResult();
+
+            // the original POMs are never modified by an in-memory dry run
+            logInfo(result, "Full run would be creating pom.xml backups");
+
+            result.setResultCode(ReleaseResult.SUCCESS);
+
+            return result;
+        }
+
         return execute(releaseDescriptor, releaseEnvironment, reactorProjects);
     }
 
@@ -93,4 +129,36 @@ public class CreateBackupPomsPhase extends AbstractBackupPomsPhase implements Re
             throw new ReleaseExecutionException("Error creating backup POM: " + e.getMessage(), e);
         }
     }
+
+    private void createPomBackups(List<MavenProject> reactorProjects) throws ReleaseExecutionException {
+        File backupDirectory = getPomBackupDirectory(reactorProjects);
+
+        Properties index = new Properties();
+        Set<String> hashes = new HashSet<>();
+        try {
+            Files.createDirectories(getPomBackupObjectDirectory(backupDirectory).toPath());
+
+            for (MavenProject project : reactorProjects) {
+                byte[] content =
+                        Files.readAllBytes(ReleaseUtil.getStandardPom(project).toPath());
+                String hash = Digests.sha1(content);
+
+                // identical POMs are only stored once
+                if (hashes.add(hash)) {
+                    Files.write(getPomBackupObject(backupDirectory, hash).toPath(), content);
+                }
+                index.setProperty(getProjectKey(project), hash);
+            }
+
+            // the index is written last, so an interrupted backup is never restored
+            File indexFile = new File(backupDirectory, BACKUP_INDEX);
+            File tmp = AtomicFiles.getTemporaryFile(indexFile);
+            try (OutputStream out = new FileOutputStream(tmp)) {
+                index.store(out, "release POM backup");
+            }
+            AtomicFiles.commit(tmp, indexFile);
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error creating backup POM: " + e.getMessage(), e);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import javax.inject.Singleton;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -33,6 +34,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
@@ -64,6 +71,8 @@ import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.scm.ScmTranslator;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
+import org.apache.maven.shared.release.util.AtomicFiles;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.util.WriterFactory;
 
@@ -80,25 +89,42 @@ import static java.util.Objects.requireNonNull;
 public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implements ResourceGenerator {
     private static final String FINALNAME_EXPRESSION = "${project.artifactId}-${project.version}";
 
+    /**
+     * The maximum number of release POMs added to the SCM by a single command.
+     */
+    private static final int SCM_ADD_CHUNK_SIZE = 100;
+
     private final SuperPomProvider superPomProvider;
 
     private final ModelInterpolator modelInterpolator;
 
+    /**
+     * Holds the release POMs of a dry run in memory.
+     */
+    private final PomSnapshotStore pomSnapshotStore;
+
     /**
      * SCM URL translators mapped by provider name.
      */
     private final Map<String, ScmTranslator> scmTranslators;
 
+    /**
+     * Interpolated super models mapped by model version.
+     */
+    private final Map<String, SuperModelTemplate> superModelTemplates = new ConcurrentHashMap<>();
+
     @Inject
     public GenerateReleasePomsPhase(
             ScmRepositoryConfigurator scmRepositoryConfigurator,
             SuperPomProvider superPomProvider,
             ModelInterpolator modelInterpolator,
-            Map<String, ScmTranslator> scmTranslators) {
+            Map<String, ScmTranslator> scmTranslators,
+            PomSnapshotStore pomSnapshotStore) {
         super(scmRepositoryConfigurator);
         this.superPomProvider = requireNonNull(superPomProvider);
         this.modelInterpolator = requireNonNull(modelInterpolator);
         this.scmTranslators = requireNonNull(scmTranslators);
+        this.pomSnapshotStore = requireNonNull(pomSnapshotStore);
     }
 
     /*
@@ -136,51 +162,159 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
     }
 
     private void generateReleasePoms(
-            ReleaseDescriptor releaseDescriptor,
-            ReleaseEnvironment releaseEnvironment,
+            final ReleaseDescriptor releaseDescriptor,
+            final ReleaseEnvironment releaseEnvironment,
             List<MavenProject> reactorProjects,
-            boolean simulate,
+            final boolean simulate,
             ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
+        final boolean inMemory = simulate && releaseDescriptor.isDryRunInMemory();
+        final boolean snapshot = inMemory || releaseDescriptor.getPomDiffReport() != null;
+
         List<File> releasePoms = new ArrayList<>();
+        List<Callable<GeneratedReleasePom>> tasks = new ArrayList<>();
+        AtomicFiles.Batch batch = new AtomicFiles.Batch();
+        for (final MavenProject project : reactorProjects) {
+            final File releasePomFile = ReleaseUtil.getReleasePom(project);
 
-        for (MavenProject project : reactorProjects) {
-            logInfo(result, "Generating release POM for '" + project.getName() + "'...");
+            // MRELEASE-273 : A release pom can be null
+            if (releasePomFile == null) {
+                throw new ReleaseExecutionException("Cannot generate release POM : pom file is null");
+            }
+
+            releasePoms.add(releasePomFile);
+            final File temporaryFile = inMemory ? null : batch.add(releasePomFile);
+            tasks.add(new Callable<GeneratedReleasePom>() {
+                @Override
+                public GeneratedReleasePom call() throws ReleaseExecutionException, ReleaseFailureException {
+                    return generateReleasePom(project, releaseDescriptor, releaseEnvironment, temporaryFile, snapshot);
+                }
+            });
+        }
 
-            releasePoms.add(generateReleasePom(project, releaseDescriptor, releaseEnvironment, result));
+        try {
+            // the release POMs are only renamed into place once all of them have been generated
+            List<GeneratedReleasePom> generatedPoms = invokeAll(tasks);
+            for (int i = 0; i < generatedPoms.size(); i++) {
+                MavenProject project = reactorProjects.get(i);
+                GeneratedReleasePom generatedPom = generatedPoms.get(i);
+
+                logInfo(result, "Generating release POM for '" + project.getName() + "'...");
+                result.appendOutput(generatedPom.result.getOutput());
+
+                if (generatedPom.content != null) {
+                    pomSnapshotStore.put(
+                            releaseDescriptor,
+                            ReleaseUtil.getStandardPom(project),
+                            releasePoms.get(i).getName(),
+                            generatedPom.content);
+                }
+            }
+            batch.commit();
+        } catch (IOException exception) {
+            throw new ReleaseExecutionException("Cannot generate release POM", exception);
+        } finally {
+            batch.abort();
         }
 
         addReleasePomsToScm(releaseDescriptor, releaseEnvironment, reactorProjects, simulate, result, releasePoms);
     }
 
-    private File generateReleasePom(
+    /**
+     * Runs the tasks concurrently, on no more threads than processors.
+     *
+     * @return the results of the tasks, in the order of the tasks
+     */
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        List<T> results = new ArrayList<>(tasks.size());
+        if (tasks.size() < 2) {
+            for (Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseExecutionException("Interrupted while generating release POMs", e);
+        } catch (ExecutionException e) {
+            rethrow(e.getCause());
+            throw new ReleaseExecutionException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T call(Callable<T> task) throws ReleaseExecutionException, ReleaseFailureException {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            rethrow(e);
+            throw new ReleaseExecutionException(e.getMessage(), e);
+        }
+    }
+
+    private static void rethrow(Throwable cause) throws ReleaseExecutionException, ReleaseFailureException {
+        if (cause instanceof ReleaseExecutionException) {
+            throw (ReleaseExecutionException) cause;
+        }
+        if (cause instanceof ReleaseFailureException) {
+            throw (ReleaseFailureException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * Creates the release POM of a project, and writes it to the temporary file if any.
+     */
+    private GeneratedReleasePom generateReleasePom(
             MavenProject project,
             ReleaseDescriptor releaseDescriptor,
             ReleaseEnvironment releaseEnvironment,
-            ReleaseResult result)
+            File temporaryFile,
+            boolean snapshot)
             throws ReleaseExecutionException, ReleaseFailureException {
         // create release pom
 
+        ReleaseResult result = new ReleaseResult();
         Model releasePom = createReleaseModel(project, releaseDescriptor, releaseEnvironment, result);
 
         // write release pom to file
 
         MavenXpp3Writer pomWriter = new MavenXpp3Writer();
 
-        File releasePomFile = ReleaseUtil.getReleasePom(project);
-
-        // MRELEASE-273 : A release pom can be null
-        if (releasePomFile == null) {
-            throw new ReleaseExecutionException("Cannot generate release POM : pom file is null");
-        }
+        String content = null;
+        try {
+            if (snapshot) {
+                StringWriter writer = new StringWriter();
+                pomWriter.write(writer, releasePom);
+                content = writer.toString();
+            }
 
-        try (Writer fileWriter = WriterFactory.newXmlWriter(releasePomFile)) {
-            pomWriter.write(fileWriter, releasePom);
+            if (temporaryFile != null) {
+                try (Writer fileWriter = WriterFactory.newXmlWriter(temporaryFile)) {
+                    pomWriter.write(fileWriter, releasePom);
+                }
+            }
         } catch (IOException exception) {
             throw new ReleaseExecutionException("Cannot generate release POM", exception);
         }
 
-        return releasePomFile;
+        return new GeneratedReleasePom(result, content);
     }
 
     private void addReleasePomsToScm(
@@ -198,17 +332,23 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
             ScmProvider scmProvider = getScmProvider(scmRepository);
 
             MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
-            ScmFileSet scmFileSet = new ScmFileSet(rootProject.getFile().getParentFile(), releasePoms);
+            File basedir = rootProject.getFile().getParentFile();
 
-            try {
-                AddScmResult scmResult = scmProvider.add(scmRepository, scmFileSet);
+            // chunked, as some providers pass the files on a command line of limited length
+            for (int from = 0; from < releasePoms.size(); from += SCM_ADD_CHUNK_SIZE) {
+                List<File> chunk = releasePoms.subList(from, Math.min(from + SCM_ADD_CHUNK_SIZE, releasePoms.size()));
+                ScmFileSet scmFileSet = new ScmFileSet(basedir, new ArrayList<>(chunk));
 
-                if (!scmResult.isSuccess()) {
-                    throw new ReleaseScmCommandException("Cannot add release POM to SCM", scmResult);
+                try {
+                    AddScmResult scmResult = scmProvider.add(scmRepository, scmFileSet);
+
+                    if (!scmResult.isSuccess()) {
+                        throw new ReleaseScmCommandException("Cannot add release POM to SCM", scmResult);
+                    }
+                } catch (ScmException exception) {
+                    throw new ReleaseExecutionException(
+                            "Cannot add release POM to SCM: " + exception.getMessage(), exception);
                 }
-            } catch (ScmException exception) {
-                throw new ReleaseExecutionException(
-                        "Cannot add release POM to SCM: " + exception.getMessage(), exception);
             }
         }
     }
@@ -291,88 +431,106 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
     }
 
     private void unalignFromBaseDirectory(Model releaseModel, File basedir) {
-        Model rawSuperModel = superPomProvider.getSuperModel(releaseModel.getModelVersion());
-
-        ModelBuildingRequest buildingRequest = new DefaultModelBuildingRequest();
-        buildingRequest.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_STRICT);
-
-        // inject proper values used by project.build.finalName
-        Properties properties = new Properties();
-        properties.put("project.version", releaseModel.getVersion());
-        properties.put("project.artifactId", releaseModel.getArtifactId());
-        buildingRequest.setUserProperties(properties);
-
-        Model interpolatedSuperModel =
-                modelInterpolator.interpolateModel(rawSuperModel.clone(), basedir, buildingRequest, null);
+        SuperModelTemplate superModel = getSuperModelTemplate(releaseModel.getModelVersion());
+        Model rawSuperModel = superModel.rawModel;
+        Build rawSuperBuild = rawSuperModel.getBuild();
+        Build templateSuperBuild = superModel.interpolatedModel.getBuild();
 
         Build currentBuild = releaseModel.getBuild();
-        Build interpolatedSuperBuild = interpolatedSuperModel.getBuild();
-        Build rawSuperBuild = rawSuperModel.getBuild();
+        Path basedirPath = basedir.toPath();
+        String basedirValue = basedir.getAbsolutePath();
+        String artifactId = releaseModel.getArtifactId();
+        String version = releaseModel.getVersion();
 
         currentBuild.setSourceDirectory(resolvePath(
-                basedir.toPath(),
+                basedirPath,
                 currentBuild.getSourceDirectory(),
-                interpolatedSuperBuild.getSourceDirectory(),
+                superModel.resolve(templateSuperBuild.getSourceDirectory(), basedirValue, artifactId, version),
                 rawSuperBuild.getSourceDirectory()));
         currentBuild.setScriptSourceDirectory(resolvePath(
-                basedir.toPath(),
+                basedirPath,
                 currentBuild.getScriptSourceDirectory(),
-                interpolatedSuperBuild.getScriptSourceDirectory(),
+                superModel.resolve(templateSuperBuild.getScriptSourceDirectory(), basedirValue, artifactId, version),
                 rawSuperBuild.getScriptSourceDirectory()));
         currentBuild.setTestSourceDirectory(resolvePath(
-                basedir.toPath(),
+                basedirPath,
                 currentBuild.getTestSourceDirectory(),
-                interpolatedSuperBuild.getTestSourceDirectory(),
+                superModel.resolve(templateSuperBuild.getTestSourceDirectory(), basedirValue, artifactId, version),
                 rawSuperBuild.getTestSourceDirectory()));
         currentBuild.setOutputDirectory(resolvePath(
-                basedir.toPath(),
+                basedirPath,
                 currentBuild.getOutputDirectory(),
-                interpolatedSuperBuild.getOutputDirectory(),
+                superModel.resolve(templateSuperBuild.getOutputDirectory(), basedirValue, artifactId, version),
                 rawSuperBuild.getOutputDirectory()));
         currentBuild.setTestOutputDirectory(resolvePath(
-                basedir.toPath(),
+                basedirPath,
                 currentBuild.getTestOutputDirectory(),
-                interpolatedSuperBuild.getTestOutputDirectory(),
+                superModel.resolve(templateSuperBuild.getTestOutputDirectory(), basedirValue, artifactId, version),
                 rawSuperBuild.getTestOutputDirectory()));
         currentBuild.setDirectory(resolvePath(
-                basedir.toPath(),
+                basedirPath,
                 currentBuild.getDirectory(),
-                interpolatedSuperBuild.getDirectory(),
+                superModel.resolve(templateSuperBuild.getDirectory(), basedirValue, artifactId, version),
                 rawSuperBuild.getDirectory()));
 
-        for (Resource currentResource : currentBuild.getResources()) {
+        if (!currentBuild.getResources().isEmpty()) {
             Map<String, String> superResourceDirectories =
-                    new LinkedHashMap<>(interpolatedSuperBuild.getResources().size());
-            for (int i = 0; i < interpolatedSuperBuild.getResources().size(); i++) {
-                superResourceDirectories.put(
-                        interpolatedSuperBuild.getResources().get(i).getDirectory(),
-                        rawSuperBuild.getResources().get(i).getDirectory());
+                    superModel.resolve(superModel.resourceDirectories, basedirValue, artifactId, version);
+            for (Resource currentResource : currentBuild.getResources()) {
+                currentResource.setDirectory(
+                        resolvePath(basedirPath, currentResource.getDirectory(), superResourceDirectories));
             }
-            currentResource.setDirectory(
-                    resolvePath(basedir.toPath(), currentResource.getDirectory(), superResourceDirectories));
         }
 
-        for (Resource currentResource : currentBuild.getTestResources()) {
-            Map<String, String> superResourceDirectories = new LinkedHashMap<>(
-                    interpolatedSuperBuild.getTestResources().size());
-            for (int i = 0; i < interpolatedSuperBuild.getTestResources().size(); i++) {
-                superResourceDirectories.put(
-                        interpolatedSuperBuild.getTestResources().get(i).getDirectory(),
-                        rawSuperBuild.getTestResources().get(i).getDirectory());
+        if (!currentBuild.getTestResources().isEmpty()) {
+            Map<String, String> superTestResourceDirectories =
+                    superModel.resolve(superModel.testResourceDirectories, basedirValue, artifactId, version);
+            for (Resource currentResource : currentBuild.getTestResources()) {
+                currentResource.setDirectory(
+                        resolvePath(basedirPath, currentResource.getDirectory(), superTestResourceDirectories));
             }
-            currentResource.setDirectory(
-                    resolvePath(basedir.toPath(), currentResource.getDirectory(), superResourceDirectories));
         }
 
         releaseModel
                 .getReporting()
                 .setOutputDirectory(resolvePath(
-                        basedir.toPath(),
+                        basedirPath,
                         releaseModel.getReporting().getOutputDirectory(),
-                        interpolatedSuperModel.getReporting().getOutputDirectory(),
+                        superModel.resolve(
+                                superModel.interpolatedModel.getReporting().getOutputDirectory(),
+                                basedirValue,
+                                artifactId,
+                                version),
                         rawSuperModel.getReporting().getOutputDirectory()));
     }
 
+    /**
+     * Interpolates the super POM of the model version only the first time it is needed: the interpolated super
+     * model only differs between projects by their base directory, artifact id and version.
+     */
+    private SuperModelTemplate getSuperModelTemplate(String modelVersion) {
+        SuperModelTemplate template = superModelTemplates.get(modelVersion);
+        if (template == null) {
+            Model rawSuperModel = superPomProvider.getSuperModel(modelVersion);
+
+            ModelBuildingRequest buildingRequest = new DefaultModelBuildingRequest();
+            buildingRequest.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_STRICT);
+
+            // inject placeholders for the values used by project.build.finalName
+            Properties properties = new Properties();
+            properties.put("project.version", SuperModelTemplate.VERSION);
+            properties.put("project.artifactId", SuperModelTemplate.ARTIFACT_ID);
+            buildingRequest.setUserProperties(properties);
+
+            Model interpolatedSuperModel = modelInterpolator.interpolateModel(
+                    rawSuperModel.clone(), SuperModelTemplate.BASEDIR, buildingRequest, null);
+
+            template = new SuperModelTemplate(rawSuperModel, interpolatedSuperModel);
+            superModelTemplates.putIfAbsent(modelVersion, template);
+        }
+        return template;
+    }
+
     private String resolvePath(Path basedir, String current, String superInterpolated, String superRaw) {
         return basedir.resolve(current).equals(basedir.resolve(superInterpolated)) ? superRaw : current;
     }
@@ -646,4 +804,74 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
 
         return result;
     }
+
+    /**
+     * Super model interpolated with placeholders for the base directory, artifact id and version of the project,
+     * which are substituted to get the values of a given project.
+     */
+    private static final class SuperModelTemplate {
+        private static final File BASEDIR = new File("@project.basedir@").getAbsoluteFile();
+
+        private static final String ARTIFACT_ID = "@project.artifactId@";
+
+        private static final String VERSION = "@project.version@";
+
+        private final Model rawModel;
+
+        private final Model interpolatedModel;
+
+        private final Map<String /* interpolated */, String /* raw */> resourceDirectories;
+
+        private final Map<String /* interpolated */, String /* raw */> testResourceDirectories;
+
+        SuperModelTemplate(Model rawModel, Model interpolatedModel) {
+            this.rawModel = rawModel;
+            this.interpolatedModel = interpolatedModel;
+            this.resourceDirectories = toDirectories(
+                    interpolatedModel.getBuild().getResources(),
+                    rawModel.getBuild().getResources());
+            this.testResourceDirectories = toDirectories(
+                    interpolatedModel.getBuild().getTestResources(),
+                    rawModel.getBuild().getTestResources());
+        }
+
+        private static Map<String, String> toDirectories(List<Resource> interpolated, List<Resource> raw) {
+            Map<String, String> directories = new LinkedHashMap<>(interpolated.size());
+            for (int i = 0; i < interpolated.size(); i++) {
+                directories.put(interpolated.get(i).getDirectory(), raw.get(i).getDirectory());
+            }
+            return directories;
+        }
+
+        String resolve(String value, String basedir, String artifactId, String version) {
+            if (value == null) {
+                return null;
+            }
+            return value.replace(BASEDIR.getPath(), basedir)
+                    .replace(ARTIFACT_ID, artifactId)
+                    .replace(VERSION, version);
+        }
+
+        Map<String, String> resolve(Map<String, String> values, String basedir, String artifactId, String version) {
+            Map<String, String> resolved = new LinkedHashMap<>(values.size());
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                resolved.put(resolve(value.getKey(), basedir, artifactId, version), value.getValue());
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * A release POM generated for a project, with the messages logged meanwhile.
+     */
+    private static final class GeneratedReleasePom {
+        private final ReleaseResult result;
+
+        private final String content;
+
+        GeneratedReleasePom(ReleaseResult result, String content) {
+            this.result = result;
+            this.content = content;
+        }
+    }
 }
@@ -24,7 +24,10 @@ import javax.inject.Singleton;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Properties;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.ScmException;
@@ -42,6 +45,7 @@ import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.util.AtomicFiles;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.util.FileUtils;
 
@@ -71,8 +75,20 @@ public class RestoreBackupPomsPhase extends AbstractBackupPomsPhase {
             throws ReleaseExecutionException, ReleaseFailureException {
         ReleaseResult result = new ReleaseResult();
 
-        for (MavenProject project : reactorProjects) {
-            restorePomBackup(releaseDescriptor, releaseEnvironment, project);
+        File backupDirectory = getPomBackupDirectory(reactorProjects);
+        Properties index;
+        try {
+            index = readPomBackupIndex(backupDirectory);
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error reading backup POM index: " + e.getMessage(), e);
+        }
+
+        if (index != null) {
+            restorePomBackups(releaseDescriptor, releaseEnvironment, reactorProjects, backupDirectory, index);
+        } else {
+            for (MavenProject project : reactorProjects) {
+                restorePomBackup(releaseDescriptor, releaseEnvironment, project);
+            }
         }
 
         result.setResultCode(ReleaseResult.SUCCESS);
@@ -99,6 +115,53 @@ public class RestoreBackupPomsPhase extends AbstractBackupPomsPhase {
                     "Cannot restore from a missing backup POM: " + pomBackup.getAbsolutePath());
         }
 
+        enableEditMode(releaseDescriptor, releaseEnvironment, project);
+
+        try {
+            FileUtils.copyFile(getPomBackup(project), ReleaseUtil.getStandardPom(project));
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error restoring from backup POM: " + e.getMessage(), e);
+        }
+    }
+
+    private void restorePomBackups(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects,
+            File backupDirectory,
+            Properties index)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        // all POMs are staged next to their targets first and then renamed, so a failure restores none of them
+        AtomicFiles.Batch pomWrites = new AtomicFiles.Batch();
+        try {
+            for (MavenProject project : reactorProjects) {
+                String hash = index.getProperty(getProjectKey(project));
+                File pomBackup = hash != null ? getPomBackupObject(backupDirectory, hash) : null;
+
+                if (pomBackup == null || !pomBackup.exists()) {
+                    throw new ReleaseExecutionException("Cannot restore from a missing backup POM of "
+                            + getProjectKey(project) + " in " + backupDirectory.getAbsolutePath());
+                }
+
+                enableEditMode(releaseDescriptor, releaseEnvironment, project);
+
+                Files.copy(
+                        pomBackup.toPath(),
+                        pomWrites.add(ReleaseUtil.getStandardPom(project)).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            pomWrites.commit();
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error restoring from backup POM: " + e.getMessage(), e);
+        } finally {
+            pomWrites.abort();
+        }
+    }
+
+    private void enableEditMode(
+            ReleaseDescriptor releaseDescriptor, ReleaseEnvironment releaseEnvironment, MavenProject project)
+            throws ReleaseExecutionException, ReleaseFailureException {
         try {
             ScmRepository scmRepository;
             ScmProvider provider;
@@ -125,11 +188,5 @@ public class RestoreBackupPomsPhase extends AbstractBackupPomsPhase {
         } catch (ScmException e) {
             throw new ReleaseExecutionException("An error occurred enabling edit mode: " + e.getMessage(), e);
         }
-
-        try {
-            FileUtils.copyFile(getPomBackup(project), ReleaseUtil.getStandardPom(project));
-        } catch (IOException e) {
-            throw new ReleaseExecutionException("Error restoring from backup POM: " + e.getMessage(), e);
-        }
     }
 }
@@ -32,6 +32,7 @@ import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.scm.ScmTranslator;
 import org.apache.maven.shared.release.transform.ModelETLFactory;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 
 /**
  * Rewrite POMs for future development
@@ -45,8 +46,9 @@ public class RewritePomVersionsPhase extends AbstractRewritePomsPhase {
     public RewritePomVersionsPhase(
             ScmRepositoryConfigurator scmRepositoryConfigurator,
             Map<String, ModelETLFactory> modelETLFactories,
-            Map<String, ScmTranslator> scmTranslators) {
-        super(scmRepositoryConfigurator, modelETLFactories, scmTranslators);
+            Map<String, ScmTranslator> scmTranslators,
+            PomSnapshotStore pomSnapshotStore) {
+        super(scmRepositoryConfigurator, modelETLFactories, scmTranslators, pomSnapshotStore);
     }
 
     @Override
@@ -33,6 +33,7 @@ import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.scm.ScmTranslator;
 import org.apache.maven.shared.release.transform.ModelETLFactory;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 
 /**
  * Rewrite POMs for future development
@@ -46,8 +47,9 @@ public class RewritePomsForDevelopmentPhase extends AbstractRewritePomsPhase {
     public RewritePomsForDevelopmentPhase(
             ScmRepositoryConfigurator scmRepositoryConfigurator,
             Map<String, ModelETLFactory> modelETLFactories,
-            Map<String, ScmTranslator> scmTranslators) {
-        super(scmRepositoryConfigurator, modelETLFactories, scmTranslators);
+            Map<String, ScmTranslator> scmTranslators,
+            PomSnapshotStore pomSnapshotStore) {
+        super(scmRepositoryConfigurator, modelETLFactories, scmTranslators, pomSnapshotStore);
     }
 
     @Override
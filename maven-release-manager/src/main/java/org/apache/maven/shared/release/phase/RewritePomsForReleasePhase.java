@@ -39,6 +39,7 @@ import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.scm.ScmTranslator;
 import org.apache.maven.shared.release.transform.ModelETLFactory;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 
 /**
@@ -53,8 +54,9 @@ public class RewritePomsForReleasePhase extends AbstractRewritePomsPhase {
     public RewritePomsForReleasePhase(
             ScmRepositoryConfigurator scmRepositoryConfigurator,
             Map<String, ModelETLFactory> modelETLFactories,
-            Map<String, ScmTranslator> scmTranslators) {
-        super(scmRepositoryConfigurator, modelETLFactories, scmTranslators);
+            Map<String, ScmTranslator> scmTranslators,
+            PomSnapshotStore pomSnapshotStore) {
+        super(scmRepositoryConfigurator, modelETLFactories, scmTranslators, pomSnapshotStore);
     }
 
     @Override
@@ -23,6 +23,9 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +36,7 @@ import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.exec.MavenExecutor;
 import org.apache.maven.shared.release.util.PomFinder;
+import org.apache.maven.shared.release.util.ReactorSnapshot;
 import org.codehaus.plexus.util.StringUtils;
 
 import static org.apache.maven.shared.utils.logging.MessageUtils.buffer;
@@ -45,6 +49,8 @@ import static org.apache.maven.shared.utils.logging.MessageUtils.buffer;
 @Singleton
 @Named("run-perform-goals")
 public class RunPerformGoalsPhase extends AbstractRunGoalsPhase {
+    private static final String[] SCM_ROOT_METADATA_DIRECTORIES = {".git", ".hg"};
+
     @Inject
     public RunPerformGoalsPhase(Map<String, MavenExecutor> mavenExecutors) {
         super(mavenExecutors);
@@ -56,13 +62,17 @@ public class RunPerformGoalsPhase extends AbstractRunGoalsPhase {
             ReleaseEnvironment releaseEnvironment,
             List<MavenProject> reactorProjects)
             throws ReleaseExecutionException {
-        return runLogic(releaseDescriptor, releaseEnvironment, false);
+        return runLogic(releaseDescriptor, releaseEnvironment, reactorProjects, false);
     }
 
     private ReleaseResult runLogic(
-            ReleaseDescriptor releaseDescriptor, ReleaseEnvironment releaseEnvironment, boolean simulate)
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects,
+            boolean simulate)
             throws ReleaseExecutionException {
-        String additionalArguments = getAdditionalArguments(releaseDescriptor);
+        String additionalArguments =
+                addThreads(releaseDescriptor, reactorProjects, getAdditionalArguments(releaseDescriptor));
 
         if (releaseDescriptor.isUseReleaseProfile()) {
             if (!(additionalArguments == null || additionalArguments.isEmpty())) {
@@ -113,7 +123,7 @@ public class RunPerformGoalsPhase extends AbstractRunGoalsPhase {
         File workDirectory = new File(releaseDescriptor.getCheckoutDirectory());
 
         if (foundPom) {
-            File matchingPom = pomFinder.findMatchingPom(workDirectory);
+            File matchingPom = pomFinder.findMatchingPom(workDirectory, getPathInScmWorkingCopy(new File(workDir)));
             if (matchingPom != null) {
                 getLogger().info("Invoking perform goals in directory " + matchingPom.getParent());
                 // The directory of the POM in a flat project layout is not
@@ -124,20 +134,88 @@ public class RunPerformGoalsPhase extends AbstractRunGoalsPhase {
             }
         }
 
+        ReactorSnapshot snapshot = verifyReactorSnapshot(new File(workDir, ReactorSnapshot.FILE_NAME), workDirectory);
+        if (releaseDescriptor.isReuseVerification()) {
+            if (snapshot == null) {
+                getLogger().info("Running the tests, the checkout does not match the reactor tagged by prepare");
+            } else if (!snapshot.isVerified()) {
+                getLogger().info("Running the tests, the preparation goals did not run them all");
+            } else {
+                getLogger().info("Skipping the tests, already run by the preparation goals on the same sources");
+                additionalArguments = additionalArguments + " -DskipTests";
+            }
+        }
+
         return execute(releaseDescriptor, releaseEnvironment, workDirectory, additionalArguments, false);
     }
 
+    /**
+     * Compares the checkout of the tag with the POMs recorded when tagging, if they were recorded.
+     *
+     * @return the snapshot if the checkout matches the recorded POMs and sources, <code>null</code> otherwise
+     */
+    private ReactorSnapshot verifyReactorSnapshot(File snapshotFile, File workDirectory) {
+        try {
+            ReactorSnapshot snapshot = ReactorSnapshot.read(snapshotFile);
+            if (snapshot == null) {
+                return null;
+            }
+
+            List<String> differences = snapshot.verify(workDirectory);
+            if (differences.isEmpty()) {
+                getLogger()
+                        .info("The checkout matches the "
+                                + snapshot.getVersions().size() + " POMs tagged by release:prepare");
+                return snapshot;
+            } else {
+                getLogger().warn("The checkout differs from the POMs tagged by release:prepare:");
+                for (String difference : differences) {
+                    getLogger().warn("  " + difference);
+                }
+            }
+        } catch (IOException e) {
+            getLogger().warn("Unable to verify the checkout against " + snapshotFile + ": " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Determines the path of the directory relative to the root of its SCM working copy, which is also its path in
+     * the checkout of the tag. Only SCMs keeping their metadata in the root directory are detected.
+     *
+     * @param directory the directory
+     * @return the relative path, or <code>null</code> if the root of the working copy cannot be determined
+     */
+    static String getPathInScmWorkingCopy(File directory) {
+        Path path = directory.getAbsoluteFile().toPath().normalize();
+        for (Path root = path; root != null; root = root.getParent()) {
+            for (String metadataDirectory : SCM_ROOT_METADATA_DIRECTORIES) {
+                if (Files.exists(root.resolve(metadataDirectory))) {
+                    return root.relativize(path).toString();
+                }
+            }
+        }
+        return null;
+    }
+
     @Override
     public ReleaseResult simulate(
             ReleaseDescriptor releaseDescriptor,
             ReleaseEnvironment releaseEnvironment,
             List<MavenProject> reactorProjects)
             throws ReleaseExecutionException {
-        return runLogic(releaseDescriptor, releaseEnvironment, true);
+        return runLogic(releaseDescriptor, releaseEnvironment, reactorProjects, true);
     }
 
     @Override
     protected String getGoals(ReleaseDescriptor releaseDescriptor) {
         return releaseDescriptor.getPerformGoals();
     }
+
+    @Override
+    protected String getThreads(ReleaseDescriptor releaseDescriptor) {
+        return releaseDescriptor.getPerformThreads() != null
+                ? releaseDescriptor.getPerformThreads()
+                : releaseDescriptor.getThreads();
+    }
 }
@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -40,6 +41,26 @@ import org.apache.maven.shared.release.exec.MavenExecutor;
 @Singleton
 @Named("run-preparation-goals")
 public class RunPrepareGoalsPhase extends AbstractRunGoalsPhase {
+    /**
+     * The lifecycle phases which run the <code>test</code> phase first.
+     */
+    private static final List<String> TESTING_PHASES = Arrays.asList(
+            "test",
+            "prepare-package",
+            "package",
+            "pre-integration-test",
+            "integration-test",
+            "post-integration-test",
+            "verify",
+            "install",
+            "deploy");
+
+    /**
+     * The properties which skip tests, run only some of them or ignore their failures.
+     */
+    private static final List<String> TEST_SKIPPING_PROPERTIES = Arrays.asList(
+            "skipTests", "skipITs", "maven.test.skip", "maven.test.failure.ignore", "testFailureIgnore", "-Dtest=");
+
     @Inject
     public RunPrepareGoalsPhase(Map<String, MavenExecutor> mavenExecutors) {
         super(mavenExecutors);
@@ -51,7 +72,14 @@ public class RunPrepareGoalsPhase extends AbstractRunGoalsPhase {
             ReleaseEnvironment releaseEnvironment,
             List<MavenProject> reactorProjects)
             throws ReleaseExecutionException {
-        return execute(releaseDescriptor, releaseEnvironment, reactorProjects, false);
+        releaseDescriptor.setPreparationGoalsVerified(false);
+
+        ReleaseResult result = execute(releaseDescriptor, releaseEnvironment, reactorProjects, false);
+
+        releaseDescriptor.setPreparationGoalsVerified(
+                isTesting(getGoals(releaseDescriptor), getAdditionalArguments(releaseDescriptor)));
+
+        return result;
     }
 
     @Override
@@ -72,8 +100,44 @@ public class RunPrepareGoalsPhase extends AbstractRunGoalsPhase {
         return result;
     }
 
+    /**
+     * Tells whether goals ran all the tests: they reach the <code>test</code> phase, and neither they nor the
+     * arguments, including the ones passed on with <code>-Darguments</code>, skip tests. Tests skipped by the POMs,
+     * a profile or the settings are not detected.
+     *
+     * @param goals     the goals
+     * @param arguments the additional arguments, may be <code>null</code>
+     * @return whether the goals ran all the tests
+     */
+    static boolean isTesting(String goals, String arguments) {
+        if (goals == null) {
+            return false;
+        }
+
+        String commandLine = arguments != null ? goals + ' ' + arguments : goals;
+        for (String property : TEST_SKIPPING_PROPERTIES) {
+            if (commandLine.contains(property)) {
+                return false;
+            }
+        }
+
+        for (String goal : goals.trim().split("\\s+")) {
+            if (TESTING_PHASES.contains(goal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected String getGoals(ReleaseDescriptor releaseDescriptor) {
         return releaseDescriptor.getPreparationGoals();
     }
+
+    @Override
+    protected String getThreads(ReleaseDescriptor releaseDescriptor) {
+        return releaseDescriptor.getPreparationThreads() != null
+                ? releaseDescriptor.getPreparationThreads()
+                : releaseDescriptor.getThreads();
+    }
 }
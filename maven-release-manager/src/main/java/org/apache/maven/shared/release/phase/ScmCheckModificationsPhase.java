@@ -23,12 +23,22 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.ScmException;
@@ -48,6 +58,7 @@ import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.scm.ScmTranslator;
+import org.apache.maven.shared.release.util.ReactorSnapshot;
 import org.codehaus.plexus.util.SelectorUtils;
 import org.codehaus.plexus.util.StringUtils;
 
@@ -61,6 +72,8 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 @Named("scm-check-modifications")
 public class ScmCheckModificationsPhase extends AbstractReleasePhase {
+    private static final String MVN_DIRECTORY = ".mvn";
+
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
@@ -76,10 +89,18 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
      *
      * @todo proper construction of filenames, especially release properties
      */
-    private final Set<String> exclusionPatterns = new HashSet<>(Arrays.asList(
-            "**" + File.separator + "pom.xml.backup", "**" + File.separator + "pom.xml.tag",
-            "**" + File.separator + "pom.xml.next", "**" + File.separator + "pom.xml.branch",
-            "**" + File.separator + "release.properties", "**" + File.separator + "pom.xml.releaseBackup"));
+    private static final Set<String> EXCLUSION_PATTERNS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "**" + File.separator + "pom.xml.backup",
+            "**" + File.separator + "pom.xml.tag",
+            "**" + File.separator + "pom.xml.next",
+            "**" + File.separator + "pom.xml.branch",
+            "**" + File.separator + "release.properties",
+            "**" + File.separator + "pom.xml.releaseBackup",
+            "**" + File.separator + "release.journal",
+            "**" + File.separator + "release.state",
+            "**" + File.separator + ReactorSnapshot.FILE_NAME,
+            "**" + File.separator + ".release-pom-backup",
+            "**" + File.separator + ".release-pom-backup" + File.separator + "**")));
 
     @Inject
     public ScmCheckModificationsPhase(
@@ -96,6 +117,8 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
             throws ReleaseExecutionException, ReleaseFailureException {
         ReleaseResult relResult = new ReleaseResult();
 
+        // the phase is shared by concurrent releases, so the excludes of this release are collected locally
+        Set<String> exclusionPatterns = new HashSet<>(EXCLUSION_PATTERNS);
         List<String> additionalExcludes = releaseDescriptor.getCheckModificationExcludes();
 
         if (additionalExcludes != null) {
@@ -123,19 +146,17 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
             throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
         }
 
-        StatusScmResult result;
-        try {
-            result = provider.status(repository, new ScmFileSet(new File(releaseDescriptor.getWorkingDirectory())));
-        } catch (ScmException e) {
-            throw new ReleaseExecutionException(
-                    "An error occurred during the status check process: " + e.getMessage(), e);
-        }
+        File workingDirectory = new File(releaseDescriptor.getWorkingDirectory());
 
-        if (!result.isSuccess()) {
-            throw new ReleaseScmCommandException("Unable to check for local modifications", result);
+        List<ScmFileSet> statusFileSets;
+        if (releaseDescriptor.isCheckModificationReactorOnly()) {
+            statusFileSets = getReactorFileSets(workingDirectory, reactorProjects);
+            logInfo(relResult, "  restricted to reactor files: " + describe(statusFileSets));
+        } else {
+            statusFileSets = Collections.singletonList(new ScmFileSet(workingDirectory));
         }
 
-        List<ScmFile> changedFiles = result.getChangedFiles();
+        List<ScmFile> changedFiles = getChangedFiles(provider, repository, statusFileSets);
 
         if (!changedFiles.isEmpty()) {
             ScmTranslator scmTranslator = scmTranslators.get(repository.getProvider());
@@ -181,6 +202,173 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
         return relResult;
     }
 
+    private List<ScmFile> getChangedFiles(ScmProvider provider, ScmRepository repository, List<ScmFileSet> fileSets)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        if (fileSets.size() == 1) {
+            return retainFileList(fileSets.get(0), checkStatusResult(status(provider, repository, fileSets.get(0))));
+        }
+
+        // most providers only accept a single directory per status call, so run one call per directory instead
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(fileSets.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<StatusScmResult>> futures = new ArrayList<>(fileSets.size());
+            for (final ScmFileSet fileSet : fileSets) {
+                futures.add(executor.submit(new Callable<StatusScmResult>() {
+                    @Override
+                    public StatusScmResult call() throws ReleaseExecutionException {
+                        return status(provider, repository, fileSet);
+                    }
+                }));
+            }
+
+            List<ScmFile> changedFiles = new ArrayList<>();
+            for (int i = 0; i < fileSets.size(); i++) {
+                changedFiles.addAll(retainFileList(
+                        fileSets.get(i), checkStatusResult(futures.get(i).get())));
+            }
+            return changedFiles;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseExecutionException("Interrupted during the status check process", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ReleaseExecutionException) {
+                throw (ReleaseExecutionException) e.getCause();
+            }
+            throw new ReleaseExecutionException(
+                    "An error occurred during the status check process: "
+                            + e.getCause().getMessage(),
+                    e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StatusScmResult status(ScmProvider provider, ScmRepository repository, ScmFileSet fileSet)
+            throws ReleaseExecutionException {
+        try {
+            return provider.status(repository, fileSet);
+        } catch (ScmException e) {
+            throw new ReleaseExecutionException(
+                    "An error occurred during the status check process: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<ScmFile> checkStatusResult(StatusScmResult result) throws ReleaseScmCommandException {
+        if (!result.isSuccess()) {
+            throw new ReleaseScmCommandException("Unable to check for local modifications", result);
+        }
+        return result.getChangedFiles();
+    }
+
+    /**
+     * Keeps the changed files of a file set listing files, as the providers report the status of its whole directory.
+     *
+     * @param fileSet      the file set of the status call
+     * @param changedFiles the changed files reported for the file set, relative to its base directory
+     * @return the changed files inside the listed files, or all the changed files when no files are listed
+     */
+    private static List<ScmFile> retainFileList(ScmFileSet fileSet, List<ScmFile> changedFiles) {
+        if (fileSet.getFileList().isEmpty()) {
+            return changedFiles;
+        }
+
+        Path basedir = fileSet.getBasedir().toPath();
+        List<ScmFile> retained = new ArrayList<>();
+        for (ScmFile changedFile : changedFiles) {
+            Path path = basedir.resolve(changedFile.getPath()).normalize();
+            for (File file : fileSet.getFileList()) {
+                if (path.startsWith(basedir.resolve(file.toPath()).normalize())) {
+                    retained.add(changedFile);
+                    break;
+                }
+            }
+        }
+        return retained;
+    }
+
+    private static String describe(List<ScmFileSet> fileSets) {
+        List<File> files = new ArrayList<>();
+        for (ScmFileSet fileSet : fileSets) {
+            if (fileSet.getFileList().isEmpty()) {
+                files.add(fileSet.getBasedir());
+            }
+            for (File file : fileSet.getFileList()) {
+                files.add(new File(fileSet.getBasedir(), file.getPath()));
+            }
+        }
+        return StringUtils.join(files.iterator(), ", ");
+    }
+
+    /**
+     * Computes the file sets to check for the reactor projects, so the status only covers the files of the reactor.
+     * A project with <code>pom</code> packaging whose directory contains other reactor projects only contributes its
+     * POM and its <code>.mvn</code> directory, so the directories next to its modules are not checked. Any other
+     * project contributes its whole directory, which also covers the reactor projects nested in it.
+     * The file sets are returned in reactor order, so the changed files are reported in that order.
+     *
+     * @param workingDirectory the working directory, used when no reactor base directories are known
+     * @param reactorProjects  the reactor projects
+     * @return the file sets to check, never empty
+     */
+    static List<ScmFileSet> getReactorFileSets(File workingDirectory, List<MavenProject> reactorProjects) {
+        if (reactorProjects == null || reactorProjects.isEmpty()) {
+            return Collections.singletonList(new ScmFileSet(workingDirectory));
+        }
+
+        Map<Path, MavenProject> projects = new LinkedHashMap<>();
+        for (MavenProject reactorProject : reactorProjects) {
+            if (reactorProject.getBasedir() == null) {
+                return Collections.singletonList(new ScmFileSet(workingDirectory));
+            }
+            Path basedir = reactorProject.getBasedir().toPath().toAbsolutePath().normalize();
+            if (!projects.containsKey(basedir)) {
+                projects.put(basedir, reactorProject);
+            }
+        }
+
+        Set<Path> aggregators = new HashSet<>();
+        for (Map.Entry<Path, MavenProject> entry : projects.entrySet()) {
+            if ("pom".equals(entry.getValue().getPackaging()) && containsOther(entry.getKey(), projects.keySet())) {
+                aggregators.add(entry.getKey());
+            }
+        }
+
+        List<ScmFileSet> fileSets = new ArrayList<>();
+        for (Map.Entry<Path, MavenProject> entry : projects.entrySet()) {
+            Path basedir = entry.getKey();
+            if (aggregators.contains(basedir)) {
+                List<File> ownFiles = new ArrayList<>();
+                ownFiles.add(new File(entry.getValue().getFile().getName()));
+                if (Files.isDirectory(basedir.resolve(MVN_DIRECTORY))) {
+                    ownFiles.add(new File(MVN_DIRECTORY));
+                }
+                fileSets.add(new ScmFileSet(basedir.toFile(), ownFiles));
+            } else if (!isCovered(basedir, projects.keySet(), aggregators)) {
+                fileSets.add(new ScmFileSet(basedir.toFile()));
+            }
+        }
+        return fileSets;
+    }
+
+    private static boolean containsOther(Path directory, Set<Path> basedirs) {
+        for (Path basedir : basedirs) {
+            if (!basedir.equals(directory) && basedir.startsWith(directory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCovered(Path directory, Set<Path> basedirs, Set<Path> aggregators) {
+        for (Path parent = directory.getParent(); parent != null; parent = parent.getParent()) {
+            if (basedirs.contains(parent) && !aggregators.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public ReleaseResult simulate(
             ReleaseDescriptor releaseDescriptor,
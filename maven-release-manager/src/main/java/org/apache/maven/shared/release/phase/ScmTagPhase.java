@@ -23,6 +23,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 
 import org.apache.maven.project.MavenProject;
@@ -42,6 +43,7 @@ import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.util.ReactorSnapshot;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 
 /**
@@ -51,7 +53,7 @@ import org.apache.maven.shared.release.util.ReleaseUtil;
  */
 @Singleton
 @Named("scm-tag")
-public class ScmTagPhase extends AbstractReleasePhase {
+public class ScmTagPhase extends AbstractReleasePhase implements ResourceGenerator {
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
@@ -135,6 +137,8 @@ public class ScmTagPhase extends AbstractReleasePhase {
             throw new ReleaseScmCommandException("Unable to tag SCM", result);
         }
 
+        writeReactorSnapshot(releaseDescriptor, reactorProjects, relResult);
+
         relResult.setResultCode(ReleaseResult.SUCCESS);
 
         return relResult;
@@ -170,6 +174,37 @@ public class ScmTagPhase extends AbstractReleasePhase {
         return result;
     }
 
+    /**
+     * Records the tagged POMs, for <code>release:perform</code> to check its checkout of the tag against them.
+     */
+    private void writeReactorSnapshot(
+            ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects, ReleaseResult result) {
+        if (releaseDescriptor.getWorkingDirectory() == null) {
+            return;
+        }
+
+        File file = new File(releaseDescriptor.getWorkingDirectory(), ReactorSnapshot.FILE_NAME);
+        try {
+            ReactorSnapshot.of(releaseDescriptor, reactorProjects).write(file);
+        } catch (IOException e) {
+            logWarn(result, "Unable to write " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public ReleaseResult clean(List<MavenProject> reactorProjects) {
+        ReleaseResult result = new ReleaseResult();
+
+        File file = new File(ReleaseUtil.getRootProject(reactorProjects).getBasedir(), ReactorSnapshot.FILE_NAME);
+        if (file.exists() && !file.delete()) {
+            logWarn(result, "Cannot delete " + file);
+        }
+
+        result.setResultCode(ReleaseResult.SUCCESS);
+
+        return result;
+    }
+
     private static void validateConfiguration(ReleaseDescriptor releaseDescriptor) throws ReleaseFailureException {
         if (releaseDescriptor.getScmReleaseLabel() == null) {
             throw new ReleaseFailureException("A release label is required for committing");
@@ -21,6 +21,12 @@ package org.apache.maven.shared.release.policies;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicy;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest;
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
 import org.apache.maven.shared.release.policy.version.VersionPolicyResult;
@@ -30,12 +36,14 @@ import org.apache.maven.shared.release.versions.VersionParseException;
 /**
  * Default version policy: proposed release version just removes {@code -SNAPSHOT},
  * next development version adds a minor increment to release and adds {@code -SNAPSHOT}.
+ * <p>
+ * For a whole reactor each distinct version is only computed once, as most modules usually share the same version.
  *
  * @author Robert Scholte
  */
 @Singleton
 @Named
-public class DefaultVersionPolicy implements VersionPolicy {
+public class DefaultVersionPolicy implements VersionPolicy, BatchVersionPolicy {
     @Override
     public VersionPolicyResult getReleaseVersion(VersionPolicyRequest request) throws VersionParseException {
         String releaseVersion = new DefaultVersionInfo(request.getVersion()).getReleaseVersionString();
@@ -48,4 +56,36 @@ public class DefaultVersionPolicy implements VersionPolicy {
                 new DefaultVersionInfo(request.getVersion()).getNextVersion().getSnapshotVersionString();
         return new VersionPolicyResult().setVersion(developmentVersion);
     }
+
+    @Override
+    public Map<String, VersionPolicyResult> getReleaseVersions(BatchVersionPolicyRequest request)
+            throws VersionParseException {
+        Map<String, VersionPolicyResult> byVersion = new HashMap<>();
+        Map<String, VersionPolicyResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> version : request.getVersions().entrySet()) {
+            VersionPolicyResult result = byVersion.get(version.getValue());
+            if (result == null) {
+                result = getReleaseVersion(request.createRequest(version.getValue()));
+                byVersion.put(version.getValue(), result);
+            }
+            results.put(version.getKey(), result);
+        }
+        return results;
+    }
+
+    @Override
+    public Map<String, VersionPolicyResult> getDevelopmentVersions(BatchVersionPolicyRequest request)
+            throws VersionParseException {
+        Map<String, VersionPolicyResult> byVersion = new HashMap<>();
+        Map<String, VersionPolicyResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> version : request.getVersions().entrySet()) {
+            VersionPolicyResult result = byVersion.get(version.getValue());
+            if (result == null) {
+                result = getDevelopmentVersion(request.createRequest(version.getValue()));
+                byVersion.put(version.getValue(), result);
+            }
+            results.put(version.getKey(), result);
+        }
+        return results;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.scm.CommandParameters;
+import org.apache.maven.scm.ScmException;
+import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.command.remoteinfo.RemoteInfoScmResult;
+import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.policy.version.ScmTagIndex;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionScheme;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ScmTagIndex} listing the tags with a single remote info command on first use. The tags are kept sorted, so
+ * the versions of a prefix are read from the range of tags starting with it instead of scanning all tags.
+ *
+ * @since 3.0.2
+ */
+public class DefaultScmTagIndex implements ScmTagIndex {
+    private static final VersionScheme VERSION_SCHEME = new GenericVersionScheme();
+
+    private final ScmRepository repository;
+
+    private final ScmProvider provider;
+
+    private final File workingDirectory;
+
+    private final Map<String, List<Version>> versionsByPrefix = new ConcurrentHashMap<>();
+
+    private List<String> tags;
+
+    private NavigableSet<String> sortedTags;
+
+    /**
+     * <p>Constructor for DefaultScmTagIndex.</p>
+     *
+     * @param repository       the SCM repository
+     * @param provider         the SCM provider
+     * @param workingDirectory the working directory of the release
+     */
+    public DefaultScmTagIndex(ScmRepository repository, ScmProvider provider, File workingDirectory) {
+        this.repository = requireNonNull(repository);
+        this.provider = requireNonNull(provider);
+        this.workingDirectory = requireNonNull(workingDirectory);
+    }
+
+    @Override
+    public synchronized List<String> getTags() throws PolicyException {
+        if (tags == null) {
+            RemoteInfoScmResult result;
+            try {
+                result = provider.remoteInfo(
+                        repository.getProviderRepository(), new ScmFileSet(workingDirectory), new CommandParameters());
+            } catch (ScmException | UnsupportedOperationException e) {
+                throw new PolicyException("Unable to list the SCM tags: " + e.getMessage(), e);
+            }
+            if (result == null || !result.isSuccess()) {
+                throw new PolicyException(
+                        "Unable to list the SCM tags" + (result != null ? ": " + result.getProviderMessage() : ""));
+            }
+
+            sortedTags = new TreeSet<>(result.getTags().keySet());
+            tags = Collections.unmodifiableList(new ArrayList<>(sortedTags));
+        }
+        return tags;
+    }
+
+    @Override
+    public List<Version> getVersions(String tagPrefix) throws PolicyException {
+        List<Version> versions = versionsByPrefix.get(tagPrefix);
+        if (versions == null) {
+            versions = new ArrayList<>();
+            for (String tag : getTagsFrom(tagPrefix)) {
+                if (!tag.startsWith(tagPrefix)) {
+                    // sorted, so no later tag starts with the prefix either
+                    break;
+                }
+                if (tag.length() > tagPrefix.length() && Character.isDigit(tag.charAt(tagPrefix.length()))) {
+                    try {
+                        versions.add(VERSION_SCHEME.parseVersion(tag.substring(tagPrefix.length())));
+                    } catch (InvalidVersionSpecificationException e) {
+                        // not a version tag
+                    }
+                }
+            }
+            Collections.sort(versions);
+            versions = Collections.unmodifiableList(versions);
+            versionsByPrefix.put(tagPrefix, versions);
+        }
+        return versions;
+    }
+
+    private synchronized NavigableSet<String> getTagsFrom(String tagPrefix) throws PolicyException {
+        getTags();
+        return sortedTags.tailSet(tagPrefix, true);
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.scm.ChangeFile;
+import org.apache.maven.scm.ChangeSet;
+import org.apache.maven.scm.CommandParameter;
+import org.apache.maven.scm.CommandParameters;
+import org.apache.maven.scm.ScmException;
+import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.ScmFileStatus;
+import org.apache.maven.scm.ScmResult;
+import org.apache.maven.scm.ScmVersion;
+import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
+import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
+import org.apache.maven.scm.command.changelog.ChangeLogSet;
+import org.apache.maven.scm.command.info.InfoScmResult;
+import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.shared.release.util.AtomicFiles;
+import org.apache.maven.shared.release.util.Digests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of read-only SCM query results, keyed by the SCM URL and the revision of the working copy HEAD.
+ * <p>
+ * A <code>release:prepare -DdryRun=true</code> directly followed by the real <code>release:prepare</code> asks the
+ * SCM the same questions twice. As long as HEAD did not move in between, the answers of the first run are still valid
+ * and the second run can reuse them instead of going over the network again. Only the change log is cached, as it
+ * only depends on HEAD: the status of the working copy and the remote tags and branches can change without HEAD
+ * moving and are never cached.
+ * <p>
+ * The HEAD revision is only looked up on the first cached query, so a run that never asks for the change log does not
+ * pay for it. The results are stored as plain properties, so the cache file never instantiates other classes when
+ * read.
+ *
+ * @since 3.0.2
+ */
+public final class ScmQueryCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScmQueryCache.class);
+
+    private static final ScmFileStatus[] FILE_STATUSES = {
+        ScmFileStatus.ADDED,
+        ScmFileStatus.DELETED,
+        ScmFileStatus.MODIFIED,
+        ScmFileStatus.RENAMED,
+        ScmFileStatus.COPIED,
+        ScmFileStatus.MISSING,
+        ScmFileStatus.CHECKED_IN,
+        ScmFileStatus.CHECKED_OUT,
+        ScmFileStatus.CONFLICT,
+        ScmFileStatus.PATCHED,
+        ScmFileStatus.UPDATED,
+        ScmFileStatus.TAGGED,
+        ScmFileStatus.LOCKED,
+        ScmFileStatus.UNKNOWN,
+        ScmFileStatus.EDITED
+    };
+
+    private final File cacheDirectory;
+
+    private final String scmUrl;
+
+    private final ScmRepository repository;
+
+    private final ScmProvider provider;
+
+    private final File workingDirectory;
+
+    private boolean loaded;
+
+    private File file;
+
+    private final Properties entries = new Properties();
+
+    private ScmQueryCache(
+            File cacheDirectory, String scmUrl, ScmRepository repository, ScmProvider provider, File workingDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        this.scmUrl = scmUrl;
+        this.repository = repository;
+        this.provider = provider;
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Opens the cache for the HEAD revision of the working directory, which is looked up on the first query.
+     *
+     * @param cacheDirectory   the directory containing the cache files
+     * @param scmUrl           the SCM URL of the release
+     * @param repository       the configured SCM repository
+     * @param provider         the SCM provider
+     * @param workingDirectory the working directory of the release
+     * @return the cache, which passes all queries on if the HEAD revision cannot be determined
+     */
+    public static ScmQueryCache open(
+            File cacheDirectory, String scmUrl, ScmRepository repository, ScmProvider provider, File workingDirectory) {
+        return new ScmQueryCache(cacheDirectory, scmUrl, repository, provider, workingDirectory);
+    }
+
+    /**
+     * Loads the entries of the current HEAD revision, once.
+     *
+     * @return <code>true</code> if the cache can be used
+     */
+    private synchronized boolean load() {
+        if (loaded) {
+            return file != null;
+        }
+        loaded = true;
+
+        String head;
+        try {
+            InfoScmResult result = provider.info(
+                    repository.getProviderRepository(), new ScmFileSet(workingDirectory), new CommandParameters());
+            if (result == null
+                    || !result.isSuccess()
+                    || result.getInfoItems().isEmpty()
+                    || result.getInfoItems().get(0).getRevision() == null) {
+                LOGGER.info("Unable to determine the HEAD revision, SCM query cache disabled");
+                return false;
+            }
+            head = result.getInfoItems().get(0).getRevision();
+        } catch (ScmException | UnsupportedOperationException e) {
+            LOGGER.info("Unable to determine the HEAD revision, SCM query cache disabled: {}", e.getMessage());
+            return false;
+        }
+
+        file = new File(cacheDirectory, Digests.sha1(scmUrl + '\n' + head) + ".properties");
+
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                entries.load(in);
+                LOGGER.debug("Loaded the cached SCM queries for revision {}", head);
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.warn("Ignoring unreadable SCM query cache {}: {}", file, e.getMessage());
+                entries.clear();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decorates the provider so change log queries are answered from this cache when possible. All other commands
+     * are passed on to the provider unchanged.
+     *
+     * @param provider the provider to decorate
+     * @return the caching provider
+     */
+    public ScmProvider decorate(final ScmProvider provider) {
+        return (ScmProvider) Proxy.newProxyInstance(
+                ScmProvider.class.getClassLoader(), new Class<?>[] {ScmProvider.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if ("changeLog".equals(method.getName())
+                                && args.length == 1
+                                && args[0] instanceof ChangeLogScmRequest) {
+                            return changeLog(provider, (ChangeLogScmRequest) args[0]);
+                        }
+                        try {
+                            return method.invoke(provider, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+
+    private ChangeLogScmResult changeLog(ScmProvider provider, ChangeLogScmRequest request) throws ScmException {
+        if (!load()) {
+            return provider.changeLog(request);
+        }
+
+        CommandParameters parameters = request.getCommandParameters();
+        String key = "changeLog:" + request.getScmFileSet().getBasedir().getAbsolutePath()
+                + ':' + parameters.getDate(CommandParameter.START_DATE, null)
+                + ':' + parameters.getDate(CommandParameter.END_DATE, null)
+                + ':' + parameters.getInt(CommandParameter.NUM_DAYS, 0)
+                + ':' + toString(parameters.getScmVersion(CommandParameter.BRANCH, null))
+                + ':' + toString(parameters.getScmVersion(CommandParameter.START_SCM_VERSION, null))
+                + ':' + toString(parameters.getScmVersion(CommandParameter.END_SCM_VERSION, null))
+                + ':' + toString(parameters.getScmVersion(CommandParameter.SCM_VERSION, null))
+                + ':' + parameters.getString(CommandParameter.CHANGELOG_DATE_PATTERN, null)
+                + ':' + parameters.getInt(CommandParameter.LIMIT, 0);
+        String prefix = Digests.sha1(key) + '.';
+
+        ChangeLogScmResult cached = readChangeLog(prefix);
+        if (cached != null) {
+            LOGGER.debug("Using cached SCM query result for {}", key);
+            return cached;
+        }
+
+        ChangeLogScmResult result = provider.changeLog(request);
+        if (result != null && result.isSuccess() && result.getChangeLog() != null) {
+            writeChangeLog(prefix, result);
+        }
+        return result;
+    }
+
+    private synchronized ChangeLogScmResult readChangeLog(String prefix) {
+        String changeSetCount = entries.getProperty(prefix + "changeSets");
+        if (changeSetCount == null) {
+            return null;
+        }
+
+        try {
+            List<ChangeSet> changeSets = new ArrayList<>();
+            for (int i = 0; i < Integer.parseInt(changeSetCount); i++) {
+                String changeSetPrefix = prefix + i + '.';
+                ChangeSet changeSet = new ChangeSet();
+                changeSet.setDate(toDate(entries.getProperty(changeSetPrefix + "date")));
+                changeSet.setAuthor(entries.getProperty(changeSetPrefix + "author"));
+                changeSet.setComment(entries.getProperty(changeSetPrefix + "comment"));
+                changeSet.setRevision(entries.getProperty(changeSetPrefix + "revision"));
+
+                int fileCount = Integer.parseInt(entries.getProperty(changeSetPrefix + "files", "0"));
+                for (int j = 0; j < fileCount; j++) {
+                    String filePrefix = changeSetPrefix + "file." + j + '.';
+                    ChangeFile changeFile = new ChangeFile(
+                            entries.getProperty(filePrefix + "name"), entries.getProperty(filePrefix + "revision"));
+                    changeFile.setAction(toFileStatus(entries.getProperty(filePrefix + "action")));
+                    changeSet.addFile(changeFile);
+                }
+                changeSets.add(changeSet);
+            }
+
+            ChangeLogSet changeLogSet = new ChangeLogSet(
+                    changeSets,
+                    toDate(entries.getProperty(prefix + "startDate")),
+                    toDate(entries.getProperty(prefix + "endDate")));
+            return new ChangeLogScmResult(
+                    changeLogSet,
+                    new ScmResult(
+                            entries.getProperty(prefix + "commandLine"),
+                            entries.getProperty(prefix + "providerMessage"),
+                            entries.getProperty(prefix + "commandOutput"),
+                            true));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring unreadable cached SCM query {}: {}", prefix, e.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized void writeChangeLog(String prefix, ChangeLogScmResult result) {
+        setProperty(prefix + "commandLine", result.getCommandLine());
+        setProperty(prefix + "providerMessage", result.getProviderMessage());
+        setProperty(prefix + "commandOutput", result.getCommandOutput());
+        setProperty(prefix + "startDate", fromDate(result.getChangeLog().getStartDate()));
+        setProperty(prefix + "endDate", fromDate(result.getChangeLog().getEndDate()));
+
+        List<ChangeSet> changeSets = result.getChangeLog().getChangeSets();
+        for (int i = 0; i < changeSets.size(); i++) {
+            String changeSetPrefix = prefix + i + '.';
+            ChangeSet changeSet = changeSets.get(i);
+            setProperty(changeSetPrefix + "date", fromDate(changeSet.getDate()));
+            setProperty(changeSetPrefix + "author", changeSet.getAuthor());
+            setProperty(changeSetPrefix + "comment", changeSet.getComment());
+            setProperty(changeSetPrefix + "revision", changeSet.getRevision());
+
+            List<ChangeFile> files = changeSet.getFiles();
+            for (int j = 0; j < files.size(); j++) {
+                String filePrefix = changeSetPrefix + "file." + j + '.';
+                setProperty(filePrefix + "name", files.get(j).getName());
+                setProperty(filePrefix + "revision", files.get(j).getRevision());
+                setProperty(
+                        filePrefix + "action",
+                        files.get(j).getAction() != null
+                                ? files.get(j).getAction().toString()
+                                : null);
+            }
+            setProperty(changeSetPrefix + "files", String.valueOf(files.size()));
+        }
+        // written last, as it marks the entry complete
+        setProperty(prefix + "changeSets", String.valueOf(changeSets.size()));
+
+        // write through, so an interrupted release still keeps what was learned so far
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            File temporaryFile = AtomicFiles.getTemporaryFile(file);
+            try (OutputStream out = new FileOutputStream(temporaryFile)) {
+                entries.store(out, "SCM query cache");
+            }
+            AtomicFiles.commit(temporaryFile, file);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write SCM query cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void setProperty(String key, String value) {
+        if (value != null) {
+            entries.setProperty(key, value);
+        } else {
+            entries.remove(key);
+        }
+    }
+
+    private static String fromDate(Date date) {
+        return date != null ? String.valueOf(date.getTime()) : null;
+    }
+
+    private static Date toDate(String value) {
+        return value != null ? new Date(Long.parseLong(value)) : null;
+    }
+
+    private static ScmFileStatus toFileStatus(String value) {
+        for (ScmFileStatus status : FILE_STATUSES) {
+            if (status.toString().equals(value)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    private static String toString(ScmVersion version) {
+        return version != null ? version.getType() + '=' + version.getName() : null;
+    }
+}
@@ -19,9 +19,15 @@
 package org.apache.maven.shared.release.transform;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
 
 import org.apache.maven.model.Model;
 import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.ReaderFactory;
 
 /**
  * <p>ModelETL interface.</p>
@@ -51,6 +57,33 @@ public interface ModelETL {
      */
     void load(File pomFile) throws ReleaseExecutionException;
 
+    /**
+     * <p>load.</p>
+     *
+     * <p>The default implementation loads the POM into a temporary file and copies it to the writer, so
+     * implementations written against earlier versions keep working; override it to avoid the file.</p>
+     *
+     * @param writer the writer to write the POM to, instead of a file
+     * @throws org.apache.maven.shared.release.ReleaseExecutionException if any.
+     * @since 3.0.2
+     */
+    default void load(Writer writer) throws ReleaseExecutionException {
+        File tmpFile = null;
+        try {
+            tmpFile = Files.createTempFile("release-pom", ".xml").toFile();
+            load(tmpFile);
+            try (Reader reader = ReaderFactory.newXmlReader(tmpFile)) {
+                IOUtil.copy(reader, writer);
+            }
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error writing POM: " + e.getMessage(), e);
+        } finally {
+            if (tmpFile != null) {
+                tmpFile.delete();
+            }
+        }
+    }
+
     // will be removed once transform() is implemented
     /**
      * <p>getModel.</p>
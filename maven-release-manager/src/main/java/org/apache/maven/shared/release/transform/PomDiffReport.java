@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.transform;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.shared.release.util.AtomicFiles;
+import org.apache.maven.shared.release.util.LineDiff;
+import org.apache.maven.shared.release.util.ReleaseUtil;
+
+/**
+ * Renders the {@link PomSnapshot}s of a release as a single patch, with one unified diff per phase preceded by its
+ * statistics, so reviewers see every change made to the POMs in one place.
+ * <p>
+ * Each diff is against the POM as it was before the release started. The generated release POMs are shown as new
+ * files.
+ *
+ * @since 3.0.2
+ */
+public final class PomDiffReport {
+    private static final int CONTEXT = 3;
+
+    private static final int MAX_BAR_WIDTH = 40;
+
+    private PomDiffReport() {
+        // noop
+    }
+
+    /**
+     * Writes the report.
+     *
+     * @param reportFile    the patch file to write
+     * @param baseDirectory the directory the paths in the patch are relative to
+     * @param snapshots     the snapshots of the POMs
+     * @throws IOException if the report cannot be written
+     */
+    public static void write(File reportFile, File baseDirectory, List<PomSnapshot> snapshots) throws IOException {
+        File parent = reportFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        File temporaryFile = AtomicFiles.getTemporaryFile(reportFile);
+        try (OutputStream out = Files.newOutputStream(temporaryFile.toPath());
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write(format(baseDirectory, snapshots));
+        }
+        AtomicFiles.commit(temporaryFile, reportFile);
+    }
+
+    /**
+     * Formats the report.
+     *
+     * @param baseDirectory the directory the paths in the patch are relative to
+     * @param snapshots     the snapshots of the POMs
+     * @return the patch
+     */
+    public static String format(File baseDirectory, List<PomSnapshot> snapshots) {
+        Set<String> states = new LinkedHashSet<>();
+        for (PomSnapshot snapshot : snapshots) {
+            states.addAll(snapshot.getStates());
+        }
+
+        StringBuilder report = new StringBuilder();
+        for (String state : states) {
+            List<FileDiff> diffs = new ArrayList<>();
+            for (PomSnapshot snapshot : snapshots) {
+                if (snapshot.getHunks(state) != null) {
+                    FileDiff diff = createFileDiff(baseDirectory, snapshot, state);
+                    if (diff.insertions + diff.deletions > 0) {
+                        diffs.add(diff);
+                    }
+                }
+            }
+            if (report.length() > 0) {
+                report.append('\n');
+            }
+            appendStatistics(report, getPhaseName(state), diffs);
+            for (FileDiff diff : diffs) {
+                report.append(diff.unified);
+            }
+        }
+        return report.toString();
+    }
+
+    private static FileDiff createFileDiff(File baseDirectory, PomSnapshot snapshot, String state) {
+        String path = getRelativePath(baseDirectory, snapshot.getPomFile());
+
+        List<String> original;
+        List<LineDiff.Hunk> hunks;
+        String originalName;
+        String revisedName;
+        if (ReleaseUtil.RELEASE_POMv4.equals(state)) {
+            // the release POM is generated next to the POM, not a change of it
+            int separator = path.lastIndexOf('/');
+            path = (separator >= 0 ? path.substring(0, separator + 1) : "") + ReleaseUtil.RELEASE_POMv4;
+            original = Collections.emptyList();
+            hunks = LineDiff.diff(original, LineDiff.lines(snapshot.getContent(state)));
+            originalName = "/dev/null";
+            revisedName = "b/" + path;
+        } else {
+            original = snapshot.getOriginalLines();
+            hunks = snapshot.getHunks(state);
+            originalName = "a/" + path;
+            revisedName = "b/" + path;
+        }
+
+        FileDiff diff = new FileDiff(path);
+        for (LineDiff.Hunk hunk : hunks) {
+            diff.insertions += hunk.getLines().size();
+            diff.deletions += hunk.getOriginalLength();
+        }
+        diff.unified = LineDiff.unified(originalName, revisedName, original, hunks, CONTEXT);
+        return diff;
+    }
+
+    private static void appendStatistics(StringBuilder report, String phase, List<FileDiff> diffs) {
+        int insertions = 0;
+        int deletions = 0;
+        int maxChanges = 0;
+        int maxPathLength = 0;
+        for (FileDiff diff : diffs) {
+            insertions += diff.insertions;
+            deletions += diff.deletions;
+            maxChanges = Math.max(maxChanges, diff.insertions + diff.deletions);
+            maxPathLength = Math.max(maxPathLength, diff.path.length());
+        }
+
+        report.append("# ")
+                .append(phase)
+                .append(": ")
+                .append(diffs.size())
+                .append(diffs.size() == 1 ? " file" : " files")
+                .append(" changed, ")
+                .append(insertions)
+                .append(insertions == 1 ? " insertion(+), " : " insertions(+), ")
+                .append(deletions)
+                .append(deletions == 1 ? " deletion(-)" : " deletions(-)")
+                .append('\n');
+
+        int countWidth = String.valueOf(maxChanges).length();
+        for (FileDiff diff : diffs) {
+            int changes = diff.insertions + diff.deletions;
+            int plus = diff.insertions;
+            int minus = diff.deletions;
+            if (maxChanges > MAX_BAR_WIDTH) {
+                plus = scale(plus, maxChanges);
+                minus = scale(minus, maxChanges);
+            }
+
+            report.append("#  ").append(diff.path);
+            pad(report, maxPathLength - diff.path.length());
+            report.append(" | ");
+            pad(report, countWidth - String.valueOf(changes).length());
+            report.append(changes).append(' ');
+            repeat(report, '+', plus);
+            repeat(report, '-', minus);
+            report.append('\n');
+        }
+        report.append('\n');
+    }
+
+    private static int scale(int count, int maxChanges) {
+        // keep at least one character for any change
+        return count == 0 ? 0 : Math.max(1, count * MAX_BAR_WIDTH / maxChanges);
+    }
+
+    private static void pad(StringBuilder report, int width) {
+        repeat(report, ' ', width);
+    }
+
+    private static void repeat(StringBuilder report, char c, int count) {
+        for (int i = 0; i < count; i++) {
+            report.append(c);
+        }
+    }
+
+    private static String getPhaseName(String state) {
+        switch (state) {
+            case "tag":
+                return "release";
+            case "next":
+                return "development";
+            case "branch":
+                return "branch";
+            case ReleaseUtil.RELEASE_POMv4:
+                return "release POMs";
+            default:
+                return state;
+        }
+    }
+
+    private static String getRelativePath(File baseDirectory, File file) {
+        String path;
+        try {
+            path = baseDirectory
+                    .getAbsoluteFile()
+                    .toPath()
+                    .normalize()
+                    .relativize(file.getAbsoluteFile().toPath().normalize())
+                    .toString();
+        } catch (IllegalArgumentException e) {
+            // different roots
+            path = file.getAbsolutePath();
+        }
+        return path.replace(File.separatorChar, '/');
+    }
+
+    private static final class FileDiff {
+        private final String path;
+
+        private int insertions;
+
+        private int deletions;
+
+        private String unified;
+
+        private FileDiff(String path) {
+            this.path = path;
+        }
+    }
+}
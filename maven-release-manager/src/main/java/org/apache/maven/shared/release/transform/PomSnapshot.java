@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.transform;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.shared.release.util.LineDiff;
+
+/**
+ * The original content of a POM and the states the release phases transformed it to, kept as differences against
+ * the original. Line endings are normalized to <code>\n</code>.
+ *
+ * @since 3.0.2
+ */
+public class PomSnapshot {
+    private final File pomFile;
+
+    private final List<String> originalLines;
+
+    private final Map<String, List<LineDiff.Hunk>> states = new LinkedHashMap<>();
+
+    PomSnapshot(File pomFile, List<String> originalLines) {
+        this.pomFile = pomFile;
+        this.originalLines = originalLines;
+    }
+
+    /**
+     * <p>Getter for the field <code>pomFile</code>.</p>
+     *
+     * @return the POM
+     */
+    public File getPomFile() {
+        return pomFile;
+    }
+
+    /**
+     * <p>Getter for the field <code>originalLines</code>.</p>
+     *
+     * @return the lines of the POM as found on disk
+     */
+    public List<String> getOriginalLines() {
+        return Collections.unmodifiableList(originalLines);
+    }
+
+    /**
+     * <p>getStates.</p>
+     *
+     * @return the names of the states, in the order they were created
+     */
+    public synchronized Set<String> getStates() {
+        return Collections.unmodifiableSet(new LinkedHashMap<>(states).keySet());
+    }
+
+    /**
+     * <p>getHunks.</p>
+     *
+     * @param state the name of the state
+     * @return the differences of the state against the original, or <code>null</code> if there is no such state
+     */
+    public synchronized List<LineDiff.Hunk> getHunks(String state) {
+        return states.get(state);
+    }
+
+    /**
+     * <p>getContent.</p>
+     *
+     * @param state the name of the state
+     * @return the content of the POM in the state, or <code>null</code> if there is no such state
+     */
+    public String getContent(String state) {
+        List<LineDiff.Hunk> hunks = getHunks(state);
+        if (hunks == null) {
+            return null;
+        }
+
+        StringBuilder content = new StringBuilder();
+        for (String line : LineDiff.apply(originalLines, hunks)) {
+            content.append(line);
+        }
+        return content.toString();
+    }
+
+    synchronized void putState(String state, List<String> lines) {
+        states.put(state, new ArrayList<>(LineDiff.diff(originalLines, lines)));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.transform;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.util.LineDiff;
+import org.apache.maven.shared.release.util.ReleaseUtil;
+
+/**
+ * Keeps the POMs written by a dry run in memory instead of on disk, as {@link PomSnapshot}s per working directory.
+ * <p>
+ * The phases store each state of a POM under a name, like the <code>tag</code> or <code>next</code> suffix they would
+ * otherwise write the POM with. Only the differences against the original are kept, which for the few lines a
+ * release changes is a small fraction of the POM.
+ *
+ * @since 3.0.2
+ */
+@Singleton
+@Named
+public class PomSnapshotStore {
+    private static final String LF = "\n";
+
+    private final Map<String, Map<File, PomSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Stores a state of a POM.
+     *
+     * @param releaseDescriptor the release configuration
+     * @param pomFile           the POM on disk
+     * @param state             the name of the state
+     * @param content           the content of the POM in that state
+     * @throws IOException if the original POM cannot be read
+     */
+    public void put(ReleaseDescriptor releaseDescriptor, File pomFile, String state, String content)
+            throws IOException {
+        Map<File, PomSnapshot> pomSnapshots = getPomSnapshots(releaseDescriptor);
+
+        PomSnapshot snapshot;
+        synchronized (pomSnapshots) {
+            snapshot = pomSnapshots.get(pomFile);
+            if (snapshot == null) {
+                snapshot = new PomSnapshot(pomFile, LineDiff.lines(ReleaseUtil.readXmlFile(pomFile, LF)));
+                pomSnapshots.put(pomFile, snapshot);
+            }
+        }
+
+        snapshot.putState(state, LineDiff.lines(ReleaseUtil.normalizeLineEndings(content, LF)));
+    }
+
+    /**
+     * <p>getSnapshots.</p>
+     *
+     * @param releaseDescriptor the release configuration
+     * @return the snapshots of the POMs, in the order they were first stored
+     */
+    public List<PomSnapshot> getSnapshots(ReleaseDescriptor releaseDescriptor) {
+        Map<File, PomSnapshot> pomSnapshots = snapshots.get(getKey(releaseDescriptor));
+        if (pomSnapshots == null) {
+            return new ArrayList<>();
+        }
+        synchronized (pomSnapshots) {
+            return new ArrayList<>(pomSnapshots.values());
+        }
+    }
+
+    /**
+     * Drops the snapshots of a release.
+     *
+     * @param releaseDescriptor the release configuration
+     */
+    public void clear(ReleaseDescriptor releaseDescriptor) {
+        snapshots.remove(getKey(releaseDescriptor));
+    }
+
+    private Map<File, PomSnapshot> getPomSnapshots(ReleaseDescriptor releaseDescriptor) {
+        String key = getKey(releaseDescriptor);
+        Map<File, PomSnapshot> pomSnapshots = snapshots.get(key);
+        if (pomSnapshots == null) {
+            Map<File, PomSnapshot> created = new LinkedHashMap<>();
+            pomSnapshots = snapshots.putIfAbsent(key, created);
+            if (pomSnapshots == null) {
+                pomSnapshots = created;
+            }
+        }
+        return pomSnapshots;
+    }
+
+    private static String getKey(ReleaseDescriptor releaseDescriptor) {
+        return String.valueOf(releaseDescriptor.getWorkingDirectory());
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.ReleaseExecutionException;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.transform.ModelETL;
+import org.apache.maven.shared.release.util.AtomicFiles;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.util.WriterFactory;
 import org.jdom2.CDATA;
@@ -157,6 +158,17 @@ public class JDomModelETL implements ModelETL {
         writePom(targetFile, document, releaseDescriptor, project.getModelVersion(), intro, outtro);
     }
 
+    @Override
+    public void load(Writer writer) throws ReleaseExecutionException {
+        prepareDocument(document, releaseDescriptor, project.getModelVersion());
+
+        try {
+            writeDocument(writer, document, intro, outtro);
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error writing POM: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Model getModel() {
         return new JDomModel(document);
@@ -181,6 +193,21 @@ public class JDomModelETL implements ModelETL {
             String intro,
             String outtro)
             throws ReleaseExecutionException {
+        prepareDocument(document, releaseDescriptor, modelVersion);
+
+        File tmpFile = AtomicFiles.getTemporaryFile(pomFile);
+        try {
+            try (Writer writer = WriterFactory.newXmlWriter(tmpFile)) {
+                writeDocument(writer, document, intro, outtro);
+            }
+            AtomicFiles.commit(tmpFile, pomFile);
+        } catch (IOException e) {
+            tmpFile.delete();
+            throw new ReleaseExecutionException("Error writing POM: " + e.getMessage(), e);
+        }
+    }
+
+    private void prepareDocument(Document document, ReleaseDescriptor releaseDescriptor, String modelVersion) {
         Element rootElement = document.getRootElement();
 
         if (releaseDescriptor.isAddSchema()) {
@@ -204,22 +231,20 @@ public class JDomModelETL implements ModelETL {
                 e.setNamespace(pomNamespace);
             }
         }
+    }
 
-        try (Writer writer = WriterFactory.newXmlWriter(pomFile)) {
-            if (intro != null) {
-                writer.write(intro);
-            }
+    private void writeDocument(Writer writer, Document document, String intro, String outtro) throws IOException {
+        if (intro != null) {
+            writer.write(intro);
+        }
 
-            Format format = Format.getRawFormat();
-            format.setLineSeparator(ls);
-            XMLOutputter out = new XMLOutputter(format);
-            out.output(document.getRootElement(), writer);
+        Format format = Format.getRawFormat();
+        format.setLineSeparator(ls);
+        XMLOutputter out = new XMLOutputter(format);
+        out.output(document.getRootElement(), writer);
 
-            if (outtro != null) {
-                writer.write(outtro);
-            }
-        } catch (IOException e) {
-            throw new ReleaseExecutionException("Error writing POM: " + e.getMessage(), e);
+        if (outtro != null) {
+            writer.write(outtro);
         }
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Crash-safe file writes: the content is written to a temporary file in the directory of the target, which is then
+ * renamed over the target. An interrupted write leaves the previous target untouched instead of a truncated file.
+ *
+ * @since 3.0.2
+ */
+public final class AtomicFiles {
+    private AtomicFiles() {
+        // noop
+    }
+
+    /**
+     * Returns the temporary file to write the content of the target to.
+     *
+     * @param target the file to write
+     * @return the temporary file, in the same directory as the target
+     */
+    public static File getTemporaryFile(File target) {
+        return new File(target.getAbsoluteFile().getParentFile(), target.getName() + ".tmp");
+    }
+
+    /**
+     * Renames the temporary file over the target, atomically if the file system supports it.
+     *
+     * @param temporaryFile the completely written temporary file
+     * @param target        the file to replace
+     * @throws IOException if the file cannot be renamed
+     */
+    public static void commit(File temporaryFile, File target) throws IOException {
+        try {
+            Files.move(
+                    temporaryFile.toPath(),
+                    target.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes of several files which are only renamed over their targets when all of them have been written, so a
+     * failure halfway leaves none of the targets modified.
+     */
+    public static final class Batch {
+        private final Map<File, File> temporaryFiles = new LinkedHashMap<>();
+
+        /**
+         * Returns the temporary file to write the content of the target to, renamed on {@link #commit()}.
+         *
+         * @param target the file to write
+         * @return the temporary file
+         */
+        public File add(File target) {
+            File temporaryFile = getTemporaryFile(target);
+            temporaryFiles.put(temporaryFile, target);
+            return temporaryFile;
+        }
+
+        /**
+         * Renames all the temporary files over their targets.
+         *
+         * @throws IOException if a file cannot be renamed
+         */
+        public void commit() throws IOException {
+            for (Map.Entry<File, File> entry : temporaryFiles.entrySet()) {
+                AtomicFiles.commit(entry.getKey(), entry.getValue());
+            }
+            temporaryFiles.clear();
+        }
+
+        /**
+         * Deletes the temporary files not committed yet.
+         */
+        public void abort() {
+            for (File temporaryFile : temporaryFiles.keySet()) {
+                temporaryFile.delete();
+            }
+            temporaryFiles.clear();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Line based difference of two texts, as the hunks to apply to the original lines to get the revised lines.
+ * <p>
+ * Uses the O(ND) algorithm of Myers on the lines between the common prefix and suffix, which is fast for the few
+ * scattered changes the release makes to a POM. Lines keep their line terminator, so applying the hunks restores the
+ * revised text exactly.
+ *
+ * @since 3.0.2
+ */
+public final class LineDiff {
+    /**
+     * Above this number of changed lines the texts are considered completely different, which bounds time and memory.
+     */
+    private static final int MAX_EDIT_DISTANCE = 1000;
+
+    private LineDiff() {
+        // noop
+    }
+
+    /**
+     * Splits a text into lines, each one with its line terminator.
+     *
+     * @param text the text
+     * @return the lines
+     */
+    public static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    /**
+     * Computes the hunks turning the original lines into the revised lines.
+     *
+     * @param original the original lines
+     * @param revised  the revised lines
+     * @return the hunks, ordered by position, empty if the lines are equal
+     */
+    public static List<Hunk> diff(List<String> original, List<String> revised) {
+        int prefix = 0;
+        int maxPrefix = Math.min(original.size(), revised.size());
+        while (prefix < maxPrefix && original.get(prefix).equals(revised.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && original.get(original.size() - 1 - suffix).equals(revised.get(revised.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<String> a = original.subList(prefix, original.size() - suffix);
+        List<String> b = revised.subList(prefix, revised.size() - suffix);
+        if (a.isEmpty() && b.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<int[]> edits = editScript(a, b);
+        if (edits == null) {
+            return Collections.singletonList(new Hunk(prefix, a.size(), prefix, new ArrayList<>(b)));
+        }
+
+        // merge adjacent edits into hunks
+        List<Hunk> hunks = new ArrayList<>();
+        Hunk hunk = null;
+        for (int[] edit : edits) {
+            int x = edit[0];
+            int y = edit[1];
+            boolean insertion = edit[2] == 1;
+            if (hunk == null
+                    || x != hunk.originalStart - prefix + hunk.originalLength
+                    || y != hunk.revisedStart - prefix + hunk.lines.size()) {
+                hunk = new Hunk(prefix + x, 0, prefix + y, new ArrayList<String>());
+                hunks.add(hunk);
+            }
+            if (insertion) {
+                hunk.lines.add(b.get(y));
+            } else {
+                hunk.originalLength++;
+            }
+        }
+        return hunks;
+    }
+
+    /**
+     * Applies hunks to the original lines.
+     *
+     * @param original the original lines
+     * @param hunks    the hunks, ordered by position
+     * @return the revised lines
+     */
+    public static List<String> apply(List<String> original, List<Hunk> hunks) {
+        List<String> revised = new ArrayList<>(original.size());
+        int position = 0;
+        for (Hunk hunk : hunks) {
+            revised.addAll(original.subList(position, hunk.originalStart));
+            revised.addAll(hunk.lines);
+            position = hunk.originalStart + hunk.originalLength;
+        }
+        revised.addAll(original.subList(position, original.size()));
+        return revised;
+    }
+
+    /**
+     * Formats hunks in the unified diff format, hunks closer than twice the context being joined.
+     *
+     * @param originalName the name of the original file, like <code>a/pom.xml</code>
+     * @param revisedName  the name of the revised file, like <code>b/pom.xml</code>
+     * @param original     the original lines
+     * @param hunks        the hunks, ordered by position
+     * @param context      the number of unchanged lines around the changes
+     * @return the unified diff, empty if there are no hunks
+     */
+    public static String unified(
+            String originalName, String revisedName, List<String> original, List<Hunk> hunks, int context) {
+        StringBuilder diff = new StringBuilder();
+        if (hunks.isEmpty()) {
+            return diff.toString();
+        }
+        diff.append("--- ").append(originalName).append('\n');
+        diff.append("+++ ").append(revisedName).append('\n');
+
+        int first = 0;
+        while (first < hunks.size()) {
+            int last = first;
+            while (last + 1 < hunks.size() && hunks.get(last + 1).originalStart - end(hunks.get(last)) <= 2 * context) {
+                last++;
+            }
+
+            int from = Math.max(0, hunks.get(first).originalStart - context);
+            int to = Math.min(original.size(), end(hunks.get(last)) + context);
+            int revisedFrom = hunks.get(first).revisedStart - (hunks.get(first).originalStart - from);
+            int revisedLength = to - from;
+            for (int i = first; i <= last; i++) {
+                revisedLength += hunks.get(i).lines.size() - hunks.get(i).originalLength;
+            }
+
+            diff.append("@@ -")
+                    .append(range(from, to - from))
+                    .append(" +")
+                    .append(range(revisedFrom, revisedLength))
+                    .append(" @@\n");
+
+            int position = from;
+            for (int i = first; i <= last; i++) {
+                Hunk hunk = hunks.get(i);
+                appendLines(diff, ' ', original.subList(position, hunk.originalStart));
+                appendLines(diff, '-', original.subList(hunk.originalStart, end(hunk)));
+                appendLines(diff, '+', hunk.lines);
+                position = end(hunk);
+            }
+            appendLines(diff, ' ', original.subList(position, to));
+
+            first = last + 1;
+        }
+        return diff.toString();
+    }
+
+    private static int end(Hunk hunk) {
+        return hunk.originalStart + hunk.originalLength;
+    }
+
+    private static String range(int start, int length) {
+        // an empty range is given by the line before it
+        return (length == 0 ? start : start + 1) + "," + length;
+    }
+
+    private static void appendLines(StringBuilder diff, char prefix, List<String> lines) {
+        for (String line : lines) {
+            diff.append(prefix).append(line);
+            if (!line.endsWith("\n")) {
+                diff.append("\n\\ No newline at end of file\n");
+            }
+        }
+    }
+
+    /**
+     * Returns the single edits, each one as <code>{x, y, insertion}</code> where <code>x</code> and <code>y</code>
+     * are the positions in the original and revised lines before the edit.
+     *
+     * @return the edits in order, or <code>null</code> if there are more than {@link #MAX_EDIT_DISTANCE}
+     */
+    private static List<int[]> editScript(List<String> a, List<String> b) {
+        int n = a.size();
+        int m = b.size();
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = max + 1;
+
+        int[] v = new int[2 * max + 3];
+        // the furthest reaching x of each diagonal k before step d, for k in [-d, d]
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            int[] snapshot = new int[2 * d + 1];
+            System.arraycopy(v, offset - d, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m, d);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<int[]> backtrack(List<int[]> trace, int n, int m, int distance) {
+        List<int[]> edits = new ArrayList<>(distance);
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK;
+            if (k == -d || (k != d && v[k - 1 + d] < v[k + 1 + d])) {
+                previousK = k + 1;
+            } else {
+                previousK = k - 1;
+            }
+            int previousX = v[previousK + d];
+            int previousY = previousX - previousK;
+
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+            }
+            edits.add(new int[] {previousX, previousY, previousK == k + 1 ? 1 : 0});
+            x = previousX;
+            y = previousY;
+        }
+        Collections.reverse(edits);
+        return edits;
+    }
+
+    /**
+     * Replacement of consecutive original lines.
+     */
+    public static final class Hunk {
+        private final int originalStart;
+
+        private int originalLength;
+
+        private final int revisedStart;
+
+        private final List<String> lines;
+
+        Hunk(int originalStart, int originalLength, int revisedStart, List<String> lines) {
+            this.originalStart = originalStart;
+            this.originalLength = originalLength;
+            this.revisedStart = revisedStart;
+            this.lines = lines;
+        }
+
+        /**
+         * <p>Getter for the field <code>originalStart</code>.</p>
+         *
+         * @return the index of the first replaced original line
+         */
+        public int getOriginalStart() {
+            return originalStart;
+        }
+
+        /**
+         * <p>Getter for the field <code>originalLength</code>.</p>
+         *
+         * @return the number of replaced original lines
+         */
+        public int getOriginalLength() {
+            return originalLength;
+        }
+
+        /**
+         * <p>Getter for the field <code>revisedStart</code>.</p>
+         *
+         * @return the index of the first replacement line in the revised lines
+         */
+        public int getRevisedStart() {
+            return revisedStart;
+        }
+
+        /**
+         * <p>Getter for the field <code>lines</code>.</p>
+         *
+         * @return the replacement lines
+         */
+        public List<String> getLines() {
+            return Collections.unmodifiableList(lines);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.io.File;
 import java.util.Properties;
 
 import org.sonatype.plexus.components.cipher.DefaultPlexusCipher;
@@ -59,6 +60,11 @@ public class MavenCrypto {
 
     private final PlexusCipher plexusCipher;
 
+    /**
+     * Read from the security file on first use, and again whenever the file changes.
+     */
+    private volatile CryptoContext cryptoContext;
+
     @Inject
     public MavenCrypto(DefaultSecDispatcher secDispatcher, PlexusCipher plexusCipher) {
         this.secDispatcher = secDispatcher;
@@ -89,11 +95,7 @@ public class MavenCrypto {
 
     public String encryptAndDecorate(String passwd) throws MavenCryptoException {
         try {
-            final String master = getMaster();
-
-            DefaultPlexusCipher cipher = new DefaultPlexusCipher();
-            String masterPasswd = cipher.decryptDecorated(master, DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION);
-            return cipher.encryptAndDecorate(passwd, masterPasswd);
+            return getCryptoContext().encryptAndDecorate(passwd);
         } catch (PlexusCipherException e) {
             throw new MavenCryptoException("encrypt failed", e);
         }
@@ -105,25 +107,43 @@ public class MavenCrypto {
 
     private String decryptDecorated(String value) throws MavenCryptoException {
         try {
-            final String master = getMaster();
-
-            DefaultPlexusCipher cipher = new DefaultPlexusCipher();
-            String masterPasswd = cipher.decryptDecorated(master, DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION);
-            return cipher.decryptDecorated(value, masterPasswd);
+            return getCryptoContext().decryptDecorated(value);
         } catch (PlexusCipherException e) {
             throw new MavenCryptoException("decrypt failed", e);
         }
     }
 
-    private String getMaster() throws MavenCryptoException {
+    /**
+     * Returns the cipher with the decrypted master password, reading the security file again only if it changed.
+     */
+    private CryptoContext getCryptoContext() throws MavenCryptoException, PlexusCipherException {
+        String file = getConfigurationFile();
+        File securityFile = new File(file);
+        long lastModified = securityFile.lastModified();
+        long length = securityFile.length();
+
+        CryptoContext context = cryptoContext;
+        if (context == null || !context.isFor(file, lastModified, length)) {
+            DefaultPlexusCipher cipher = new DefaultPlexusCipher();
+            String masterPasswd =
+                    cipher.decryptDecorated(getMaster(file), DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION);
+            context = new CryptoContext(file, lastModified, length, cipher, masterPasswd);
+            cryptoContext = context;
+        }
+        return context;
+    }
+
+    private String getConfigurationFile() {
         String configurationFile = secDispatcher.getConfigurationFile();
 
         if (configurationFile.startsWith("~")) {
             configurationFile = System.getProperty("user.home") + configurationFile.substring(1);
         }
 
-        String file = System.getProperty(DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION, configurationFile);
+        return System.getProperty(DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION, configurationFile);
+    }
 
+    private String getMaster(String file) throws MavenCryptoException {
         String master = null;
 
         try {
@@ -141,4 +161,40 @@ public class MavenCrypto {
 
         return master;
     }
+
+    /**
+     * The cipher and the decrypted master password of a version of the security file.
+     */
+    private static final class CryptoContext {
+        private final String file;
+
+        private final long lastModified;
+
+        private final long length;
+
+        private final DefaultPlexusCipher cipher;
+
+        private final String masterPasswd;
+
+        CryptoContext(String file, long lastModified, long length, DefaultPlexusCipher cipher, String masterPasswd) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.cipher = cipher;
+            this.masterPasswd = masterPasswd;
+        }
+
+        boolean isFor(String file, long lastModified, long length) {
+            return this.file.equals(file) && this.lastModified == lastModified && this.length == length;
+        }
+
+        // the cipher keeps its message digest between calls
+        synchronized String encryptAndDecorate(String passwd) throws PlexusCipherException {
+            return cipher.encryptAndDecorate(passwd, masterPasswd);
+        }
+
+        synchronized String decryptDecorated(String value) throws PlexusCipherException {
+            return cipher.decryptDecorated(value, masterPasswd);
+        }
+    }
 }
@@ -20,12 +20,19 @@ package org.apache.maven.shared.release.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import org.apache.maven.model.Model;
-import org.apache.maven.model.Parent;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
-import org.codehaus.plexus.util.ReaderFactory;
-import org.codehaus.plexus.util.xml.XmlStreamReader;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.slf4j.Logger;
 
@@ -61,6 +68,11 @@ import static java.util.Objects.requireNonNull;
  * @author <a href="mailto:struberg@yahoo.de">Mark Struberg</a>
  */
 public class PomFinder {
+    /**
+     * Directories never containing a module pom: build output and installed dependencies.
+     */
+    private static final Set<String> PRUNED_DIRECTORIES =
+            new HashSet<>(Arrays.asList("target", "node_modules", "bower_components"));
 
     private final Logger log;
     private PomInfo foundPomInfo;
@@ -92,6 +104,9 @@ public class PomFinder {
     /**
      * Search for the previously with {@link #parsePom(java.io.File)}
      * parsed pom in the given directory.
+     * The tree is searched breadth first, so the match closest to the
+     * given directory is found, and build output, dependency and hidden
+     * directories are not searched.
      * @param startDirectory the initial directory
      * @return the pom file which matches the previously parsed pom or <code>null</code>
      * if no matching pom file could have been found.
@@ -111,78 +126,96 @@ public class PomFinder {
             return null;
         }
 
-        // look for the file in the current directory
-        File matchingPom = new File(startDirectory, foundPomInfo.getFileName());
-        if (matchingPom.exists()) {
-            PomInfo pi = null;
-            try {
-                pi = readPomInfo(matchingPom);
-            } catch (Exception e) {
-                log.warn("Error while parsing pom file", e);
-                // do nothing, just continue with the search
-                // this might happen if a build contains unfinished pom.xml
-                // files in integration tests, etc
-            }
+        Deque<Path> directories = new ArrayDeque<>();
+        directories.add(startDirectory.toPath());
+        while (!directories.isEmpty()) {
+            Path directory = directories.poll();
+
+            // look for the file in the current directory
+            File matchingPom = directory.resolve(foundPomInfo.getFileName()).toFile();
+            if (matchingPom.isFile()) {
+                PomInfo pi = null;
+                try {
+                    pi = readPomInfo(matchingPom);
+                } catch (Exception e) {
+                    log.warn("Error while parsing pom file", e);
+                    // do nothing, just continue with the search
+                    // this might happen if a build contains unfinished pom.xml
+                    // files in integration tests, etc
+                }
 
-            if (pi == null || !pi.equals(foundPomInfo)) {
-                matchingPom = null;
+                if (pi != null && pi.equals(foundPomInfo)) {
+                    return matchingPom;
+                }
             }
-        } else {
-            matchingPom = null;
+
+            directories.addAll(listSubDirectories(directory));
         }
 
-        if (matchingPom == null) {
-            String[] childFiles = startDirectory.list();
-            if (childFiles != null) {
-                for (String childFile : childFiles) {
-                    File subDir = new File(startDirectory, childFile);
-                    if (subDir.isDirectory() && !subDir.isHidden()) {
-                        matchingPom = findMatchingPom(subDir);
-                    }
+        return null;
+    }
 
-                    if (matchingPom != null) {
-                        break;
-                    }
+    /**
+     * Lists the sub directories which may contain the pom, sorted by name.
+     * Symbolic links are not followed, which also prevents cycles.
+     */
+    private List<Path> listSubDirectories(Path directory) {
+        List<Path> subDirectories = new ArrayList<>();
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                if (!name.startsWith(".")
+                        && !PRUNED_DIRECTORIES.contains(name)
+                        && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)
+                        && !Files.isHidden(child)) {
+                    subDirectories.add(child);
                 }
             }
+        } catch (IOException e) {
+            log.debug("Unable to list directory " + directory, e);
         }
+        Collections.sort(subDirectories);
+        return subDirectories;
+    }
 
-        return matchingPom;
+    /**
+     * Search for the previously with {@link #parsePom(java.io.File)}
+     * parsed pom, first at the given relative path and only then in the whole tree.
+     * For large checkouts where the location of the project is known this
+     * avoids walking and parsing all the directories of the checkout.
+     * @param startDirectory the initial directory
+     * @param relativePath the expected directory of the pom relative to <code>startDirectory</code>,
+     * may be <code>null</code>
+     * @return the pom file which matches the previously parsed pom or <code>null</code>
+     * if no matching pom file could have been found.
+     * @since 3.0.2
+     */
+    public File findMatchingPom(File startDirectory, String relativePath) {
+        if (relativePath != null && !relativePath.isEmpty() && foundPomInfo != null) {
+            File candidate = new File(new File(startDirectory, relativePath), foundPomInfo.getFileName());
+            try {
+                if (foundPomInfo.equals(readPomInfo(candidate))) {
+                    return candidate;
+                }
+            } catch (Exception e) {
+                log.debug("Error while parsing pom file " + candidate, e);
+            }
+            log.debug("No matching pom at " + candidate + ", searching " + startDirectory);
+        }
+
+        return findMatchingPom(startDirectory);
     }
 
     /**
-     * Read the {@link PomInfo} from the given pom file
+     * Read the {@link PomInfo} from the given pom file.
+     * Only the coordinates at the start of the pom are read, and
+     * a pom which did not change is not read again.
      * @param pomFile pom.xml file
      * @return the PomInfo or <code>null</code
      */
     private PomInfo readPomInfo(File pomFile) throws IOException, XmlPullParserException {
-        if (!pomFile.exists() || !pomFile.isFile()) {
-            return null;
-        }
-
-        PomInfo pomInfo = null;
-
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-
-        Model model;
-        try (XmlStreamReader xmlReader = ReaderFactory.newXmlReader(pomFile)) {
-            model = reader.read(xmlReader);
-        }
-
-        if (model != null) {
-            pomInfo = new PomInfo();
-            pomInfo.setArtifactId(model.getArtifactId());
-            pomInfo.setGroupId(model.getGroupId());
-
-            Parent parent = model.getParent();
-            if (parent != null) {
-                pomInfo.setParentArtifactId(parent.getArtifactId());
-                pomInfo.setParentGroupId(parent.getGroupId());
-            }
-
-            pomInfo.setFileName(pomFile.getName());
-        }
-        return pomInfo;
+        PomHeader header = PomHeader.read(pomFile);
+        return header != null ? new PomInfo(pomFile.getName(), header) : null;
     }
 
     /***
@@ -190,34 +223,16 @@ public class PomFinder {
      * Information may partially be empty.
      */
     private static class PomInfo {
-        private String fileName;
-        private String artifactId;
-        private String groupId;
-        private String parentArtifactId;
-        private String parentGroupId;
-
-        public String getFileName() {
-            return fileName;
-        }
+        private final String fileName;
+        private final PomHeader header;
 
-        public void setFileName(String fileName) {
+        PomInfo(String fileName, PomHeader header) {
             this.fileName = fileName;
+            this.header = header;
         }
 
-        public void setArtifactId(String artifactId) {
-            this.artifactId = artifactId;
-        }
-
-        public void setGroupId(String groupId) {
-            this.groupId = groupId;
-        }
-
-        public void setParentArtifactId(String parentArtifactId) {
-            this.parentArtifactId = parentArtifactId;
-        }
-
-        public void setParentGroupId(String parentGroupId) {
-            this.parentGroupId = parentGroupId;
+        public String getFileName() {
+            return fileName;
         }
 
         @Override
@@ -230,33 +245,12 @@ public class PomFinder {
                 return false;
             }
 
-            PomInfo pomInfo = (PomInfo) o;
-
-            if (artifactId != null ? !artifactId.equals(pomInfo.artifactId) : pomInfo.artifactId != null) {
-                return false;
-            }
-            if (groupId != null ? !groupId.equals(pomInfo.groupId) : pomInfo.groupId != null) {
-                return false;
-            }
-            if (parentArtifactId != null
-                    ? !parentArtifactId.equals(pomInfo.parentArtifactId)
-                    : pomInfo.parentArtifactId != null) {
-                return false;
-            }
-            if (parentGroupId != null ? !parentGroupId.equals(pomInfo.parentGroupId) : pomInfo.parentGroupId != null) {
-                return false;
-            }
-
-            return true;
+            return header.equals(((PomInfo) o).header);
         }
 
         @Override
         public int hashCode() {
-            int result = artifactId != null ? artifactId.hashCode() : 0;
-            result = 31 * result + (groupId != null ? groupId.hashCode() : 0);
-            result = 31 * result + (parentArtifactId != null ? parentArtifactId.hashCode() : 0);
-            result = 31 * result + (parentGroupId != null ? parentGroupId.hashCode() : 0);
-            return result;
+            return header.hashCode();
         }
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.plexus.util.ReaderFactory;
+import org.codehaus.plexus.util.xml.XmlStreamReader;
+import org.codehaus.plexus.util.xml.pull.EntityReplacementMap;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * The coordinates declared at the start of a POM file: its group id and artifact id and those of its parent, as
+ * written in the file, so without inheritance.
+ * <p>
+ * Only the elements up to the last of these coordinates are parsed, which is usually within the first few hundred
+ * bytes: once <code>artifactId</code> and either <code>groupId</code> or <code>parent</code> are known, parsing stops
+ * at the first element which is not one of <code>modelVersion</code>, <code>parent</code> and <code>groupId</code>.
+ * A POM declaring its own group id therefore has to declare its parent with the other coordinates, as in the
+ * conventional order, for instance before <code>version</code>. The result is kept in a cache shared by all callers,
+ * keyed by the path of the file. A cached header is only used as long as the file keeps the same modification time and
+ * size. Instances are immutable.
+ *
+ * @since 3.0.2
+ */
+public final class PomHeader {
+    /**
+     * Bound of the cache, which is simply emptied when reached.
+     */
+    private static final int MAX_CACHED = 4096;
+
+    private static final Map<File, CachedHeader> CACHE = new ConcurrentHashMap<>();
+
+    private final String groupId;
+
+    private final String artifactId;
+
+    private final String parentGroupId;
+
+    private final String parentArtifactId;
+
+    private PomHeader(String groupId, String artifactId, String parentGroupId, String parentArtifactId) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.parentGroupId = parentGroupId;
+        this.parentArtifactId = parentArtifactId;
+    }
+
+    /**
+     * Reads the header of a POM file, or returns the cached one if the file did not change since.
+     *
+     * @param pomFile the POM file
+     * @return the header, or <code>null</code> if the file does not exist or has no root element
+     * @throws IOException            if the file cannot be read
+     * @throws XmlPullParserException if the file is not well-formed before the end of its header
+     */
+    public static PomHeader read(File pomFile) throws IOException, XmlPullParserException {
+        if (!pomFile.isFile()) {
+            return null;
+        }
+
+        File key = pomFile.getAbsoluteFile();
+        long lastModified = pomFile.lastModified();
+        long length = pomFile.length();
+
+        CachedHeader cached = CACHE.get(key);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+            return cached.header;
+        }
+
+        PomHeader header = parse(pomFile);
+        if (CACHE.size() >= MAX_CACHED) {
+            CACHE.clear();
+        }
+        CACHE.put(key, new CachedHeader(lastModified, length, header));
+        return header;
+    }
+
+    private static PomHeader parse(File pomFile) throws IOException, XmlPullParserException {
+        try (XmlStreamReader xmlReader = ReaderFactory.newXmlReader(pomFile)) {
+            XmlPullParser parser = new MXParser(EntityReplacementMap.defaultEntityReplacementMap);
+            parser.setInput(xmlReader);
+
+            if (parser.nextTag() != XmlPullParser.START_TAG) {
+                return null;
+            }
+
+            String groupId = null;
+            String artifactId = null;
+            String[] parent = null;
+            int eventType = parser.next();
+            while (eventType != XmlPullParser.END_DOCUMENT
+                    && (groupId == null || artifactId == null || parent == null)) {
+                if (eventType == XmlPullParser.START_TAG && parser.getDepth() == 2) {
+                    if ("groupId".equals(parser.getName())) {
+                        groupId = parser.nextText().trim();
+                    } else if ("artifactId".equals(parser.getName())) {
+                        artifactId = parser.nextText().trim();
+                    } else if ("parent".equals(parser.getName())) {
+                        parent = parseParent(parser);
+                    } else if (artifactId != null
+                            && (groupId != null || parent != null)
+                            && !"modelVersion".equals(parser.getName())) {
+                        // past the header: a root POM has no parent, a module may inherit its group id, but a POM
+                        // without group id must declare a parent, which may still follow
+                        break;
+                    }
+                }
+                eventType = parser.next();
+            }
+
+            return parent != null
+                    ? new PomHeader(groupId, artifactId, parent[0], parent[1])
+                    : new PomHeader(groupId, artifactId, null, null);
+        }
+    }
+
+    /**
+     * @return the group id and the artifact id of the parent
+     */
+    private static String[] parseParent(XmlPullParser parser) throws IOException, XmlPullParserException {
+        String[] parent = new String[2];
+        int depth = parser.getDepth();
+        int eventType = parser.next();
+        while (eventType != XmlPullParser.END_DOCUMENT
+                && !(eventType == XmlPullParser.END_TAG && parser.getDepth() == depth)) {
+            if (eventType == XmlPullParser.START_TAG && parser.getDepth() == depth + 1) {
+                if ("groupId".equals(parser.getName())) {
+                    parent[0] = parser.nextText().trim();
+                } else if ("artifactId".equals(parser.getName())) {
+                    parent[1] = parser.nextText().trim();
+                }
+            }
+            eventType = parser.next();
+        }
+        return parent;
+    }
+
+    /**
+     * <p>Getter for the field <code>groupId</code>.</p>
+     *
+     * @return the group id declared by the POM, <code>null</code> if inherited
+     */
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * <p>Getter for the field <code>artifactId</code>.</p>
+     *
+     * @return the artifact id declared by the POM
+     */
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    /**
+     * <p>Getter for the field <code>parentGroupId</code>.</p>
+     *
+     * @return the group id of the parent, <code>null</code> without parent
+     */
+    public String getParentGroupId() {
+        return parentGroupId;
+    }
+
+    /**
+     * <p>Getter for the field <code>parentArtifactId</code>.</p>
+     *
+     * @return the artifact id of the parent, <code>null</code> without parent
+     */
+    public String getParentArtifactId() {
+        return parentArtifactId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PomHeader that = (PomHeader) o;
+        return Objects.equals(groupId, that.groupId)
+                && Objects.equals(artifactId, that.artifactId)
+                && Objects.equals(parentGroupId, that.parentGroupId)
+                && Objects.equals(parentArtifactId, that.parentArtifactId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupId, artifactId, parentGroupId, parentArtifactId);
+    }
+
+    @Override
+    public String toString() {
+        return (parentGroupId != null ? parentGroupId + ':' + parentArtifactId + '/' : "") + groupId + ':' + artifactId;
+    }
+
+    private static final class CachedHeader {
+        private final long lastModified;
+
+        private final long length;
+
+        private final PomHeader header;
+
+        CachedHeader(long lastModified, long length, PomHeader header) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.header = header;
+        }
+    }
+}
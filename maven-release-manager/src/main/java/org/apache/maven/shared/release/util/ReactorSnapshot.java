@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+
+/**
+ * The POMs of the reactor as tagged by <code>release:prepare</code>: for each project, its release version, the path
+ * of its POM relative to the root project, the hash of the POM content and the hash of its <code>src</code> and
+ * <code>.mvn</code> directories, as well as whether the preparation goals ran the tests of this reactor.
+ * <p>
+ * <code>release:perform</code> builds the tag in a fresh checkout, in a forked Maven which computes its own reactor.
+ * Comparing the checked out POMs with the snapshot written by prepare is cheap, and tells whether the tag really
+ * contains the reactor that was prepared before spending the time of the perform build. When the sources match too
+ * and the snapshot is verified, the checkout is the reactor the preparation goals already tested. Other inputs of the
+ * build, like files outside these directories, the settings or the environment, are not compared.
+ *
+ * @since 3.0.2
+ */
+public final class ReactorSnapshot {
+    /**
+     * The name of the snapshot file, next to <code>release.properties</code>.
+     */
+    public static final String FILE_NAME = "release-reactor.properties";
+
+    private static final String MODULES = "modules";
+
+    private static final String VERIFIED = "verified";
+
+    private static final String VERSION_SUFFIX = ".version";
+
+    private static final String PATH_SUFFIX = ".path";
+
+    private static final String SHA1_SUFFIX = ".sha1";
+
+    private static final String SOURCES_SUFFIX = ".sources";
+
+    private static final String[] SOURCE_DIRECTORIES = {"src", ".mvn"};
+
+    private final Map<String, Module> modules;
+
+    private final boolean verified;
+
+    private ReactorSnapshot(Map<String, Module> modules, boolean verified) {
+        this.modules = modules;
+        this.verified = verified;
+    }
+
+    /**
+     * Takes the snapshot of the POM files of the reactor as currently on disk.
+     *
+     * @param releaseDescriptor the release descriptor, giving the release versions and whether the preparation goals
+     *                          ran the tests
+     * @param reactorProjects   the reactor projects
+     * @return the snapshot
+     * @throws IOException if a POM cannot be read
+     */
+    public static ReactorSnapshot of(ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects)
+            throws IOException {
+        Path root = ReleaseUtil.getRootProject(reactorProjects)
+                .getBasedir()
+                .getAbsoluteFile()
+                .toPath();
+
+        Map<String, Module> modules = new LinkedHashMap<>();
+        for (MavenProject project : reactorProjects) {
+            String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
+            String version = releaseDescriptor.getProjectReleaseVersion(projectId);
+            File pomFile = project.getFile().getAbsoluteFile();
+            String path = root.relativize(pomFile.toPath()).toString().replace(File.separatorChar, '/');
+            modules.put(
+                    projectId,
+                    new Module(
+                            version != null ? version : project.getVersion(),
+                            path,
+                            Digests.sha1(Files.readAllBytes(pomFile.toPath())),
+                            hashSources(pomFile.getParentFile())));
+        }
+        return new ReactorSnapshot(modules, releaseDescriptor.isPreparationGoalsVerified());
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file the snapshot file
+     * @return the snapshot, or <code>null</code> if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static ReactorSnapshot read(File file) throws IOException {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+
+        Map<String, Module> modules = new LinkedHashMap<>();
+        for (String projectId : properties.getProperty(MODULES, "").split(",")) {
+            String path = properties.getProperty(projectId + PATH_SUFFIX);
+            if (path != null) {
+                modules.put(
+                        projectId,
+                        new Module(
+                                properties.getProperty(projectId + VERSION_SUFFIX),
+                                path,
+                                properties.getProperty(projectId + SHA1_SUFFIX),
+                                properties.getProperty(projectId + SOURCES_SUFFIX)));
+            }
+        }
+        return new ReactorSnapshot(modules, Boolean.parseBoolean(properties.getProperty(VERIFIED)));
+    }
+
+    /**
+     * Writes the snapshot, atomically replacing any previous one.
+     *
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(MODULES, String.join(",", modules.keySet()));
+        properties.setProperty(VERIFIED, String.valueOf(verified));
+        for (Map.Entry<String, Module> module : modules.entrySet()) {
+            properties.setProperty(module.getKey() + VERSION_SUFFIX, module.getValue().version);
+            properties.setProperty(module.getKey() + PATH_SUFFIX, module.getValue().path);
+            properties.setProperty(module.getKey() + SHA1_SUFFIX, module.getValue().sha1);
+            properties.setProperty(module.getKey() + SOURCES_SUFFIX, module.getValue().sources);
+        }
+
+        File temporaryFile = AtomicFiles.getTemporaryFile(file);
+        try (OutputStream out = new FileOutputStream(temporaryFile)) {
+            properties.store(out, "reactor tagged by release:prepare");
+        }
+        AtomicFiles.commit(temporaryFile, file);
+    }
+
+    /**
+     * Compares the POMs of a checkout with the snapshot.
+     *
+     * @param rootDirectory the directory of the root project in the checkout
+     * @return the differences, empty if the checkout contains the POMs of the snapshot
+     * @throws IOException if a POM cannot be read
+     */
+    public List<String> verify(File rootDirectory) throws IOException {
+        List<String> differences = new ArrayList<>();
+        for (Map.Entry<String, Module> module : modules.entrySet()) {
+            File pomFile = new File(rootDirectory, module.getValue().path);
+            if (!pomFile.isFile()) {
+                differences.add(module.getKey() + ": missing " + module.getValue().path);
+            } else if (!Digests.sha1(Files.readAllBytes(pomFile.toPath())).equals(module.getValue().sha1)) {
+                differences.add(module.getKey() + ": " + module.getValue().path + " changed");
+            } else if (!hashSources(pomFile.getParentFile()).equals(module.getValue().sources)) {
+                differences.add(module.getKey() + ": sources changed");
+            }
+        }
+        return differences;
+    }
+
+    /**
+     * <p>isVerified.</p>
+     *
+     * @return whether the preparation goals ran the tests of the reactor
+     */
+    public boolean isVerified() {
+        return verified;
+    }
+
+    /**
+     * <p>getVersions.</p>
+     *
+     * @return the release versions of the projects, mapped by versionless key, in reactor order
+     */
+    public Map<String, String> getVersions() {
+        Map<String, String> versions = new LinkedHashMap<>();
+        for (Map.Entry<String, Module> module : modules.entrySet()) {
+            versions.put(module.getKey(), module.getValue().version);
+        }
+        return Collections.unmodifiableMap(versions);
+    }
+
+    /**
+     * Hashes the paths and contents of the files of the <code>src</code> and <code>.mvn</code> directories of a
+     * project.
+     */
+    private static String hashSources(File projectDirectory) throws IOException {
+        final Path projectPath = projectDirectory.toPath();
+        final Map<String, String> hashes = new TreeMap<>();
+        for (String directory : SOURCE_DIRECTORIES) {
+            Path sourceDirectory = projectPath.resolve(directory);
+            if (Files.isDirectory(sourceDirectory)) {
+                Files.walkFileTree(sourceDirectory, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        hashes.put(
+                                projectPath.relativize(file).toString().replace(File.separatorChar, '/'),
+                                Digests.sha1(Files.readAllBytes(file)));
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+        }
+
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, String> hash : hashes.entrySet()) {
+            content.append(hash.getValue()).append("  ").append(hash.getKey()).append('\n');
+        }
+        return Digests.sha1(content.toString());
+    }
+
+    private static final class Module {
+        private final String version;
+
+        private final String path;
+
+        private final String sha1;
+
+        private final String sources;
+
+        Module(String version, String path, String sha1, String sources) {
+            this.version = version;
+            this.path = path;
+            this.sha1 = sha1;
+            this.sources = sources;
+        }
+    }
+}
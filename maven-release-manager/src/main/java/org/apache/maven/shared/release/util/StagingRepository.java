@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Writer;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * A staging repository on the local file system, which the artifacts of a release are deployed to once by
+ * <code>release:stage</code>, and then promoted from to the release repository without being built or deployed again.
+ * <p>
+ * After staging, the SHA-1 of every staged file is recorded in a manifest. Promoting first checks every staged file
+ * against the manifest, then hard links the files into the target repository, or copies them where links are not
+ * supported. Repository metadata is merged with the metadata already in the target repository instead of replacing
+ * it, and released files already in the target repository are never overwritten.
+ *
+ * @since 3.0.2
+ */
+public final class StagingRepository {
+    /**
+     * The name of the manifest, in the root of the staging repository.
+     */
+    public static final String MANIFEST_FILE_NAME = ".release-staging.sha1";
+
+    private static final String[] METADATA_CHECKSUMS = {"md5", "sha1"};
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File directory;
+
+    /**
+     * <p>Constructor for StagingRepository.</p>
+     *
+     * @param directory the root directory of the staging repository
+     */
+    public StagingRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the local directory of a repository given in the format of <code>altDeploymentRepository</code>.
+     *
+     * @param repository the repository, as <code>id::url</code>, <code>id::layout::url</code> or only the URL
+     * @return the directory, or <code>null</code> if the repository is not a <code>file:</code> URL
+     */
+    public static File toDirectory(String repository) {
+        int separator = repository.lastIndexOf("::");
+        String url = separator >= 0 ? repository.substring(separator + 2) : repository;
+        if (!url.startsWith("file:")) {
+            return null;
+        }
+        try {
+            return new File(new URI(url));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // file:relative/path
+            return new File(url.substring("file:".length()));
+        }
+    }
+
+    /**
+     * Records the SHA-1 of all the staged files in the manifest.
+     *
+     * @return the recorded hashes, mapped by path relative to the repository root
+     * @throws IOException if a file cannot be read or the manifest cannot be written
+     */
+    public Map<String, String> record() throws IOException {
+        final Path root = directory.toPath();
+        final Map<String, String> hashes = new TreeMap<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String path = toPath(root.relativize(file));
+                if (!MANIFEST_FILE_NAME.equals(path) && !path.endsWith(".tmp")) {
+                    hashes.put(path, sha1(file));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<String, String> hash : hashes.entrySet()) {
+            manifest.append(hash.getValue()).append("  ").append(hash.getKey()).append('\n');
+        }
+        File manifestFile = new File(directory, MANIFEST_FILE_NAME);
+        File temporaryFile = AtomicFiles.getTemporaryFile(manifestFile);
+        Files.write(temporaryFile.toPath(), manifest.toString().getBytes(StandardCharsets.UTF_8));
+        AtomicFiles.commit(temporaryFile, manifestFile);
+
+        return hashes;
+    }
+
+    /**
+     * Reads the manifest written by {@link #record()}.
+     *
+     * @return the recorded hashes, mapped by path relative to the repository root
+     * @throws IOException if the manifest does not exist or cannot be read
+     */
+    public Map<String, String> readManifest() throws IOException {
+        File manifestFile = new File(directory, MANIFEST_FILE_NAME);
+        if (!manifestFile.isFile()) {
+            throw new IOException("No staged release recorded in " + directory);
+        }
+
+        Map<String, String> hashes = new TreeMap<>();
+        for (String line : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+            int separator = line.indexOf("  ");
+            if (separator > 0) {
+                hashes.put(line.substring(separator + 2), line.substring(0, separator));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Promotes the recorded files to the target repository.
+     *
+     * @param targetDirectory the root directory of the target repository
+     * @return the paths of the promoted files, relative to the repository root
+     * @throws IOException if a staged file changed since it was recorded, a released file would be overwritten, or a
+     *                     file cannot be promoted
+     */
+    public List<String> promote(File targetDirectory) throws IOException {
+        Map<String, String> hashes = readManifest();
+
+        // check everything before touching the target repository
+        for (Map.Entry<String, String> hash : hashes.entrySet()) {
+            Path staged = new File(directory, hash.getKey()).toPath();
+            if (!Files.isRegularFile(staged) || !sha1(staged).equals(hash.getValue())) {
+                throw new IOException("Staged file " + hash.getKey() + " changed since it was staged");
+            }
+            Path target = new File(targetDirectory, hash.getKey()).toPath();
+            if (!isMetadata(hash.getKey())
+                    && !isMetadataChecksum(hash.getKey())
+                    && Files.exists(target)
+                    && !sha1(target).equals(hash.getValue())) {
+                throw new IOException("Released file " + hash.getKey() + " already exists with another content");
+            }
+        }
+
+        List<String> promoted = new ArrayList<>();
+        for (String path : hashes.keySet()) {
+            File staged = new File(directory, path);
+            File target = new File(targetDirectory, path);
+            if (isMetadataChecksum(path)) {
+                // written along with the merged metadata
+                continue;
+            }
+            Files.createDirectories(target.getAbsoluteFile().getParentFile().toPath());
+            if (isMetadata(path)) {
+                promoteMetadata(staged, target);
+            } else if (!target.exists()) {
+                link(staged, target);
+            }
+            promoted.add(path);
+        }
+        return promoted;
+    }
+
+    private static void link(File staged, File target) throws IOException {
+        File temporaryFile = AtomicFiles.getTemporaryFile(target);
+        Files.deleteIfExists(temporaryFile.toPath());
+        try {
+            Files.createLink(temporaryFile.toPath(), staged.toPath());
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            // other file system, or no hard links
+            Files.copy(staged.toPath(), temporaryFile.toPath());
+        }
+        AtomicFiles.commit(temporaryFile, target);
+    }
+
+    private static void promoteMetadata(File staged, File target) throws IOException {
+        Metadata metadata = readMetadata(staged);
+        if (target.exists()) {
+            Metadata targetMetadata = readMetadata(target);
+            targetMetadata.merge(metadata);
+            metadata = targetMetadata;
+        }
+
+        File temporaryFile = AtomicFiles.getTemporaryFile(target);
+        try (Writer writer = Files.newBufferedWriter(temporaryFile.toPath(), StandardCharsets.UTF_8)) {
+            new MetadataXpp3Writer().write(writer, metadata);
+        }
+        AtomicFiles.commit(temporaryFile, target);
+
+        for (String algorithm : METADATA_CHECKSUMS) {
+            File checksumFile = new File(target.getPath() + '.' + algorithm);
+            File temporaryChecksumFile = AtomicFiles.getTemporaryFile(checksumFile);
+            Files.write(
+                    temporaryChecksumFile.toPath(),
+                    digest(target.toPath(), algorithm).getBytes(StandardCharsets.UTF_8));
+            AtomicFiles.commit(temporaryChecksumFile, checksumFile);
+        }
+    }
+
+    private static Metadata readMetadata(File file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return new MetadataXpp3Reader().read(reader, false);
+        } catch (XmlPullParserException e) {
+            throw new IOException("Invalid repository metadata " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isMetadata(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return name.startsWith("maven-metadata") && name.endsWith(".xml");
+    }
+
+    private static boolean isMetadataChecksum(String path) {
+        for (String algorithm : METADATA_CHECKSUMS) {
+            String suffix = '.' + algorithm;
+            if (path.endsWith(suffix) && isMetadata(path.substring(0, path.length() - suffix.length()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toPath(Path relativePath) {
+        return relativePath.toString().replace(File.separatorChar, '/');
+    }
+
+    private static String sha1(Path file) throws IOException {
+        return digest(file, "sha1");
+    }
+
+    private static String digest(Path file, String algorithm) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("sha1".equals(algorithm) ? "SHA-1" : "MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
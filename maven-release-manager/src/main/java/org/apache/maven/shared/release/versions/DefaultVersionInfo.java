@@ -19,7 +19,6 @@
 package org.apache.maven.shared.release.versions;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.regex.Matcher;
@@ -70,21 +69,8 @@ public class DefaultVersionInfo implements VersionInfo {
 
     private final String buildSeparator;
 
-    private static final int DIGITS_INDEX = 1;
-
-    private static final int ANNOTATION_SEPARATOR_INDEX = 2;
-
-    private static final int ANNOTATION_INDEX = 3;
-
-    private static final int ANNOTATION_REV_SEPARATOR_INDEX = 4;
-
-    private static final int ANNOTATION_REVISION_INDEX = 5;
-
-    private static final int BUILD_SEPARATOR_INDEX = 6;
-
-    private static final int BUILD_SPECIFIER_INDEX = 7;
-
-    private static final String SNAPSHOT_IDENTIFIER = "SNAPSHOT";
+    // created on the first comparison
+    private DefaultArtifactVersion comparableVersion;
 
     private static final String DIGIT_SEPARATOR_STRING = ".";
 
@@ -116,46 +102,17 @@ public class DefaultVersionInfo implements VersionInfo {
      * @throws org.apache.maven.shared.release.versions.VersionParseException if an exception during parsing the input
      */
     public DefaultVersionInfo(String version) throws VersionParseException {
-        strVersion = version;
+        ParsedVersion parsed = ParsedVersion.parse(version);
 
-        // FIX for non-digit release numbers, e.g. trunk-SNAPSHOT or just SNAPSHOT
-        Matcher matcher = ALTERNATE_PATTERN.matcher(strVersion);
-        // TODO: hack because it didn't support "SNAPSHOT"
-        if (matcher.matches()) {
-            annotation = null;
-            digits = null;
-            buildSpecifier = version;
-            buildSeparator = null;
-            return;
-        }
-
-        Matcher m = STANDARD_PATTERN.matcher(strVersion);
-        if (m.matches()) {
-            digits = parseDigits(m.group(DIGITS_INDEX));
-            if (!SNAPSHOT_IDENTIFIER.equals(m.group(ANNOTATION_INDEX))) {
-                annotationSeparator = m.group(ANNOTATION_SEPARATOR_INDEX);
-                annotation = nullIfEmpty(m.group(ANNOTATION_INDEX));
-
-                if (StringUtils.isNotEmpty(m.group(ANNOTATION_REV_SEPARATOR_INDEX))
-                        && StringUtils.isEmpty(m.group(ANNOTATION_REVISION_INDEX))) {
-                    // The build separator was picked up as the annotation revision separator
-                    buildSeparator = m.group(ANNOTATION_REV_SEPARATOR_INDEX);
-                    buildSpecifier = nullIfEmpty(m.group(BUILD_SPECIFIER_INDEX));
-                } else {
-                    annotationRevSeparator = m.group(ANNOTATION_REV_SEPARATOR_INDEX);
-                    annotationRevision = nullIfEmpty(m.group(ANNOTATION_REVISION_INDEX));
-
-                    buildSeparator = m.group(BUILD_SEPARATOR_INDEX);
-                    buildSpecifier = nullIfEmpty(m.group(BUILD_SPECIFIER_INDEX));
-                }
-            } else {
-                // Annotation was "SNAPSHOT" so populate the build specifier with that data
-                buildSeparator = m.group(ANNOTATION_SEPARATOR_INDEX);
-                buildSpecifier = nullIfEmpty(m.group(ANNOTATION_INDEX));
-            }
-        } else {
-            throw new VersionParseException("Unable to parse the version string: \"" + version + "\"");
-        }
+        strVersion = version;
+        // parsed digits are shared by all versions with the same string, so keep a copy of our own
+        digits = parsed.getDigits() != null ? new ArrayList<>(parsed.getDigits()) : null;
+        annotation = parsed.getAnnotation();
+        annotationRevision = parsed.getAnnotationRevision();
+        buildSpecifier = parsed.getBuildSpecifier();
+        annotationSeparator = parsed.getAnnotationSeparator();
+        annotationRevSeparator = parsed.getAnnotationRevSeparator();
+        buildSeparator = parsed.getBuildSeparator();
     }
 
     /**
@@ -237,15 +194,20 @@ public class DefaultVersionInfo implements VersionInfo {
                 && that.strVersion.charAt(strVersion.length()) != '-') {
             result = -1;
         } else {
+            result = getComparableVersion().compareTo(that.getComparableVersion());
+        }
+        return result;
+    }
+
+    private DefaultArtifactVersion getComparableVersion() {
+        if (comparableVersion == null) {
             // TODO: this is a workaround for a bug in DefaultArtifactVersion - fix there - it should not consider case
             // in comparing the qualifier
             // NOTE: The combination of upper-casing and lower-casing is an approximation of String.equalsIgnoreCase()
-            String thisVersion = strVersion.toUpperCase(Locale.ENGLISH).toLowerCase(Locale.ENGLISH);
-            String thatVersion = that.strVersion.toUpperCase(Locale.ENGLISH).toLowerCase(Locale.ENGLISH);
-
-            result = new DefaultArtifactVersion(thisVersion).compareTo(new DefaultArtifactVersion(thatVersion));
+            comparableVersion = new DefaultArtifactVersion(
+                    strVersion.toUpperCase(Locale.ENGLISH).toLowerCase(Locale.ENGLISH));
         }
-        return result;
+        return comparableVersion;
     }
 
     @Override
@@ -364,28 +326,14 @@ public class DefaultVersionInfo implements VersionInfo {
         return digits != null ? StringUtils.join(digits.iterator(), DIGIT_SEPARATOR_STRING) : null;
     }
 
-    /**
-     * Splits the string on "." and returns a list
-     * containing each digit.
-     *
-     * @param strDigits
-     */
-    private List<String> parseDigits(String strDigits) {
-        return Arrays.asList(StringUtils.split(strDigits, DIGIT_SEPARATOR_STRING));
-    }
-
     // --------------------------------------------------
     // Getters & Setters
     // --------------------------------------------------
 
-    private static String nullIfEmpty(String s) {
-        return (s == null || s.isEmpty()) ? null : s;
-    }
-
     /**
      * <p>Getter for the field <code>digits</code>.</p>
      *
-     * @return a {@link java.util.List} object
+     * @return the digits of this version, or <code>null</code> for versions like <code>trunk-SNAPSHOT</code>
      */
     public List<String> getDigits() {
         return digits;
@@ -20,9 +20,12 @@ package org.apache.maven.shared.release;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import com.google.inject.AbstractModule;
@@ -43,10 +46,13 @@ import org.apache.maven.shared.release.config.ReleaseDescriptorStore;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStoreException;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStoreStub;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.phase.AbstractRewritePomsPhase;
 import org.apache.maven.shared.release.phase.ReleasePhase;
 import org.apache.maven.shared.release.phase.ReleasePhaseStub;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
+import org.apache.maven.shared.release.strategy.Strategy;
 import org.apache.maven.shared.release.stubs.ScmManagerStub;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 import org.codehaus.plexus.util.FileUtils;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -348,6 +354,52 @@ public class DefaultReleaseManagerTest extends PlexusJUnit4TestCase {
         }
     }
 
+    @Test
+    public void testPrepareUnknownReleaseDescriptorStore() throws Exception {
+        ReleaseManager releaseManager = lookup(ReleaseManager.class, "test");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setWorkingDirectory(getTestFile("target/working-directory").getAbsolutePath());
+        builder.setReleaseDescriptorStoreId("foo");
+
+        ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+        prepareRequest.setReleaseDescriptorBuilder(builder);
+        prepareRequest.setReleaseEnvironment(new DefaultReleaseEnvironment());
+        prepareRequest.setUserProperties(new Properties());
+
+        try {
+            releaseManager.prepare(prepareRequest);
+            fail("Should have failed to find the release descriptor store");
+        } catch (ReleaseFailureException e) {
+            assertEquals("Unknown release descriptor store: foo", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testPrepareWithSelectedReleaseDescriptorStore() throws Exception {
+        ReleaseManager releaseManager = lookup(ReleaseManager.class, "test");
+
+        File workingDirectory = getTestFile("target/working-directory/journal");
+        workingDirectory.mkdirs();
+        File journal = new File(workingDirectory, "release.journal");
+        journal.delete();
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setWorkingDirectory(workingDirectory.getAbsolutePath());
+        builder.setReleaseDescriptorStoreId("journal");
+
+        ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+        prepareRequest.setReleaseDescriptorBuilder(builder);
+        prepareRequest.setReleaseEnvironment(new DefaultReleaseEnvironment());
+        prepareRequest.setUserProperties(new Properties());
+
+        releaseManager.prepare(prepareRequest);
+
+        assertTrue("release.journal written", journal.exists());
+        assertFalse("release.properties not written", new File(workingDirectory, "release.properties").exists());
+    }
+
     @Test
     public void testReleaseConfigurationStoreReadFailure() throws Exception {
         // prepare
@@ -718,10 +770,50 @@ public class DefaultReleaseManagerTest extends PlexusJUnit4TestCase {
         assertTrue(result.getOutput().contains("-P aProfile,bProfile,anotherOne"));
     }
 
+    @Test
+    public void testPomDiffReportSkippedWhenResumingAfterRewrite() throws Exception {
+        Strategy strategy = mock(Strategy.class);
+        when(strategy.getPreparePhases()).thenReturn(Arrays.asList("rewrite-poms-for-release", "step"));
+        Map<String, ReleasePhase> phases = new HashMap<>();
+        phases.put("rewrite-poms-for-release", mock(AbstractRewritePomsPhase.class));
+        phases.put("step", mock(ReleasePhase.class));
+
+        File reportFile = getTestFile("target/pom-diff-report/pom.diff");
+        reportFile.delete();
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder()
+                .setCompletedPhase("rewrite-poms-for-release")
+                .setPomDiffReport(reportFile.getAbsolutePath())
+                .setWorkingDirectory(getTestFile("target/pom-diff-report").getAbsolutePath());
+        ReleaseDescriptorStore configStoreMock = mock(ReleaseDescriptorStore.class);
+        when(configStoreMock.read(any(ReleaseDescriptorBuilder.class))).thenReturn(builder);
+
+        DefaultReleaseManager releaseManager = new DefaultReleaseManager(
+                Collections.singletonMap("default", strategy),
+                phases,
+                configStoreMock,
+                Collections.emptyMap(),
+                new PomSnapshotStore());
+
+        ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+        prepareRequest.setReleaseDescriptorBuilder(new ReleaseDescriptorBuilder());
+        prepareRequest.setReleaseEnvironment(new DefaultReleaseEnvironment());
+        prepareRequest.setUserProperties(new Properties());
+
+        ReleaseResult result = releaseManager.prepareWithResult(prepareRequest);
+
+        assertEquals(ReleaseResult.SUCCESS, result.getResultCode());
+        assertTrue(result.getOutput().contains("Not writing the POM diff report"));
+        assertFalse(reportFile.exists());
+    }
+
     @Test
     public void testDetermineWorkingDirectory() throws Exception {
         DefaultReleaseManager defaultReleaseManager = new DefaultReleaseManager(
-                Collections.emptyMap(), Collections.emptyMap(), mock(ReleaseDescriptorStore.class));
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                mock(ReleaseDescriptorStore.class),
+                Collections.emptyMap(),
+                new PomSnapshotStore());
 
         File checkoutDir = getTestFile("target/checkout");
         FileUtils.forceDelete(checkoutDir);
@@ -774,4 +866,66 @@ public class DefaultReleaseManagerTest extends PlexusJUnit4TestCase {
 
         assertTrue("updateVersionsPhase1 executed", phase.isExecuted());
     }
+
+    @Test
+    public void testReleaseRepositoriesPropagatesReleasedVersions() throws Exception {
+        ReleaseManager releaseManager = lookup(ReleaseManager.class, "test");
+
+        ReleaseDescriptorBuilder coreBuilder = new ReleaseDescriptorBuilder();
+        coreBuilder.setWorkingDirectory(getTestPath("target/working-directory/core"));
+        coreBuilder.addReleaseVersion("groupId:core", "1.0");
+        coreBuilder.addDevelopmentVersion("groupId:core", "1.1-SNAPSHOT");
+
+        ReleaseDescriptorBuilder appBuilder = new ReleaseDescriptorBuilder();
+        appBuilder.setWorkingDirectory(getTestPath("target/working-directory/app"));
+
+        MavenProject core = new MavenProject();
+        core.setGroupId("groupId");
+        core.setArtifactId("core");
+
+        ReleaseRepositoriesRequest repositoriesRequest = new ReleaseRepositoriesRequest();
+        repositoriesRequest.setThreads(2);
+        repositoriesRequest
+                .addRepository("app", createPrepareRequest(appBuilder, new MavenProject()), null)
+                .addDependency("core");
+        repositoriesRequest.addRepository("core", createPrepareRequest(coreBuilder, core), null);
+
+        Map<String, ReleaseResult> results = releaseManager.releaseRepositories(repositoriesRequest);
+
+        assertEquals(Arrays.asList("app", "core"), new ArrayList<>(results.keySet()));
+        assertEquals(ReleaseResult.SUCCESS, results.get("core").getResultCode());
+        assertEquals(ReleaseResult.SUCCESS, results.get("app").getResultCode());
+        assertEquals("1.0", appBuilder.build().getDependencyReleaseVersion("groupId:core"));
+        assertEquals("1.1-SNAPSHOT", appBuilder.build().getDependencyDevelopmentVersion("groupId:core"));
+    }
+
+    @Test
+    public void testReleaseRepositoriesWithCycle() throws Exception {
+        ReleaseManager releaseManager = lookup(ReleaseManager.class, "test");
+
+        ReleaseRepositoriesRequest repositoriesRequest = new ReleaseRepositoriesRequest();
+        repositoriesRequest
+                .addRepository("a", createPrepareRequest(new ReleaseDescriptorBuilder(), new MavenProject()), null)
+                .addDependency("b");
+        repositoriesRequest
+                .addRepository("b", createPrepareRequest(new ReleaseDescriptorBuilder(), new MavenProject()), null)
+                .addDependency("a");
+
+        try {
+            releaseManager.releaseRepositories(repositoriesRequest);
+            fail("Should have failed on the dependency cycle");
+        } catch (ReleaseFailureException e) {
+            assertTrue(e.getMessage().startsWith("Cycle in the repository dependencies"));
+        }
+    }
+
+    private static ReleasePrepareRequest createPrepareRequest(ReleaseDescriptorBuilder builder, MavenProject project) {
+        ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+        prepareRequest.setReleaseDescriptorBuilder(builder);
+        prepareRequest.setReleaseEnvironment(new DefaultReleaseEnvironment());
+        prepareRequest.setUserProperties(new Properties());
+        prepareRequest.setResume(false);
+        prepareRequest.setReactorProjects(Collections.singletonList(project));
+        return prepareRequest;
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import java.io.File;
+
+import org.apache.maven.model.Scm;
+import org.apache.maven.shared.release.PlexusJUnit4TestCase;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+import org.apache.maven.shared.release.scm.IdentifiedScm;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the binary store.
+ */
+public class BinaryReleaseDescriptorStoreTest extends PlexusJUnit4TestCase {
+    private BinaryReleaseDescriptorStore store;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        store = (BinaryReleaseDescriptorStore) lookup(ReleaseDescriptorStore.class, "binary");
+    }
+
+    @Test
+    public void testWriteAndReadRoundTrip() throws Exception {
+        File file = getTestFile("target/test-classes/binary/round-trip/release.state");
+        file.getParentFile().mkdirs();
+        file.delete();
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setCompletedPhase("step1");
+        builder.setScmSourceUrl("scm-url");
+        builder.setScmUsername("username");
+        builder.setScmPassword("password");
+        builder.addReleaseVersion("groupId:artifactId1", "1.0");
+        builder.addDevelopmentVersion("groupId:artifactId1", "1.1-SNAPSHOT");
+        builder.addReleaseVersion("groupId:artifactId2", "1.0");
+        builder.addDevelopmentVersion("groupId:artifactId2", "1.1-SNAPSHOT");
+        builder.addOriginalScmInfo("groupId:artifactId1", createScm());
+        builder.addOriginalScmInfo("groupId:artifactId2", createScm());
+        builder.addOriginalScmInfo("groupId:artifactId3", null);
+        builder.addDependencyReleaseVersion("external:artifactId", "2.0");
+        builder.addDependencyDevelopmentVersion("external:artifactId", "2.1-SNAPSHOT");
+        store.write(builder.build(), file);
+        assertTrue(file.exists());
+
+        BuilderReleaseDescriptor config =
+                store.read(new ReleaseDescriptorBuilder(), file).build();
+        assertEquals("step1", config.getCompletedPhase());
+        assertEquals("scm-url", config.getScmSourceUrl());
+        assertEquals("password", config.getScmPassword());
+        assertEquals("1.0", config.getProjectReleaseVersion("groupId:artifactId1"));
+        assertEquals("1.1-SNAPSHOT", config.getProjectDevelopmentVersion("groupId:artifactId2"));
+        assertEquals("2.0", config.getDependencyReleaseVersion("external:artifactId"));
+        assertEquals("2.1-SNAPSHOT", config.getDependencyDevelopmentVersion("external:artifactId"));
+
+        Scm scm = config.getOriginalScmInfo("groupId:artifactId1");
+        assertEquals("connection", scm.getConnection());
+        assertEquals("developerConnection", scm.getDeveloperConnection());
+        assertEquals("url", scm.getUrl());
+        assertEquals("HEAD", scm.getTag());
+        assertEquals("id", ((IdentifiedScm) scm).getId());
+        assertSame("identical SCM shared", scm, config.getOriginalScmInfo("groupId:artifactId2"));
+        assertTrue(config.getOriginalScmInfo().containsKey("groupId:artifactId3"));
+        assertNull(config.getOriginalScmInfo("groupId:artifactId3"));
+    }
+
+    @Test
+    public void testValueLongerThan64K() throws Exception {
+        File file = getTestFile("target/test-classes/binary/long/release.state");
+        file.getParentFile().mkdirs();
+        file.delete();
+
+        // two bytes per character in UTF-8
+        String arguments = new String(new char[40000]).replace('\0', '\u00e9');
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setCompletedPhase("step1");
+        builder.setScmSourceUrl("scm-url");
+        builder.setAdditionalArguments(arguments);
+        store.write(builder.build(), file);
+
+        BuilderReleaseDescriptor config =
+                store.read(new ReleaseDescriptorBuilder(), file).build();
+        assertEquals(arguments, config.getAdditionalArguments());
+    }
+
+    @Test
+    public void testReadMissingFile() throws Exception {
+        File file = getTestFile("target/test-classes/binary/missing/release.state");
+        file.delete();
+
+        BuilderReleaseDescriptor config =
+                store.read(new ReleaseDescriptorBuilder(), file).build();
+        assertNull(config.getCompletedPhase());
+    }
+
+    private static Scm createScm() {
+        IdentifiedScm scm = new IdentifiedScm();
+        scm.setConnection("connection");
+        scm.setDeveloperConnection("developerConnection");
+        scm.setUrl("url");
+        scm.setTag("HEAD");
+        scm.setId("id");
+        return scm;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.apache.maven.shared.release.PlexusJUnit4TestCase;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the journal store.
+ */
+public class JournalReleaseDescriptorStoreTest extends PlexusJUnit4TestCase {
+    private JournalReleaseDescriptorStore store;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        store = (JournalReleaseDescriptorStore) lookup(ReleaseDescriptorStore.class, "journal");
+    }
+
+    @Test
+    public void testWriteAppendsAndReadCompacts() throws Exception {
+        File file = getTestFile("target/test-classes/journal/append/release.journal");
+        file.getParentFile().mkdirs();
+        file.delete();
+
+        ReleaseDescriptorBuilder builder = createReleaseConfiguration();
+        builder.setCompletedPhase("step1");
+        store.write(builder.build(), file);
+        long firstLength = file.length();
+
+        builder.setCompletedPhase("step2");
+        builder.addReleaseVersion("groupId:artifactId", "1.0");
+        store.write(builder.build(), file);
+        long secondLength = file.length();
+        assertTrue("journal appended", secondLength > firstLength);
+
+        // an unchanged configuration is not written again
+        store.write(builder.build(), file);
+        assertEquals(secondLength, file.length());
+
+        BuilderReleaseDescriptor config =
+                store.read(new ReleaseDescriptorBuilder(), file).build();
+        assertEquals("step2", config.getCompletedPhase());
+        assertEquals("1.0", config.getProjectReleaseVersion("groupId:artifactId"));
+        assertEquals("password", config.getScmPassword());
+        assertNotEquals("compacted", secondLength, file.length());
+    }
+
+    @Test
+    public void testTornRecordIgnored() throws Exception {
+        File file = getTestFile("target/test-classes/journal/torn/release.journal");
+        file.getParentFile().mkdirs();
+        file.delete();
+
+        ReleaseDescriptorBuilder builder = createReleaseConfiguration();
+        builder.setCompletedPhase("step1");
+        store.write(builder.build(), file);
+        long firstLength = file.length();
+
+        builder.setCompletedPhase("step2");
+        store.write(builder.build(), file);
+
+        // crash in the middle of the second append
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(file.length() - 3);
+        }
+
+        BuilderReleaseDescriptor config =
+                lookup(JournalReleaseDescriptorStore.class).read(null, file).build();
+        assertEquals("step1", config.getCompletedPhase());
+        assertEquals("torn record dropped", firstLength, file.length());
+        assertFalse(new File(file.getParentFile(), "release.journal.tmp").exists());
+    }
+
+    @Test
+    public void testJournalChangedByAnotherBuild() throws Exception {
+        File file = getTestFile("target/test-classes/journal/changed/release.journal");
+        file.getParentFile().mkdirs();
+        file.delete();
+
+        ReleaseDescriptorBuilder builder = createReleaseConfiguration();
+        builder.setCompletedPhase("step1");
+        builder.addReleaseVersion("groupId:artifactId", "1.0");
+        store.write(builder.build(), file);
+
+        // another build cleaned the release, while this store kept its state
+        file.delete();
+
+        builder.setCompletedPhase("step2");
+        store.write(builder.build(), file);
+
+        BuilderReleaseDescriptor config =
+                lookup(JournalReleaseDescriptorStore.class).read(null, file).build();
+        assertEquals("step2", config.getCompletedPhase());
+        assertEquals("1.0", config.getProjectReleaseVersion("groupId:artifactId"));
+        assertEquals("scm-url", config.getScmSourceUrl());
+    }
+
+    @Test
+    public void testValueLongerThan64K() throws Exception {
+        File file = getTestFile("target/test-classes/journal/long/release.journal");
+        file.getParentFile().mkdirs();
+        file.delete();
+
+        // two bytes per character in UTF-8
+        String arguments = new String(new char[40000]).replace('\0', '\u00e9');
+        ReleaseDescriptorBuilder builder = createReleaseConfiguration();
+        builder.setCompletedPhase("step1");
+        builder.setAdditionalArguments(arguments);
+        store.write(builder.build(), file);
+
+        // a new store replays the journal instead of using the state it kept
+        JournalReleaseDescriptorStore otherStore = new JournalReleaseDescriptorStore(
+                (PropertiesReleaseDescriptorStore) lookup(ReleaseDescriptorStore.class, "properties"));
+        BuilderReleaseDescriptor config =
+                otherStore.read(new ReleaseDescriptorBuilder(), file).build();
+        assertEquals(arguments, config.getAdditionalArguments());
+    }
+
+    private ReleaseDescriptorBuilder createReleaseConfiguration() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setScmUsername("username");
+        builder.setScmPassword("password");
+        return builder;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import java.util.Arrays;
+
+import org.apache.maven.shared.release.scm.IdentifiedScm;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReleaseDescriptorPropertiesTest {
+    @Test
+    public void testRoundTrip() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setWorkingDirectory("/work");
+        builder.setInteractive(false);
+        builder.setUpdateWorkingCopyVersions(false);
+        builder.setScmCommentPrefix(null);
+        builder.setScmPassword("secret");
+        builder.setWaitBeforeTagging(3);
+        builder.setActivateProfiles(Arrays.asList("release", "sign"));
+        builder.setProjectVersionPolicyConfig("<config/>");
+        builder.putOriginalVersion("groupId:artifactId", "1.0-SNAPSHOT");
+        builder.addReleaseVersion("groupId:artifactId", "1.0");
+        builder.addDevelopmentVersion("groupId:artifactId", "1.1-SNAPSHOT");
+        builder.addDependencyOriginalVersion("groupId:dependency", "2.0-SNAPSHOT");
+        builder.addDependencyReleaseVersion("groupId:dependency", "2.0");
+        IdentifiedScm scm = new IdentifiedScm();
+        scm.setConnection("scm:git:https://example.org/repo.git");
+        scm.setTag("HEAD");
+        scm.setId("example");
+        builder.addOriginalScmInfo("groupId:artifactId", scm);
+        builder.addOriginalScmInfo("groupId:other", null);
+
+        ReleaseDescriptorBuilder copy =
+                ReleaseDescriptorProperties.toBuilder(ReleaseDescriptorProperties.toProperties(builder));
+
+        assertEquals(builder.build(), copy.build());
+        assertEquals("/work", copy.build().getWorkingDirectory());
+        assertFalse(copy.build().isInteractive());
+        assertNull(copy.build().getScmCommentPrefix());
+        assertEquals("secret", copy.build().getScmPassword());
+        assertEquals(3, copy.build().getWaitBeforeTagging());
+        assertEquals(Arrays.asList("release", "sign"), copy.build().getActivateProfiles());
+        assertEquals("<config/>", copy.build().getProjectVersionPolicyConfig());
+        assertEquals("1.0-SNAPSHOT", copy.build().getProjectOriginalVersion("groupId:artifactId"));
+        assertEquals("2.0-SNAPSHOT", copy.build().getDependencyOriginalVersion("groupId:dependency"));
+        assertEquals("example", ((IdentifiedScm) copy.build().getOriginalScmInfo("groupId:artifactId")).getId());
+        assertTrue(copy.build().getOriginalScmInfo().containsKey("groupId:other"));
+        assertNull(copy.build().getOriginalScmInfo("groupId:other"));
+    }
+
+    @Test
+    public void testDefaults() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+
+        ReleaseDescriptorBuilder copy =
+                ReleaseDescriptorProperties.toBuilder(ReleaseDescriptorProperties.toProperties(builder));
+
+        assertEquals(builder.build(), copy.build());
+        assertTrue(copy.build().isInteractive());
+        assertEquals(builder.build().getScmCommentPrefix(), copy.build().getScmCommentPrefix());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.config;
+
+import java.util.Properties;
+
+/**
+ * Measures {@link ReleaseUtils#copyPropertiesToReleaseDescriptor(Properties, ReleaseDescriptorBuilder)} for growing
+ * reactors. The time per key should stay flat as the number of modules grows.
+ * <p>
+ * Not run by the build, start it with
+ * <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.apache.maven.shared.release.config.ReleaseUtilsBenchmark</code>.
+ */
+public final class ReleaseUtilsBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+
+    private static final int ITERATIONS = 20;
+
+    private ReleaseUtilsBenchmark() {
+        // main only
+    }
+
+    public static void main(String[] args) {
+        for (int modules = 500; modules <= 16000; modules *= 2) {
+            Properties properties = createProperties(modules);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                ReleaseUtils.copyPropertiesToReleaseDescriptor(properties, new ReleaseDescriptorBuilder());
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                ReleaseUtils.copyPropertiesToReleaseDescriptor(properties, new ReleaseDescriptorBuilder());
+            }
+            long elapsed = (System.nanoTime() - start) / ITERATIONS;
+
+            System.out.printf(
+                    "%6d modules %7d keys %10.3f ms %8.1f ns/key%n",
+                    modules, properties.size(), elapsed / 1e6, (double) elapsed / properties.size());
+        }
+    }
+
+    /**
+     * Creates the properties of a release of a reactor where all modules inherit the same SCM, with one resolved
+     * snapshot dependency for every ten modules.
+     *
+     * @param modules the number of modules
+     * @return the properties
+     */
+    static Properties createProperties(int modules) {
+        Properties properties = new Properties();
+        properties.setProperty("completedPhase", "map-release-versions");
+        properties.setProperty("scm.url", "scm:git:https://example.com/repo.git");
+        for (int i = 0; i < modules; i++) {
+            String key = "groupId:module" + i;
+            properties.setProperty("project.rel." + key, "1.0");
+            properties.setProperty("project.dev." + key, "1.1-SNAPSHOT");
+            properties.setProperty("project.scm." + key + ".connection", "scm:git:https://example.com/repo.git");
+            properties.setProperty("project.scm." + key + ".developerConnection", "scm:git:ssh://example.com/repo.git");
+            properties.setProperty("project.scm." + key + ".url", "https://example.com/repo");
+            properties.setProperty("project.scm." + key + ".tag", "HEAD");
+        }
+        for (int i = 0; i < modules / 10; i++) {
+            properties.setProperty("dependency.external:dependency" + i + ".release", "2.0");
+            properties.setProperty("dependency.external:dependency" + i + ".development", "2.1-SNAPSHOT");
+        }
+        return properties;
+    }
+}
@@ -265,6 +265,42 @@ public class ReleaseUtilsTest {
         assertEquals(Arrays.asList("aProfile", "anotherOne"), builder.build().getActivateProfiles());
     }
 
+    @Test
+    public void testLoadLargeReactor() {
+        Properties properties = ReleaseUtilsBenchmark.createProperties(2000);
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        ReleaseUtils.copyPropertiesToReleaseDescriptor(properties, builder);
+        BuilderReleaseDescriptor descriptor = builder.build();
+
+        assertEquals(2000, descriptor.getProjectVersions().size());
+        assertEquals(2000, descriptor.getOriginalScmInfo().size());
+        assertEquals("1.0", descriptor.getProjectReleaseVersion("groupId:module1999"));
+        assertEquals("1.1-SNAPSHOT", descriptor.getProjectDevelopmentVersion("groupId:module0"));
+        Scm scm = descriptor.getOriginalScmInfo("groupId:module42");
+        assertEquals("scm:git:https://example.com/repo.git", scm.getConnection());
+        assertEquals("scm:git:ssh://example.com/repo.git", scm.getDeveloperConnection());
+        assertEquals("https://example.com/repo", scm.getUrl());
+        assertEquals("HEAD", scm.getTag());
+        assertEquals("2.0", descriptor.getDependencyReleaseVersion("external:dependency7"));
+        assertEquals("2.1-SNAPSHOT", descriptor.getDependencyDevelopmentVersion("external:dependency7"));
+    }
+
+    @Test
+    public void testLoadEmptyOriginalScm() {
+        Properties properties = new Properties();
+        properties.setProperty("project.scm.groupId:artifactId.empty", "true");
+        properties.setProperty("project.scm.groupId:other.url", "url");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        ReleaseUtils.copyPropertiesToReleaseDescriptor(properties, builder);
+        BuilderReleaseDescriptor descriptor = builder.build();
+
+        assertTrue(descriptor.getOriginalScmInfo().containsKey("groupId:artifactId"));
+        assertEquals(null, descriptor.getOriginalScmInfo("groupId:artifactId"));
+        assertEquals("url", descriptor.getOriginalScmInfo("groupId:other").getUrl());
+    }
+
     private static ReleaseDescriptorBuilder copyReleaseDescriptor(ReleaseDescriptor originalReleaseDescriptor) {
         return createReleaseDescriptor(originalReleaseDescriptor.getWorkingDirectory());
     }
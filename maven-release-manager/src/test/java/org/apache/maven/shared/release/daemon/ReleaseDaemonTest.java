@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.daemon;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.shared.release.ReleaseCleanRequest;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseManager;
+import org.apache.maven.shared.release.ReleaseManagerListener;
+import org.apache.maven.shared.release.ReleasePerformRequest;
+import org.apache.maven.shared.release.ReleasePrepareRequest;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class ReleaseDaemonTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ReleaseManager releaseManager = mock(ReleaseManager.class);
+
+    private final ReleaseManager localReleaseManager = mock(ReleaseManager.class);
+
+    private final List<List<File>> loadedReactors = new ArrayList<>();
+
+    private ReleaseDaemon daemon;
+
+    private Thread daemonThread;
+
+    private File endpointFile;
+
+    @Before
+    public void startDaemon() throws Exception {
+        ReactorLoader reactorLoader = new ReactorLoader() {
+            @Override
+            public List<MavenProject> load(List<File> pomFiles) {
+                loadedReactors.add(pomFiles);
+                List<MavenProject> projects = new ArrayList<>();
+                for (File pomFile : pomFiles) {
+                    projects.add(createProject(pomFile));
+                }
+                return projects;
+            }
+        };
+        daemon = new ReleaseDaemon(releaseManager, reactorLoader, new Settings());
+        endpointFile = new File(folder.getRoot(), "daemon/endpoint.properties");
+        daemon.start(endpointFile);
+
+        daemonThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    daemon.run();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        daemonThread.start();
+    }
+
+    @After
+    public void stopDaemon() throws Exception {
+        daemon.close();
+        daemonThread.join();
+    }
+
+    @Test
+    public void testPrepare() throws Exception {
+        doAnswer(new Answer<Void>() {
+                    @Override
+                    public Void answer(InvocationOnMock invocation) {
+                        ReleasePrepareRequest request = invocation.getArgument(0);
+                        request.getReleaseManagerListener().goalStart("prepare", Arrays.asList("one", "two"));
+                        request.getReleaseManagerListener().phaseStart("one");
+                        request.getReleaseManagerListener().phaseEnd();
+                        request.getReleaseManagerListener().goalEnd();
+                        return null;
+                    }
+                })
+                .when(releaseManager)
+                .prepare(any(ReleasePrepareRequest.class));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setInteractive(false);
+        builder.setWorkingDirectory(folder.getRoot().getAbsolutePath());
+        builder.putOriginalVersion("groupId:root", "1.0-SNAPSHOT");
+
+        MavenProject root = createProject(new File(folder.getRoot(), "pom.xml"));
+        MavenProject module = createProject(new File(folder.getRoot(), "module/pom.xml"));
+        module.setExecutionRoot(true);
+
+        Properties userProperties = new Properties();
+        userProperties.setProperty("releaseVersion", "1.0");
+
+        ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+        prepareRequest.setReleaseDescriptorBuilder(builder);
+        prepareRequest.setReactorProjects(Arrays.asList(root, module));
+        prepareRequest.setReleaseEnvironment(new DefaultReleaseEnvironment().setMavenExecutorId("forked-path"));
+        prepareRequest.setUserProperties(userProperties);
+        prepareRequest.setDryRun(true);
+        ReleaseManagerListener listener = mock(ReleaseManagerListener.class);
+        prepareRequest.setReleaseManagerListener(listener);
+
+        new RemoteReleaseManager(endpointFile, localReleaseManager).prepare(prepareRequest);
+
+        ArgumentCaptor<ReleasePrepareRequest> captor = ArgumentCaptor.forClass(ReleasePrepareRequest.class);
+        verify(releaseManager).prepare(captor.capture());
+        ReleasePrepareRequest received = captor.getValue();
+        assertEquals(builder.build(), received.getReleaseDescriptorBuilder().build());
+        assertEquals(userProperties, received.getUserProperties());
+        assertTrue(received.getDryRun());
+        assertEquals(null, received.getResume());
+        assertEquals("forked-path", received.getReleaseEnvironment().getMavenExecutorId());
+        assertEquals(Collections.singletonList(Arrays.asList(root.getFile(), module.getFile())), loadedReactors);
+        assertFalse(received.getReactorProjects().get(0).isExecutionRoot());
+        assertTrue(received.getReactorProjects().get(1).isExecutionRoot());
+
+        verify(listener).goalStart("prepare", Arrays.asList("one", "two"));
+        verify(listener).phaseStart("one");
+        verify(listener).phaseEnd();
+        verify(listener).goalEnd();
+        verifyZeroInteractions(localReleaseManager);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        doThrow(new ReleaseFailureException("no SCM")).when(releaseManager).perform(any(ReleasePerformRequest.class));
+        doThrow(new IllegalStateException("broken")).when(releaseManager).clean(any(ReleaseCleanRequest.class));
+
+        ReleasePerformRequest performRequest = new ReleasePerformRequest();
+        performRequest.setReleaseDescriptorBuilder(new ReleaseDescriptorBuilder());
+        try {
+            new RemoteReleaseManager(endpointFile, localReleaseManager).perform(performRequest);
+            fail("Should have failed");
+        } catch (ReleaseFailureException e) {
+            assertEquals("no SCM", e.getMessage());
+        }
+
+        // the daemon keeps serving after a failed request
+        ReleaseCleanRequest cleanRequest = new ReleaseCleanRequest();
+        cleanRequest.setReleaseDescriptorBuilder(new ReleaseDescriptorBuilder());
+        try {
+            new RemoteReleaseManager(endpointFile, localReleaseManager).clean(cleanRequest);
+            fail("Should have failed");
+        } catch (ReleaseFailureException e) {
+            assertEquals("broken", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInteractiveRejected() throws Exception {
+        ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
+        prepareRequest.setReleaseDescriptorBuilder(new ReleaseDescriptorBuilder());
+        try {
+            new RemoteReleaseManager(endpointFile, localReleaseManager).prepare(prepareRequest);
+            fail("Should have failed");
+        } catch (ReleaseFailureException e) {
+            assertTrue(e.getMessage().contains("batch mode"));
+        }
+        verifyZeroInteractions(releaseManager);
+    }
+
+    @Test
+    public void testInvalidToken() throws Exception {
+        Properties endpoint = DaemonProtocol.readEndpoint(endpointFile);
+        File forged = folder.newFile("forged.properties");
+        DaemonProtocol.writeEndpoint(forged, Integer.parseInt(endpoint.getProperty(DaemonProtocol.PORT)), "guess");
+
+        ReleaseCleanRequest cleanRequest = new ReleaseCleanRequest();
+        cleanRequest.setReleaseDescriptorBuilder(new ReleaseDescriptorBuilder());
+        try {
+            new RemoteReleaseManager(forged, localReleaseManager).clean(cleanRequest);
+            fail("Should have failed");
+        } catch (ReleaseFailureException e) {
+            assertEquals("Invalid release daemon token", e.getMessage());
+        }
+        verifyZeroInteractions(releaseManager);
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        new RemoteReleaseManager(endpointFile, localReleaseManager).stop();
+        daemonThread.join();
+
+        assertFalse(endpointFile.exists());
+        try {
+            new RemoteReleaseManager(endpointFile, localReleaseManager).stop();
+            fail("Should have failed");
+        } catch (ReleaseExecutionException e) {
+            assertTrue(e.getMessage().contains("No release daemon found"));
+        }
+    }
+
+    private static MavenProject createProject(File pomFile) {
+        Model model = new Model();
+        model.setGroupId("groupId");
+        model.setArtifactId(pomFile.getParentFile().getName());
+        model.setVersion("1.0-SNAPSHOT");
+        MavenProject project = new MavenProject(model);
+        project.setFile(pomFile);
+        return project;
+    }
+}
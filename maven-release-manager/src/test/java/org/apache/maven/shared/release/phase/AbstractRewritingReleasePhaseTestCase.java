@@ -19,6 +19,9 @@
 package org.apache.maven.shared.release.phase;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -79,7 +82,7 @@ public abstract class AbstractRewritingReleasePhaseTestCase extends AbstractRele
 
         if (phase instanceof AbstractRewritePomsPhase) {
             ((AbstractRewritePomsPhase) phase).setModelETL(modelETL);
-            ((AbstractRewritePomsPhase) phase).setStartTime(0);
+            ((AbstractRewritePomsPhase) phase).setClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
         }
     }
 
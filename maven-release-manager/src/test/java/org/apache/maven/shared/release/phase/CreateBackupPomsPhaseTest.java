@@ -19,14 +19,18 @@
 package org.apache.maven.shared.release.phase;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.Iterator;
 import java.util.List;
 
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
 import org.apache.maven.shared.release.util.ReleaseUtil;
+import org.codehaus.plexus.util.FileUtils;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -67,6 +71,87 @@ public class CreateBackupPomsPhaseTest extends AbstractBackupPomsPhaseTest {
         runSimulateOnProjects(projectPath);
     }
 
+    @Test
+    public void testContentAddressedBackup() throws Exception {
+        File testDir = getTestFile("target/test-classes/projects/create-backup-poms/content-addressed");
+        FileUtils.deleteDirectory(testDir);
+        FileUtils.copyDirectoryStructure(
+                getTestFile("src/test/resources/projects/create-backup-poms/pom-with-modules"), testDir);
+        List<MavenProject> projects = getReactorProjects(testDir.getPath());
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:svn:http://myhost/myrepo");
+        builder.setContentAddressedPomBackups(true);
+        phase.execute(builder.build(), new DefaultReleaseEnvironment(), projects);
+
+        File backupDirectory = new File(testDir, ".release-pom-backup");
+        assertTrue(new File(backupDirectory, "index.properties").exists());
+        assertEquals(projects.size(), new File(backupDirectory, "objects").list().length);
+        testProjectBackupsAbsent(projects);
+
+        // modify the POMs and restore them
+        String original = ReleaseUtil.readXmlFile(projects.get(1).getFile());
+        for (MavenProject project : projects) {
+            Files.write(project.getFile().toPath(), "<project/>".getBytes("UTF-8"));
+        }
+        lookup(ReleasePhase.class, "restore-backup-poms")
+                .execute(builder.build(), new DefaultReleaseEnvironment(), projects);
+        assertEquals(original, ReleaseUtil.readXmlFile(projects.get(1).getFile()));
+
+        ((ResourceGenerator) phase).clean(projects);
+        assertFalse(backupDirectory.exists());
+    }
+
+    @Test
+    public void testContentAddressedBackupSurvivesClean() throws Exception {
+        File testDir = getTestFile("target/test-classes/projects/create-backup-poms/content-addressed-clean");
+        FileUtils.deleteDirectory(testDir);
+        FileUtils.copyDirectoryStructure(
+                getTestFile("src/test/resources/projects/create-backup-poms/pom-with-modules"), testDir);
+        List<MavenProject> projects = getReactorProjects(testDir.getPath());
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:svn:http://myhost/myrepo");
+        builder.setContentAddressedPomBackups(true);
+        phase.execute(builder.build(), new DefaultReleaseEnvironment(), projects);
+
+        // the preparation goals run "clean verify" between the backup and a rollback
+        String original = ReleaseUtil.readXmlFile(projects.get(0).getFile());
+        FileUtils.deleteDirectory(new File(testDir, "target"));
+        for (MavenProject project : projects) {
+            Files.write(project.getFile().toPath(), "<project/>".getBytes("UTF-8"));
+        }
+
+        lookup(ReleasePhase.class, "restore-backup-poms")
+                .execute(builder.build(), new DefaultReleaseEnvironment(), projects);
+        assertEquals(original, ReleaseUtil.readXmlFile(projects.get(0).getFile()));
+    }
+
+    @Test
+    public void testCleanDeletesLegacyBackups() throws Exception {
+        File testDir = getTestFile("target/test-classes/projects/create-backup-poms/content-addressed-legacy");
+        FileUtils.deleteDirectory(testDir);
+        FileUtils.copyDirectoryStructure(
+                getTestFile("src/test/resources/projects/create-backup-poms/pom-with-modules"), testDir);
+        List<MavenProject> projects = getReactorProjects(testDir.getPath());
+
+        // backups next to the POMs left over by an earlier release
+        phase.execute(null, new DefaultReleaseEnvironment(), projects);
+        testProjectBackups(projects, true);
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:svn:http://myhost/myrepo");
+        builder.setContentAddressedPomBackups(true);
+        phase.execute(builder.build(), new DefaultReleaseEnvironment(), projects);
+
+        testProjectBackupsAbsent(projects);
+        assertTrue(new File(testDir, ".release-pom-backup/index.properties").exists());
+
+        ((ResourceGenerator) phase).clean(projects);
+        testProjectBackupsAbsent(projects);
+        assertFalse(new File(testDir, ".release-pom-backup").exists());
+    }
+
     private void runExecuteOnProjects(String path) throws Exception {
         List<MavenProject> projects = getReactorProjects(getTestPath(path));
 
@@ -91,6 +176,13 @@ public class CreateBackupPomsPhaseTest extends AbstractBackupPomsPhaseTest {
         testProjectBackups(projects, false);
     }
 
+    private void testProjectBackupsAbsent(List<MavenProject> reactorProjects) {
+        for (MavenProject project : reactorProjects) {
+            File backupFile = new File(project.getFile().getAbsolutePath() + releaseBackupSuffix);
+            assertFalse("Check if backup file is not present", backupFile.exists());
+        }
+    }
+
     protected void testProjectBackups(List<MavenProject> reactorProjects, boolean created) throws Exception {
         for (Iterator<MavenProject> projects = reactorProjects.iterator(); projects.hasNext(); ) {
             MavenProject project = projects.next();
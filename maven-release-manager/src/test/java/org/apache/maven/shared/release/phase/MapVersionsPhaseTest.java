@@ -21,18 +21,32 @@ package org.apache.maven.shared.release.phase;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.shared.release.PlexusJUnit4TestCase;
 import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.policies.DefaultVersionPolicy;
 import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicy;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicyAdapter;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest;
+import org.apache.maven.shared.release.policy.version.ConcurrentVersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
+import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
+import org.apache.maven.shared.release.policy.version.VersionPolicyResult;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.versions.VersionParseException;
 import org.codehaus.plexus.components.interactivity.Prompter;
@@ -47,12 +61,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -2447,6 +2465,221 @@ public class MapVersionsPhaseTest extends PlexusJUnit4TestCase {
         }
     }
 
+    @Test
+    public void testBatchVersionPolicyCalledOnceForReactor() throws Exception {
+        // prepare
+        CountingVersionPolicy policy = new CountingVersionPolicy();
+        Map<String, VersionPolicy> policies = new HashMap<>(versionPolicies);
+        policies.put("counting", policy);
+        MapReleaseVersionsPhase phase = new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, policies);
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject("artifactId", "1.0-SNAPSHOT"),
+                createProject("module1", "1.0-SNAPSHOT"),
+                createProject("module2", "2.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder()
+                .setInteractive(false) // batch mode
+                .setProjectVersionPolicyId("counting");
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals(1, policy.batchRequests);
+        assertEquals(0, policy.requests);
+        assertEquals("1.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module1"));
+        assertEquals("2.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module2"));
+    }
+
+    @Test
+    public void testReviewSuggestedVersionsWithSinglePrompt() throws Exception {
+        // prepare
+        when(mockPrompter.prompt(startsWith("Suggested release versions:"), eq(Arrays.asList("y", "n")), eq("y")))
+                .thenReturn("y");
+        MapReleaseVersionsPhase phase =
+                new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject("artifactId", "1.0-SNAPSHOT"),
+                createProject("module1", "1.0-SNAPSHOT"),
+                createProject("module2", "2.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder().setReviewVersions(true);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals("1.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module1"));
+        assertEquals("2.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module2"));
+        verify(mockPrompter)
+                .prompt(contains("groupId:module2: 2.0-SNAPSHOT -> 2.0"), eq(Arrays.asList("y", "n")), eq("y"));
+    }
+
+    @Test
+    public void testReviewSuggestedVersionsDeclined() throws Exception {
+        // prepare
+        when(mockPrompter.prompt(startsWith("Suggested release versions:"), eq(Arrays.asList("y", "n")), eq("y")))
+                .thenReturn("n");
+        when(mockPrompter.prompt(startsWith("What is the release version for "), eq("1.0")))
+                .thenReturn("1.0.1");
+        MapReleaseVersionsPhase phase =
+                new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects =
+                Arrays.asList(createProject("artifactId", "1.0-SNAPSHOT"), createProject("module1", "1.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder().setReviewVersions(true);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals("1.0.1", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module1"));
+        verify(mockPrompter).prompt(startsWith("Suggested release versions:"), eq(Arrays.asList("y", "n")), eq("y"));
+        verify(mockPrompter, times(2)).prompt(startsWith("What is the release version for "), eq("1.0"));
+    }
+
+    @Test
+    public void testNonBatchVersionPolicyAskedForEachProject() throws Exception {
+        // prepare
+        final VersionPolicy delegate = new DefaultVersionPolicy();
+        final AtomicInteger requests = new AtomicInteger();
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        Map<String, VersionPolicy> policies = new HashMap<>(versionPolicies);
+        policies.put("single", new VersionPolicy() {
+            @Override
+            public VersionPolicyResult getReleaseVersion(VersionPolicyRequest request)
+                    throws PolicyException, VersionParseException {
+                requests.incrementAndGet();
+                threads.add(Thread.currentThread());
+                return delegate.getReleaseVersion(request);
+            }
+
+            @Override
+            public VersionPolicyResult getDevelopmentVersion(VersionPolicyRequest request)
+                    throws PolicyException, VersionParseException {
+                requests.incrementAndGet();
+                threads.add(Thread.currentThread());
+                return delegate.getDevelopmentVersion(request);
+            }
+        });
+        MapReleaseVersionsPhase phase = new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, policies);
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject("artifactId", "1.0-SNAPSHOT"),
+                createProject("module1", "1.1-SNAPSHOT"),
+                createProject("module2", "2.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder()
+                .setInteractive(false) // batch mode
+                .setProjectVersionPolicyId("single");
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals(3, requests.get());
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+        assertEquals("1.1", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module1"));
+        assertEquals("2.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module2"));
+    }
+
+    @Test
+    public void testConcurrentVersionPolicyAskedForEachProject() throws Exception {
+        // prepare
+        final VersionPolicy delegate = new DefaultVersionPolicy();
+        final AtomicInteger requests = new AtomicInteger();
+        Map<String, VersionPolicy> policies = new HashMap<>(versionPolicies);
+        policies.put("concurrent", new ConcurrentVersionPolicy() {
+            @Override
+            public VersionPolicyResult getReleaseVersion(VersionPolicyRequest request)
+                    throws PolicyException, VersionParseException {
+                requests.incrementAndGet();
+                return delegate.getReleaseVersion(request);
+            }
+
+            @Override
+            public VersionPolicyResult getDevelopmentVersion(VersionPolicyRequest request)
+                    throws PolicyException, VersionParseException {
+                requests.incrementAndGet();
+                return delegate.getDevelopmentVersion(request);
+            }
+        });
+        MapReleaseVersionsPhase phase = new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, policies);
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject("artifactId", "1.0-SNAPSHOT"),
+                createProject("module1", "1.1-SNAPSHOT"),
+                createProject("module2", "2.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder()
+                .setInteractive(false) // batch mode
+                .setProjectVersionPolicyId("concurrent");
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals(3, requests.get());
+        assertEquals("1.1", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module1"));
+        assertEquals("2.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module2"));
+    }
+
+    @Test
+    public void testScmRepositoryConfiguredOnce() throws Exception {
+        // prepare
+        ScmRepository repository = mock(ScmRepository.class);
+        when(scmRepositoryConfigurator.getConfiguredRepository(isA(ReleaseDescriptor.class), any()))
+                .thenReturn(repository);
+        when(scmRepositoryConfigurator.getRepositoryProvider(repository)).thenReturn(mock(ScmProvider.class));
+        MapReleaseVersionsPhase phase =
+                new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects =
+                Arrays.asList(createProject("artifactId", "1.0-SNAPSHOT"), createProject("module1", "1.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder()
+                .setInteractive(false) // batch mode
+                .setScmSourceUrl("scm:svn:file://localhost/tmp/scm-repo")
+                .setScmQueryCacheDirectory(
+                        getTestFile("target/test-classes/scm-query-cache").getPath())
+                .setWorkingDirectory(getTestFile("target/test-classes").getPath());
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals("1.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module1"));
+        verify(scmRepositoryConfigurator).getConfiguredRepository(isA(ReleaseDescriptor.class), any());
+        verify(scmRepositoryConfigurator).getRepositoryProvider(repository);
+        verifyNoMoreInteractions(scmRepositoryConfigurator);
+    }
+
+    @Test
+    public void testScmRepositoryNotConfiguredWithoutSuggestion() throws Exception {
+        // prepare
+        MapReleaseVersionsPhase phase =
+                new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects = Collections.singletonList(createProject("artifactId", "1.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder()
+                .setInteractive(false) // batch mode
+                .setDefaultReleaseVersion("2.0")
+                .setScmSourceUrl("scm:svn:file://localhost/tmp/scm-repo")
+                .setWorkingDirectory(getTestFile("target/test-classes").getPath());
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals(
+                "2.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:artifactId"));
+        verifyZeroInteractions(scmRepositoryConfigurator);
+    }
+
     private static MavenProject createProject(String artifactId, String version) {
         Model model = new Model();
         model.setGroupId("groupId");
@@ -2454,4 +2687,40 @@ public class MapVersionsPhaseTest extends PlexusJUnit4TestCase {
         model.setVersion(version);
         return new MavenProject(model);
     }
+
+    private static class CountingVersionPolicy implements VersionPolicy, BatchVersionPolicy {
+        private final VersionPolicy delegate = new DefaultVersionPolicy();
+
+        private int requests;
+
+        private int batchRequests;
+
+        @Override
+        public VersionPolicyResult getReleaseVersion(VersionPolicyRequest request)
+                throws PolicyException, VersionParseException {
+            requests++;
+            return delegate.getReleaseVersion(request);
+        }
+
+        @Override
+        public VersionPolicyResult getDevelopmentVersion(VersionPolicyRequest request)
+                throws PolicyException, VersionParseException {
+            requests++;
+            return delegate.getDevelopmentVersion(request);
+        }
+
+        @Override
+        public Map<String, VersionPolicyResult> getReleaseVersions(BatchVersionPolicyRequest request)
+                throws PolicyException, VersionParseException {
+            batchRequests++;
+            return new BatchVersionPolicyAdapter(delegate).getReleaseVersions(request);
+        }
+
+        @Override
+        public Map<String, VersionPolicyResult> getDevelopmentVersions(BatchVersionPolicyRequest request)
+                throws PolicyException, VersionParseException {
+            batchRequests++;
+            return new BatchVersionPolicyAdapter(delegate).getDevelopmentVersions(request);
+        }
+    }
 }
@@ -26,9 +26,12 @@ import java.util.List;
 import java.util.Objects;
 
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.transform.PomSnapshot;
+import org.apache.maven.shared.release.transform.PomSnapshotStore;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.junit.Test;
 
@@ -89,6 +92,32 @@ public class RewritePomsForReleasePhaseTest extends AbstractEditModeRewritingRel
         assertEquals("Check the transformed POM", expected, actual);
     }
 
+    @Test
+    public void testSimulateRewriteInMemory() throws Exception {
+        List<MavenProject> reactorProjects = createReactorProjects("basic-pom");
+        ReleaseDescriptorBuilder builder = createDescriptorFromBasicPom(reactorProjects, "basic-pom");
+        builder.addReleaseVersion("groupId:artifactId", NEXT_VERSION);
+        builder.setDryRunInMemory(true);
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+
+        File tagFile = new File(getWorkingDirectory("basic-pom").toFile(), "pom.xml.tag");
+        tagFile.delete();
+
+        PomSnapshotStore snapshotStore = lookup(PomSnapshotStore.class);
+        snapshotStore.clear(releaseDescriptor);
+
+        phase.simulate(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+
+        assertFalse("Check no transformed POM written", tagFile.exists());
+
+        List<PomSnapshot> snapshots = snapshotStore.getSnapshots(releaseDescriptor);
+        assertEquals(1, snapshots.size());
+        String expected = ReleaseUtil.normalizeLineEndings(readTestProjectFile("basic-pom/expected-pom.xml"), "\n");
+        assertEquals("Check the transformed POM", expected, snapshots.get(0).getContent("tag"));
+
+        snapshotStore.clear(releaseDescriptor);
+    }
+
     @Test
     public void testRewriteWithDashedComments() throws Exception {
         List<MavenProject> reactorProjects = createReactorProjects("basic-pom-with-dashes-in-comment");
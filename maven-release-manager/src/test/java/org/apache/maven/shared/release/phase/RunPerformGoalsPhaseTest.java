@@ -42,7 +42,10 @@ import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.exec.MavenExecutor;
 import org.apache.maven.shared.release.exec.MavenExecutorException;
 import org.apache.maven.shared.release.stubs.MavenExecutorWrapper;
+import org.apache.maven.shared.release.util.ReactorSnapshot;
+import org.codehaus.plexus.util.FileUtils;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -389,4 +392,63 @@ public class RunPerformGoalsPhaseTest extends PlexusJUnit4TestCase {
         project.setFile(getTestFile("target/dummy-project/pom.xml"));
         return Collections.singletonList(project);
     }
+
+    @Test
+    public void testReuseVerificationOnlyWhenPrepareRanTests() throws Exception {
+        assertEquals("-DperformRelease=true -f pom.xml -DskipTests", executeReusingVerification(true));
+        assertEquals("-DperformRelease=true -f pom.xml", executeReusingVerification(false));
+    }
+
+    private String executeReusingVerification(boolean preparationGoalsVerified) throws Exception {
+        File workingDirectory = getTestFile("target/reuse-verification/working-directory");
+        File checkoutDirectory = getTestFile("target/reuse-verification/checkout");
+        FileUtils.deleteDirectory(workingDirectory.getParentFile());
+        for (File directory : new File[] {workingDirectory, checkoutDirectory}) {
+            directory.mkdirs();
+            FileUtils.fileWrite(new File(directory, "pom.xml"), "UTF-8", "<project/>");
+        }
+
+        MavenProject project = new MavenProject();
+        project.setGroupId("groupId");
+        project.setArtifactId("artifactId");
+        project.setFile(new File(workingDirectory, "pom.xml"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPerformGoals("deploy");
+        builder.setWorkingDirectory(workingDirectory.getAbsolutePath());
+        builder.setCheckoutDirectory(checkoutDirectory.getAbsolutePath());
+        builder.setReuseVerification(true);
+        builder.setPreparationGoalsVerified(preparationGoalsVerified);
+        ReactorSnapshot.of(ReleaseUtils.buildReleaseDescriptor(builder), Collections.singletonList(project))
+                .write(new File(workingDirectory, ReactorSnapshot.FILE_NAME));
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        phase.execute(
+                ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, Collections.singletonList(project));
+
+        ArgumentCaptor<String> arguments = ArgumentCaptor.forClass(String.class);
+        verify(mock)
+                .executeGoals(
+                        eq(checkoutDirectory),
+                        eq("deploy"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        arguments.capture(),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        return arguments.getValue();
+    }
+
+    @Test
+    public void testPathInScmWorkingCopy() throws Exception {
+        File root = new File(getTestPath("target/test/checkout/scm-root"));
+        File module = new File(root, "some/dir");
+        module.mkdirs();
+        new File(root, ".git").mkdirs();
+
+        assertEquals("some" + File.separator + "dir", RunPerformGoalsPhase.getPathInScmWorkingCopy(module));
+        assertEquals("", RunPerformGoalsPhase.getPathInScmWorkingCopy(root));
+    }
 }
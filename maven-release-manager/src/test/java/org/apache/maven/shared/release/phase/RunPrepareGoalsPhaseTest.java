@@ -26,6 +26,7 @@ import org.apache.maven.shared.release.PlexusJUnit4TestCase;
 import org.apache.maven.shared.release.ReleaseExecutionException;
 import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
@@ -36,6 +37,8 @@ import org.apache.maven.shared.release.stubs.MavenExecutorWrapper;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
@@ -99,6 +102,36 @@ public class RunPrepareGoalsPhaseTest extends PlexusJUnit4TestCase {
         verifyNoMoreInteractions(mock);
     }
 
+    @Test
+    public void testExecuteRecordsVerification() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean verify");
+        builder.setWorkingDirectory(getTestFile("target/working-directory").getAbsolutePath());
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+
+        mavenExecutorWrapper.setMavenExecutor(mock(MavenExecutor.class));
+
+        // execute
+        phase.execute(releaseDescriptor, releaseEnvironment, (List<MavenProject>) null);
+
+        // verify
+        assertTrue(releaseDescriptor.isPreparationGoalsVerified());
+    }
+
+    @Test
+    public void testIsTesting() {
+        assertTrue(RunPrepareGoalsPhase.isTesting("clean verify", null));
+        assertTrue(RunPrepareGoalsPhase.isTesting("clean install", "-P release"));
+        assertFalse(RunPrepareGoalsPhase.isTesting("clean", null));
+        assertFalse(RunPrepareGoalsPhase.isTesting("clean compile", null));
+        assertFalse(RunPrepareGoalsPhase.isTesting("clean install -DskipTests", null));
+        assertFalse(RunPrepareGoalsPhase.isTesting("clean verify", "-Dmaven.test.skip"));
+        assertFalse(RunPrepareGoalsPhase.isTesting("clean verify", "-Dmaven.test.failure.ignore=true"));
+        assertFalse(RunPrepareGoalsPhase.isTesting("clean verify", "-Dtest=SomeTest"));
+        assertFalse(RunPrepareGoalsPhase.isTesting(null, null));
+    }
+
     @Test
     public void testSimulate() throws ReleaseExecutionException, MavenExecutorException {
         // prepare
@@ -174,6 +207,96 @@ public class RunPrepareGoalsPhaseTest extends PlexusJUnit4TestCase {
         verifyNoMoreInteractions(mock);
     }
 
+    @Test
+    public void testExecuteWithThreads()
+            throws ReleaseExecutionException, ReleaseFailureException, MavenExecutorException {
+        // prepare
+        File testFile = getTestFile("target/working-directory");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setWorkingDirectory(testFile.getAbsolutePath());
+        builder.setAdditionalArguments("-Dfoo=bar");
+        builder.setThreads("2");
+        builder.setPreparationThreads("1C");
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, (List<MavenProject>) null);
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(testFile),
+                        eq("clean integration-test"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-Dfoo=bar -T 1C"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        verifyNoMoreInteractions(mock);
+    }
+
+    @Test
+    public void testExecuteWithThreadsInArguments()
+            throws ReleaseExecutionException, ReleaseFailureException, MavenExecutorException {
+        // prepare
+        File testFile = getTestFile("target/working-directory");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setWorkingDirectory(testFile.getAbsolutePath());
+        builder.setAdditionalArguments("-T4");
+        builder.setThreads("auto");
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, (List<MavenProject>) null);
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(testFile),
+                        eq("clean integration-test"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-T4"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        verifyNoMoreInteractions(mock);
+    }
+
+    @Test
+    public void testExecuteWithInvalidThreads() throws ReleaseFailureException {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setWorkingDirectory(getTestFile("target/working-directory").getAbsolutePath());
+        builder.setThreads("many");
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        try {
+            phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, (List<MavenProject>) null);
+
+            fail("Should have thrown an exception");
+        } catch (ReleaseExecutionException e) {
+            assertEquals("Invalid threads 'many': expected auto or a -T value like 4 or 1C", e.getMessage());
+        }
+
+        // verify
+        verifyNoMoreInteractions(mock);
+    }
+
     @Test
     public void testSimulateException() throws MavenExecutorException {
         // prepare
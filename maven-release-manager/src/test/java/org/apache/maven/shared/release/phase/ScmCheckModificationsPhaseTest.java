@@ -18,12 +18,20 @@
  */
 package org.apache.maven.shared.release.phase;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
@@ -46,11 +54,15 @@ import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.stubs.ScmManagerStub;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -227,6 +239,26 @@ public class ScmCheckModificationsPhaseTest extends PlexusJUnit4TestCase {
         assertTrue(true);
     }
 
+    @Test
+    public void testModificationsToReleaseStateFilesOnly() throws Exception {
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+
+        setChangedFiles(
+                builder,
+                Arrays.asList(
+                        "release.journal",
+                        "release.state",
+                        "release-reactor.properties",
+                        ".release-pom-backup",
+                        ".release-pom-backup/index.properties",
+                        ".release-pom-backup/objects/0123456789abcdef"));
+
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null);
+
+        // successful execution is verification enough
+        assertTrue(true);
+    }
+
     // MRELEASE-645: Allow File/Directory Patterns for the checkModificationExcludes Option
     @Test
     public void testModificationsToCustomExcludedFilesOnly() throws Exception {
@@ -366,6 +398,215 @@ public class ScmCheckModificationsPhaseTest extends PlexusJUnit4TestCase {
                         .getResultCode());
     }
 
+    @Test
+    public void testConcurrentReleasesKeepTheirOwnExcludes() throws Exception {
+        final File checkoutA = getTestFile("target/test/checkout-a");
+        final File checkoutB = getTestFile("target/test/checkout-b");
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        // both releases query the status only once both have collected their excludes
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.status(isA(ScmRepository.class), isA(ScmFileSet.class)))
+                .thenAnswer(new Answer<StatusScmResult>() {
+                    @Override
+                    public StatusScmResult answer(InvocationOnMock invocation) throws Exception {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        ScmFileSet fileSet = invocation.getArgument(1);
+                        String changedFile = checkoutA.equals(fileSet.getBasedir()) ? "a.txt" : "b.txt";
+                        return new StatusScmResult("", createScmFiles(Collections.singletonList(changedFile)));
+                    }
+                });
+
+        ScmManagerStub stub = (ScmManagerStub) lookup(ScmManager.class);
+        stub.setScmProvider(scmProviderMock);
+
+        // each release only excludes the file changed in the other one
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ReleaseFailureException> releaseA = executor.submit(checkModifications(checkoutA, "**/b.txt"));
+            Future<ReleaseFailureException> releaseB = executor.submit(checkModifications(checkoutB, "**/a.txt"));
+
+            assertTrue(releaseA.get().getMessage().contains("a.txt"));
+            assertTrue(releaseB.get().getMessage().contains("b.txt"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<ReleaseFailureException> checkModifications(final File checkout, final String exclude) {
+        return new Callable<ReleaseFailureException>() {
+            @Override
+            public ReleaseFailureException call() throws Exception {
+                ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+                builder.setWorkingDirectory(checkout.getAbsolutePath());
+                builder.setCheckModificationExcludes(Collections.singletonList(exclude));
+                try {
+                    phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null);
+                    return null;
+                } catch (ReleaseFailureException e) {
+                    return e;
+                }
+            }
+        };
+    }
+
+    @Test
+    public void testReactorOnlyStatusPerReactorDirectory() throws Exception {
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setCheckModificationReactorOnly(true);
+
+        File checkout = getTestFile("target/test/checkout");
+        File moduleA = new File(checkout, "services/module-a");
+        File moduleB = new File(checkout, "tools/module-b");
+        List<MavenProject> reactorProjects =
+                Arrays.asList(createProject(moduleA), createProject(new File(moduleA, "sub")), createProject(moduleB));
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.status(isA(ScmRepository.class), isA(ScmFileSet.class)))
+                .thenReturn(new StatusScmResult("", createScmFiles(Collections.<String>emptyList())));
+
+        ScmManagerStub stub = (ScmManagerStub) lookup(ScmManager.class);
+        stub.setScmProvider(scmProviderMock);
+
+        assertEquals(
+                ReleaseResult.SUCCESS,
+                phase.execute(
+                                ReleaseUtils.buildReleaseDescriptor(builder),
+                                new DefaultReleaseEnvironment(),
+                                reactorProjects)
+                        .getResultCode());
+
+        verify(scmProviderMock)
+                .status(isA(ScmRepository.class), argThat(new IsScmFileSetEquals(new ScmFileSet(moduleA))));
+        verify(scmProviderMock)
+                .status(isA(ScmRepository.class), argThat(new IsScmFileSetEquals(new ScmFileSet(moduleB))));
+        verifyNoMoreInteractions(scmProviderMock);
+    }
+
+    @Test
+    public void testReactorOnlyStatusSkipsDirectoriesNextToModules() throws Exception {
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setCheckModificationReactorOnly(true);
+
+        File checkout = getTestFile("target/test/checkout");
+        File module = new File(checkout, "module");
+        MavenProject root = createProject(checkout);
+        root.setPackaging("pom");
+        List<MavenProject> reactorProjects = Arrays.asList(root, createProject(module));
+
+        // the provider reports the whole directory of the root, including the unrelated sibling of the module
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.status(
+                        isA(ScmRepository.class),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkout, new File("pom.xml"))))))
+                .thenReturn(
+                        new StatusScmResult("", createScmFiles(Arrays.asList("unrelated/file.txt", "pom.xml.next"))));
+        when(scmProviderMock.status(isA(ScmRepository.class), argThat(new IsScmFileSetEquals(new ScmFileSet(module)))))
+                .thenReturn(new StatusScmResult("", createScmFiles(Collections.<String>emptyList())));
+
+        ScmManagerStub stub = (ScmManagerStub) lookup(ScmManager.class);
+        stub.setScmProvider(scmProviderMock);
+
+        assertEquals(
+                ReleaseResult.SUCCESS,
+                phase.execute(
+                                ReleaseUtils.buildReleaseDescriptor(builder),
+                                new DefaultReleaseEnvironment(),
+                                reactorProjects)
+                        .getResultCode());
+
+        // a change to the root POM itself is still found
+        when(scmProviderMock.status(
+                        isA(ScmRepository.class),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkout, new File("pom.xml"))))))
+                .thenReturn(new StatusScmResult("", createScmFiles(Arrays.asList("unrelated/file.txt", "pom.xml"))));
+        try {
+            phase.execute(
+                    ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+            fail("Status check should have failed");
+        } catch (ReleaseFailureException e) {
+            assertTrue(e.getMessage().contains("pom.xml"));
+            assertFalse(e.getMessage().contains("unrelated"));
+        }
+    }
+
+    @Test
+    public void testReactorFileSetsCoverNestedModules() {
+        File root = getTestFile("target/test/checkout");
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject(new File(root, "a")),
+                createProject(new File(root, "a-b")),
+                createProject(new File(root, "a/b")),
+                createProject(new File(root, "a/b/c")));
+
+        assertEquals(
+                Arrays.asList(new File(root, "a"), new File(root, "a-b")),
+                toFiles(ScmCheckModificationsPhase.getReactorFileSets(root, reactorProjects)));
+
+        reactorProjects = Arrays.asList(createProject(root), createProject(new File(root, "a")));
+        assertEquals(
+                Collections.singletonList(root),
+                toFiles(ScmCheckModificationsPhase.getReactorFileSets(root, reactorProjects)));
+    }
+
+    @Test
+    public void testReactorFileSetsOnlyCoverOwnFilesOfAggregators() {
+        File root = getTestFile("target/test/checkout-aggregator");
+        new File(root, ".mvn").mkdirs();
+        MavenProject rootProject = createProject(root);
+        rootProject.setPackaging("pom");
+        MavenProject parent = createProject(new File(root, "parent"));
+        parent.setPackaging("pom");
+        List<MavenProject> reactorProjects = Arrays.asList(
+                rootProject,
+                parent,
+                createProject(new File(root, "a")),
+                createProject(new File(root, "a/b")),
+                createProject(new File(root, "c")));
+
+        assertEquals(
+                Arrays.asList(
+                        new File(root, "pom.xml"),
+                        new File(root, ".mvn"),
+                        new File(root, "parent"),
+                        new File(root, "a"),
+                        new File(root, "c")),
+                toFiles(ScmCheckModificationsPhase.getReactorFileSets(root, reactorProjects)));
+    }
+
+    @Test
+    public void testReactorFileSetsInReactorOrder() {
+        File root = getTestFile("target/test/checkout");
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject(new File(root, "z")),
+                createProject(new File(root, "a/b")),
+                createProject(new File(root, "a")));
+
+        assertEquals(
+                Arrays.asList(new File(root, "z"), new File(root, "a")),
+                toFiles(ScmCheckModificationsPhase.getReactorFileSets(root, reactorProjects)));
+    }
+
+    private static List<File> toFiles(List<ScmFileSet> fileSets) {
+        List<File> files = new ArrayList<>();
+        for (ScmFileSet fileSet : fileSets) {
+            if (fileSet.getFileList().isEmpty()) {
+                files.add(fileSet.getBasedir());
+            }
+            for (File file : fileSet.getFileList()) {
+                files.add(new File(fileSet.getBasedir(), file.getPath()));
+            }
+        }
+        return files;
+    }
+
+    private static MavenProject createProject(File basedir) {
+        MavenProject project = new MavenProject();
+        project.setFile(new File(basedir, "pom.xml"));
+        return project;
+    }
+
     private void setChangedFiles(ReleaseDescriptorBuilder builder, List<String> changedFiles) throws Exception {
         ScmManager scmManager = (ScmManager) lookup(ScmManager.class);
         ScmProviderStub providerStub =
@@ -18,11 +18,20 @@
  */
 package org.apache.maven.shared.release.policies;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicy;
+import org.apache.maven.shared.release.policy.version.BatchVersionPolicyRequest;
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
+import org.apache.maven.shared.release.policy.version.VersionPolicyResult;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class DefaultVersionPolicyTest {
     private final VersionPolicy policy = new DefaultVersionPolicy();
@@ -62,4 +71,21 @@ public class DefaultVersionPolicyTest {
         VersionPolicyRequest request = new VersionPolicyRequest().setVersion("1.0.0");
         assertEquals("1.0.1-SNAPSHOT", policy.getDevelopmentVersion(request).getVersion());
     }
+
+    @Test
+    public void testDevelopmentVersionsOfReactor() throws Exception {
+        Map<String, String> versions = new LinkedHashMap<>();
+        versions.put("groupId:parent", "1.0");
+        versions.put("groupId:module", "1.0");
+        versions.put("groupId:other", "2.3.4");
+        BatchVersionPolicyRequest request = new BatchVersionPolicyRequest().setVersions(versions);
+
+        Map<String, VersionPolicyResult> results = ((BatchVersionPolicy) policy).getDevelopmentVersions(request);
+
+        assertEquals(
+                Arrays.asList("groupId:parent", "groupId:module", "groupId:other"), new ArrayList<>(results.keySet()));
+        assertEquals("1.1-SNAPSHOT", results.get("groupId:parent").getVersion());
+        assertSame(results.get("groupId:parent"), results.get("groupId:module"));
+        assertEquals("2.3.5-SNAPSHOT", results.get("groupId:other").getVersion());
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.scm.CommandParameters;
+import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.command.remoteinfo.RemoteInfoScmResult;
+import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.provider.ScmProviderRepository;
+import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.shared.release.policy.version.ScmTagIndex;
+import org.eclipse.aether.version.Version;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DefaultScmTagIndexTest {
+    @Test
+    public void testTagsListedOnceAndVersionsSorted() throws Exception {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("project-1.9", "a");
+        tags.put("project-1.10", "b");
+        tags.put("project-1.2", "c");
+        tags.put("project-parent-2.0", "d");
+        tags.put("other-3.0", "e");
+
+        ScmProvider provider = mock(ScmProvider.class);
+        when(provider.remoteInfo(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class)))
+                .thenReturn(new RemoteInfoScmResult("remoteinfo", Collections.emptyMap(), tags));
+
+        ScmTagIndex index = new DefaultScmTagIndex(
+                new ScmRepository("dummy", mock(ScmProviderRepository.class)), provider, new File("."));
+
+        assertEquals(
+                Arrays.asList("other-3.0", "project-1.10", "project-1.2", "project-1.9", "project-parent-2.0"),
+                index.getTags());
+        assertEquals(Arrays.asList("1.2", "1.9", "1.10"), toStrings(index.getVersions("project-")));
+        assertEquals(Arrays.asList("2.0"), toStrings(index.getVersions("project-parent-")));
+        assertEquals(Arrays.asList("1.2", "1.9", "1.10"), toStrings(index.getVersions("project-")));
+        assertEquals(Arrays.asList("3.0"), toStrings(index.getVersions("other-")));
+        assertEquals(Collections.emptyList(), index.getVersions("missing-"));
+        assertEquals(Collections.emptyList(), index.getVersions("zzz-"));
+
+        verify(provider, times(1))
+                .remoteInfo(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class));
+    }
+
+    private static List<String> toStrings(List<Version> versions) {
+        String[] result = new String[versions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = versions.get(i).toString();
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+
+import org.apache.maven.scm.ChangeFile;
+import org.apache.maven.scm.ChangeSet;
+import org.apache.maven.scm.CommandParameters;
+import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.ScmFileStatus;
+import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
+import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
+import org.apache.maven.scm.command.changelog.ChangeLogSet;
+import org.apache.maven.scm.command.info.InfoItem;
+import org.apache.maven.scm.command.info.InfoScmResult;
+import org.apache.maven.scm.command.remoteinfo.RemoteInfoScmResult;
+import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.provider.ScmProviderRepository;
+import org.apache.maven.scm.repository.ScmRepository;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ScmQueryCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testChangeLogServedFromCacheForSameHead() throws Exception {
+        File cacheDirectory = folder.newFolder("cache");
+        File workingDirectory = folder.newFolder("work");
+        ScmRepository repository = new ScmRepository("dummy", mock(ScmProviderRepository.class));
+
+        ScmProvider provider = mock(ScmProvider.class);
+        when(provider.info(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class)))
+                .thenReturn(infoResult("abc123"));
+        ChangeFile changeFile = new ChangeFile("pom.xml", "abc123");
+        changeFile.setAction(ScmFileStatus.MODIFIED);
+        ChangeSet changeSet = new ChangeSet(new Date(), "comment", "author", Collections.singletonList(changeFile));
+        when(provider.changeLog(isA(ChangeLogScmRequest.class)))
+                .thenReturn(new ChangeLogScmResult(
+                        "log", new ChangeLogSet(Collections.singletonList(changeSet), null, null)));
+
+        ScmQueryCache dryRun =
+                ScmQueryCache.open(cacheDirectory, "scm:dummy:url", repository, provider, workingDirectory);
+        ChangeLogScmResult first = dryRun.decorate(provider)
+                .changeLog(new ChangeLogScmRequest(repository, new ScmFileSet(workingDirectory)));
+
+        ScmQueryCache realRun =
+                ScmQueryCache.open(cacheDirectory, "scm:dummy:url", repository, provider, workingDirectory);
+        ChangeLogScmResult second = realRun.decorate(provider)
+                .changeLog(new ChangeLogScmRequest(repository, new ScmFileSet(workingDirectory)));
+
+        verify(provider, times(1)).changeLog(isA(ChangeLogScmRequest.class));
+        assertEquals(
+                first.getChangeLog().getChangeSets().size(),
+                second.getChangeLog().getChangeSets().size());
+        assertEquals("comment", second.getChangeLog().getChangeSets().get(0).getComment());
+        assertEquals("author", second.getChangeLog().getChangeSets().get(0).getAuthor());
+        ChangeFile cachedFile =
+                second.getChangeLog().getChangeSets().get(0).getFiles().get(0);
+        assertEquals("pom.xml", cachedFile.getName());
+        assertEquals("abc123", cachedFile.getRevision());
+        assertEquals(ScmFileStatus.MODIFIED, cachedFile.getAction());
+    }
+
+    @Test
+    public void testRemoteInfoNotCached() throws Exception {
+        File cacheDirectory = folder.newFolder("cache");
+        File workingDirectory = folder.newFolder("work");
+        ScmRepository repository = new ScmRepository("dummy", mock(ScmProviderRepository.class));
+
+        ScmProvider provider = mock(ScmProvider.class);
+        when(provider.info(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class)))
+                .thenReturn(infoResult("abc123"));
+        when(provider.remoteInfo(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class)))
+                .thenReturn(new RemoteInfoScmResult(
+                        "ls-remote", Collections.<String, String>emptyMap(), Collections.<String, String>emptyMap()));
+
+        for (int i = 0; i < 2; i++) {
+            ScmQueryCache.open(cacheDirectory, "scm:dummy:url", repository, provider, workingDirectory)
+                    .decorate(provider)
+                    .remoteInfo(
+                            repository.getProviderRepository(),
+                            new ScmFileSet(workingDirectory),
+                            new CommandParameters());
+        }
+
+        verify(provider, times(2))
+                .remoteInfo(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class));
+        // the HEAD revision is only looked up for a cached query
+        verify(provider, never())
+                .info(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class));
+    }
+
+    @Test
+    public void testChangeLogQueriedAgainWhenHeadMoved() throws Exception {
+        File cacheDirectory = folder.newFolder("cache");
+        File workingDirectory = folder.newFolder("work");
+        ScmRepository repository = new ScmRepository("dummy", mock(ScmProviderRepository.class));
+
+        ScmProvider provider = mock(ScmProvider.class);
+        when(provider.info(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class)))
+                .thenReturn(infoResult("abc123"), infoResult("def456"));
+        when(provider.changeLog(isA(ChangeLogScmRequest.class)))
+                .thenReturn(new ChangeLogScmResult("log", new ChangeLogSet(Collections.emptyList(), null, null)));
+
+        ScmQueryCache.open(cacheDirectory, "scm:dummy:url", repository, provider, workingDirectory)
+                .decorate(provider)
+                .changeLog(new ChangeLogScmRequest(repository, new ScmFileSet(workingDirectory)));
+        ScmQueryCache.open(cacheDirectory, "scm:dummy:url", repository, provider, workingDirectory)
+                .decorate(provider)
+                .changeLog(new ChangeLogScmRequest(repository, new ScmFileSet(workingDirectory)));
+
+        verify(provider, times(2)).changeLog(isA(ChangeLogScmRequest.class));
+    }
+
+    @Test
+    public void testDisabledWithoutHeadRevision() throws Exception {
+        ScmRepository repository = new ScmRepository("dummy", mock(ScmProviderRepository.class));
+        ScmProvider provider = mock(ScmProvider.class);
+        when(provider.info(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class)))
+                .thenThrow(new UnsupportedOperationException());
+        when(provider.changeLog(isA(ChangeLogScmRequest.class)))
+                .thenReturn(new ChangeLogScmResult("log", new ChangeLogSet(Collections.emptyList(), null, null)));
+        File cacheDirectory = folder.newFolder("cache");
+        File workingDirectory = folder.newFolder("work");
+
+        ScmProvider cachingProvider = ScmQueryCache.open(
+                        cacheDirectory, "scm:dummy:url", repository, provider, workingDirectory)
+                .decorate(provider);
+        for (int i = 0; i < 2; i++) {
+            cachingProvider.changeLog(new ChangeLogScmRequest(repository, new ScmFileSet(workingDirectory)));
+        }
+
+        verify(provider, times(2)).changeLog(isA(ChangeLogScmRequest.class));
+        verify(provider, times(1))
+                .info(any(ScmProviderRepository.class), isA(ScmFileSet.class), isA(CommandParameters.class));
+        assertEquals(0, cacheDirectory.list().length);
+    }
+
+    private static InfoScmResult infoResult(String revision) {
+        InfoItem item = new InfoItem();
+        item.setRevision(revision);
+        InfoScmResult result = new InfoScmResult("info", "", "", true);
+        result.getInfoItems().add(item);
+        return result;
+    }
+}
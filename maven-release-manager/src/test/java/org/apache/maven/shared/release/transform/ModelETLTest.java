@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.transform;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ModelETLTest {
+    private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project/>\n";
+
+    @Test
+    public void testLoadWriterFallsBackToFile() throws Exception {
+        ModelETL etl = new ModelETL() {
+            @Override
+            public void extract(File pomFile) {}
+
+            @Override
+            public void transform() {}
+
+            @Override
+            public void load(File pomFile) throws ReleaseExecutionException {
+                try {
+                    Files.write(pomFile.toPath(), POM.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new ReleaseExecutionException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public Model getModel() {
+                return null;
+            }
+        };
+
+        StringWriter writer = new StringWriter();
+        etl.load(writer);
+
+        assertEquals(POM, writer.toString());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.transform;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class PomDiffReportTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testOneDiffPerPhase() throws Exception {
+        File baseDirectory = folder.getRoot();
+        File pomFile = write(new File(baseDirectory, "pom.xml"), pom("1.0-SNAPSHOT"));
+        File modulePomFile = write(new File(baseDirectory, "module/pom.xml"), pom("1.0-SNAPSHOT"));
+
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(
+                new ReleaseDescriptorBuilder().setWorkingDirectory(baseDirectory.getAbsolutePath()));
+        PomSnapshotStore store = new PomSnapshotStore();
+        store.put(releaseDescriptor, pomFile, "tag", pom("1.0"));
+        store.put(releaseDescriptor, modulePomFile, "tag", pom("1.0"));
+        store.put(releaseDescriptor, pomFile, "next", pom("1.1-SNAPSHOT"));
+
+        File reportFile = new File(baseDirectory, "target/pom.diff");
+        PomDiffReport.write(reportFile, baseDirectory, store.getSnapshots(releaseDescriptor));
+
+        String expected = "# release: 2 files changed, 2 insertions(+), 2 deletions(-)\n"
+                + "#  pom.xml        | 2 +-\n"
+                + "#  module/pom.xml | 2 +-\n"
+                + "\n"
+                + "--- a/pom.xml\n"
+                + "+++ b/pom.xml\n"
+                + "@@ -1,5 +1,5 @@\n"
+                + " <project>\n"
+                + "   <groupId>groupId</groupId>\n"
+                + "   <artifactId>artifactId</artifactId>\n"
+                + "-  <version>1.0-SNAPSHOT</version>\n"
+                + "+  <version>1.0</version>\n"
+                + " </project>\n"
+                + "--- a/module/pom.xml\n"
+                + "+++ b/module/pom.xml\n"
+                + "@@ -1,5 +1,5 @@\n"
+                + " <project>\n"
+                + "   <groupId>groupId</groupId>\n"
+                + "   <artifactId>artifactId</artifactId>\n"
+                + "-  <version>1.0-SNAPSHOT</version>\n"
+                + "+  <version>1.0</version>\n"
+                + " </project>\n"
+                + "\n"
+                + "# development: 1 file changed, 1 insertion(+), 1 deletion(-)\n"
+                + "#  pom.xml | 2 +-\n"
+                + "\n"
+                + "--- a/pom.xml\n"
+                + "+++ b/pom.xml\n"
+                + "@@ -1,5 +1,5 @@\n"
+                + " <project>\n"
+                + "   <groupId>groupId</groupId>\n"
+                + "   <artifactId>artifactId</artifactId>\n"
+                + "-  <version>1.0-SNAPSHOT</version>\n"
+                + "+  <version>1.1-SNAPSHOT</version>\n"
+                + " </project>\n";
+        assertEquals(expected, new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReleasePomIsNewFile() throws Exception {
+        File baseDirectory = folder.getRoot();
+        File pomFile = write(new File(baseDirectory, "pom.xml"), pom("1.0-SNAPSHOT"));
+
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(
+                new ReleaseDescriptorBuilder().setWorkingDirectory(baseDirectory.getAbsolutePath()));
+        PomSnapshotStore store = new PomSnapshotStore();
+        store.put(releaseDescriptor, pomFile, "release-pom.xml", "<project/>\n");
+
+        String expected = "# release POMs: 1 file changed, 1 insertion(+), 0 deletions(-)\n"
+                + "#  release-pom.xml | 1 +\n"
+                + "\n"
+                + "--- /dev/null\n"
+                + "+++ b/release-pom.xml\n"
+                + "@@ -0,0 +1,1 @@\n"
+                + "+<project/>\n";
+        assertEquals(expected, PomDiffReport.format(baseDirectory, store.getSnapshots(releaseDescriptor)));
+    }
+
+    private static String pom(String version) {
+        return "<project>\n"
+                + "  <groupId>groupId</groupId>\n"
+                + "  <artifactId>artifactId</artifactId>\n"
+                + "  <version>" + version + "</version>\n"
+                + "</project>\n";
+    }
+
+    private static File write(File file, String content) throws Exception {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
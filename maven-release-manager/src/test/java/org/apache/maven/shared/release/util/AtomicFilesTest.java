@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class AtomicFilesTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testBatchCommit() throws Exception {
+        File first = write(folder.newFile("first.xml"), "old");
+        File second = write(folder.newFile("second.xml"), "old");
+
+        AtomicFiles.Batch batch = new AtomicFiles.Batch();
+        write(batch.add(first), "new");
+        write(batch.add(second), "new");
+
+        assertEquals("old", read(first));
+        assertEquals("old", read(second));
+
+        batch.commit();
+
+        assertEquals("new", read(first));
+        assertEquals("new", read(second));
+        assertFalse(AtomicFiles.getTemporaryFile(first).exists());
+    }
+
+    @Test
+    public void testBatchAbort() throws Exception {
+        File first = write(folder.newFile("first.xml"), "old");
+
+        AtomicFiles.Batch batch = new AtomicFiles.Batch();
+        File temporaryFile = write(batch.add(first), "new");
+
+        batch.abort();
+
+        assertEquals("old", read(first));
+        assertFalse(temporaryFile.exists());
+    }
+
+    private static File write(File file, String content) throws Exception {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String read(File file) throws Exception {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
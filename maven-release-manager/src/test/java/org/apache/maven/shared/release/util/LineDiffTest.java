@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LineDiffTest {
+    @Test
+    public void testLinesKeepTerminators() {
+        assertEquals(Arrays.asList("a\n", "b\r\n", "c"), LineDiff.lines("a\nb\r\nc"));
+        assertEquals(Collections.emptyList(), LineDiff.lines(""));
+    }
+
+    @Test
+    public void testIdenticalContentHasNoHunks() {
+        List<String> lines = LineDiff.lines("<project>\n  <version>1.0</version>\n</project>\n");
+
+        assertTrue(LineDiff.diff(lines, lines).isEmpty());
+    }
+
+    @Test
+    public void testApplyRestoresRevised() {
+        List<String> original = LineDiff.lines("<project>\n" + "  <groupId>g</groupId>\n"
+                + "  <version>1.0-SNAPSHOT</version>\n"
+                + "  <scm>\n"
+                + "    <tag>HEAD</tag>\n"
+                + "  </scm>\n"
+                + "</project>\n");
+        List<String> revised = LineDiff.lines("<project>\n" + "  <groupId>g</groupId>\n"
+                + "  <version>1.0</version>\n"
+                + "  <scm>\n"
+                + "    <tag>release-1.0</tag>\n"
+                + "  </scm>\n"
+                + "  <!-- added -->\n"
+                + "</project>\n");
+
+        List<LineDiff.Hunk> hunks = LineDiff.diff(original, revised);
+
+        assertEquals(3, hunks.size());
+        assertEquals(2, hunks.get(0).getOriginalStart());
+        assertEquals(1, hunks.get(0).getOriginalLength());
+        assertEquals(
+                Collections.singletonList("  <version>1.0</version>\n"),
+                hunks.get(0).getLines());
+        assertEquals(revised, LineDiff.apply(original, hunks));
+    }
+
+    @Test
+    public void testApplyWithRemovedLines() {
+        List<String> original = LineDiff.lines("a\nb\nc\nd\ne\n");
+        List<String> revised = LineDiff.lines("a\nd\nx\n");
+
+        assertEquals(revised, LineDiff.apply(original, LineDiff.diff(original, revised)));
+    }
+
+    @Test
+    public void testUnifiedJoinsCloseHunks() {
+        List<String> original = LineDiff.lines("1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n11\n12\n13\n14\n15\n16\n");
+        List<String> revised = LineDiff.lines("1\nB\n3\n4\n5\n6\n7\nH\n9\n10\n11\n12\n13\n14\n15\nP\n");
+
+        String expected = "--- a/file\n"
+                + "+++ b/file\n"
+                + "@@ -1,11 +1,11 @@\n"
+                + " 1\n"
+                + "-2\n"
+                + "+B\n"
+                + " 3\n"
+                + " 4\n"
+                + " 5\n"
+                + " 6\n"
+                + " 7\n"
+                + "-8\n"
+                + "+H\n"
+                + " 9\n"
+                + " 10\n"
+                + " 11\n"
+                + "@@ -13,4 +13,4 @@\n"
+                + " 13\n"
+                + " 14\n"
+                + " 15\n"
+                + "-16\n"
+                + "+P\n";
+        assertEquals(expected, LineDiff.unified("a/file", "b/file", original, LineDiff.diff(original, revised), 3));
+    }
+
+    @Test
+    public void testUnifiedMissingNewline() {
+        List<String> original = LineDiff.lines("a\nb");
+        List<String> revised = LineDiff.lines("a\nc");
+
+        String expected = "--- a/file\n"
+                + "+++ b/file\n"
+                + "@@ -1,2 +1,2 @@\n"
+                + " a\n"
+                + "-b\n"
+                + "\\ No newline at end of file\n"
+                + "+c\n"
+                + "\\ No newline at end of file\n";
+        assertEquals(expected, LineDiff.unified("a/file", "b/file", original, LineDiff.diff(original, revised), 3));
+    }
+}
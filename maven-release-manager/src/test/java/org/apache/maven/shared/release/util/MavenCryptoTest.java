@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonatype.plexus.components.cipher.DefaultPlexusCipher;
+import org.sonatype.plexus.components.sec.dispatcher.DefaultSecDispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MavenCryptoTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testMasterPasswordReadAgainWhenSecurityFileChanges() throws Exception {
+        File securityFile = folder.newFile("settings-security.xml");
+        writeMaster(securityFile, "first master");
+        securityFile.setLastModified(1000000L);
+
+        DefaultSecDispatcher secDispatcher = mock(DefaultSecDispatcher.class);
+        when(secDispatcher.getConfigurationFile()).thenReturn("~/.m2/settings-security.xml");
+        MavenCrypto mavenCrypto = new MavenCrypto(secDispatcher, new DefaultPlexusCipher());
+
+        String location = System.getProperty(DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION);
+        System.setProperty(DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION, securityFile.getAbsolutePath());
+        try {
+            String encrypted = mavenCrypto.encryptAndDecorate("secret");
+            assertEquals("secret", decrypt(mavenCrypto, encrypted));
+            assertEquals("secret", decrypt(mavenCrypto, mavenCrypto.encryptAndDecorate("secret")));
+
+            writeMaster(securityFile, "second master with another length");
+            securityFile.setLastModified(2000000L);
+
+            assertEquals("secret", decrypt(mavenCrypto, mavenCrypto.encryptAndDecorate("secret")));
+            try {
+                assertNotEquals("secret", decrypt(mavenCrypto, encrypted));
+            } catch (MavenCrypto.MavenCryptoException e) {
+                // the old master password may also fail decryption
+            }
+        } finally {
+            if (location != null) {
+                System.setProperty(DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION, location);
+            } else {
+                System.clearProperty(DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION);
+            }
+        }
+    }
+
+    private static String decrypt(MavenCrypto mavenCrypto, String value) throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("scm.password", value);
+        mavenCrypto.decryptProperties(properties);
+        return properties.getProperty("scm.password");
+    }
+
+    private static void writeMaster(File securityFile, String master) throws Exception {
+        String encryptedMaster =
+                new DefaultPlexusCipher().encryptAndDecorate(master, DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION);
+        String content = "<settingsSecurity><master>" + encryptedMaster + "</master></settingsSecurity>";
+        Files.write(securityFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
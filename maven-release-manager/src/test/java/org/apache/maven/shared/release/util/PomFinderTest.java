@@ -19,20 +19,29 @@
 package org.apache.maven.shared.release.util;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.LoggerFactory;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
  * @author <a href="mailto:struberg@yahoo.de">Mark Struberg</a>
  */
 public class PomFinderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testPomFinderParser() {
         PomFinder pf = new PomFinder(LoggerFactory.getLogger("test"));
@@ -62,4 +71,72 @@ public class PomFinderTest {
             assertEquals(pomFile.getAbsolutePath(), foundPom.getAbsolutePath());
         }
     }
+
+    @Test
+    public void testPomFinderRelativePath() {
+        PomFinder pf = new PomFinder(LoggerFactory.getLogger("test"));
+
+        URL pomUrl = getClass().getClassLoader().getResource("pomfinder/pom1.xml");
+        assertNotNull(pomUrl);
+
+        File pomFile = new File(pomUrl.getFile());
+        assertTrue(pf.parsePom(pomFile));
+
+        File startDirectory = pomFile.getParentFile().getParentFile();
+
+        File foundPom = pf.findMatchingPom(startDirectory, "pomfinder");
+        assertNotNull(foundPom);
+        assertEquals(pomFile.getAbsolutePath(), foundPom.getAbsolutePath());
+
+        // a wrong relative path falls back to searching the tree
+        foundPom = pf.findMatchingPom(startDirectory, "unknown/directory");
+        assertNotNull(foundPom);
+        assertEquals(pomFile.getAbsolutePath(), foundPom.getAbsolutePath());
+    }
+
+    @Test
+    public void testPomFinderSkipsBuildOutputDirectories() throws Exception {
+        File checkout = folder.newFolder("checkout");
+        String pom = "<project><parent><groupId>org.example</groupId><artifactId>parent</artifactId></parent>"
+                + "<artifactId>module</artifactId></project>";
+        writePom(new File(checkout, "target/checkout/module"), pom);
+        writePom(new File(checkout, "node_modules/module"), pom);
+        File modulePom = writePom(new File(checkout, "z/module"), pom);
+        writePom(new File(checkout, "a/b/c/module"), pom);
+
+        PomFinder pf = new PomFinder(LoggerFactory.getLogger("test"));
+        assertTrue(pf.parsePom(modulePom));
+
+        // the match closest to the start directory is found
+        File foundPom = pf.findMatchingPom(checkout);
+        assertEquals(modulePom.getAbsolutePath(), foundPom.getAbsolutePath());
+    }
+
+    @Test
+    public void testPomFinderComparesCoordinates() throws Exception {
+        File checkout = folder.newFolder("checkout");
+        File modulePom = writePom(
+                new File(checkout, "module"),
+                "<?xml version=\"1.0\"?>\n<!-- comment -->\n<project><groupId>org.example</groupId>"
+                        + "<dependencies><dependency><groupId>other</groupId><artifactId>dependency</artifactId>"
+                        + "</dependency></dependencies><artifactId>module</artifactId></project>");
+        writePom(
+                new File(checkout, "a/module"),
+                "<project><groupId>org.example</groupId><artifactId>other</artifactId></project>");
+
+        PomFinder pf = new PomFinder(LoggerFactory.getLogger("test"));
+        assertTrue(pf.parsePom(modulePom));
+
+        File foundPom = pf.findMatchingPom(checkout);
+        assertEquals(modulePom.getAbsolutePath(), foundPom.getAbsolutePath());
+
+        assertNull(pf.findMatchingPom(new File(checkout, "a")));
+    }
+
+    private static File writePom(File directory, String content) throws IOException {
+        Files.createDirectories(directory.toPath());
+        File pom = new File(directory, "pom.xml");
+        Files.write(pom.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return pom;
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PomHeaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadStopsAfterCoordinates() throws Exception {
+        File pom = folder.newFile("pom.xml");
+        // the content after the coordinates is not even well-formed
+        write(
+                pom,
+                "<project><parent><groupId>org.example</groupId><artifactId>parent</artifactId></parent>"
+                        + "<groupId> org.example.module </groupId><artifactId>module</artifactId><broken>");
+
+        PomHeader header = PomHeader.read(pom);
+
+        assertEquals("org.example.module", header.getGroupId());
+        assertEquals("module", header.getArtifactId());
+        assertEquals("org.example", header.getParentGroupId());
+        assertEquals("parent", header.getParentArtifactId());
+    }
+
+    @Test
+    public void testReadWithoutParent() throws Exception {
+        File pom = folder.newFile("pom.xml");
+        write(
+                pom,
+                "<?xml version=\"1.0\"?>\n<project><artifactId>module</artifactId>"
+                        + "<dependencies><dependency><groupId>other</groupId></dependency></dependencies>"
+                        + "<description>&copy;</description></project>");
+
+        PomHeader header = PomHeader.read(pom);
+
+        assertNull(header.getGroupId());
+        assertEquals("module", header.getArtifactId());
+        assertNull(header.getParentGroupId());
+        assertNull(header.getParentArtifactId());
+    }
+
+    @Test
+    public void testReadRootStopsAfterCoordinates() throws Exception {
+        File pom = folder.newFile("pom.xml");
+        // a root POM has no parent, the content after its coordinates is not even well-formed
+        write(
+                pom,
+                "<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                        + "<artifactId>root</artifactId><version>1.0</version><broken>");
+
+        PomHeader header = PomHeader.read(pom);
+
+        assertEquals("org.example", header.getGroupId());
+        assertEquals("root", header.getArtifactId());
+        assertNull(header.getParentGroupId());
+        assertNull(header.getParentArtifactId());
+    }
+
+    @Test
+    public void testReadInheritedGroupIdStopsAfterCoordinates() throws Exception {
+        File pom = folder.newFile("pom.xml");
+        write(
+                pom,
+                "<project><parent><groupId>org.example</groupId><artifactId>parent</artifactId></parent>"
+                        + "<artifactId>module</artifactId><packaging>jar</packaging><broken>");
+
+        PomHeader header = PomHeader.read(pom);
+
+        assertNull(header.getGroupId());
+        assertEquals("module", header.getArtifactId());
+        assertEquals("org.example", header.getParentGroupId());
+    }
+
+    @Test
+    public void testReadInheritedGroupIdWithParentAfterVersion() throws Exception {
+        File pom = folder.newFile("pom.xml");
+        write(
+                pom,
+                "<project><modelVersion>4.0.0</modelVersion><artifactId>module</artifactId><version>1.0</version>"
+                        + "<parent><groupId>org.example</groupId><artifactId>parent</artifactId></parent>"
+                        + "<packaging>jar</packaging><broken>");
+
+        PomHeader header = PomHeader.read(pom);
+
+        assertNull(header.getGroupId());
+        assertEquals("module", header.getArtifactId());
+        assertEquals("org.example", header.getParentGroupId());
+        assertEquals("parent", header.getParentArtifactId());
+    }
+
+    @Test
+    public void testCachedUntilModified() throws Exception {
+        File pom = folder.newFile("pom.xml");
+        write(pom, "<project><groupId>org.example</groupId><artifactId>module</artifactId></project>");
+        pom.setLastModified(1000000L);
+
+        PomHeader header = PomHeader.read(pom);
+        assertSame(header, PomHeader.read(pom));
+
+        write(pom, "<project><groupId>org.example</groupId><artifactId>renamed</artifactId></project>");
+        pom.setLastModified(2000000L);
+
+        assertEquals("renamed", PomHeader.read(pom).getArtifactId());
+    }
+
+    @Test
+    public void testReadMissingFile() throws Exception {
+        assertNull(PomHeader.read(new File(folder.getRoot(), "missing.xml")));
+    }
+
+    private static void write(File file, String content) throws Exception {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
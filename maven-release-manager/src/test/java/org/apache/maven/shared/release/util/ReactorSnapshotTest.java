@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReactorSnapshotTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testVerifyCheckoutOfTag() throws Exception {
+        File workingDirectory = folder.newFolder("work");
+        MavenProject root = createProject(workingDirectory, "root", "<project>root</project>");
+        MavenProject module =
+                createProject(new File(workingDirectory, "module"), "module", "<project>module</project>");
+        List<MavenProject> reactorProjects = Arrays.asList(root, module);
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.addReleaseVersion("groupId:root", "1.0");
+        builder.addReleaseVersion("groupId:module", "1.0");
+
+        File file = new File(workingDirectory, ReactorSnapshot.FILE_NAME);
+        ReactorSnapshot.of(ReleaseUtils.buildReleaseDescriptor(builder), reactorProjects)
+                .write(file);
+
+        ReactorSnapshot snapshot = ReactorSnapshot.read(file);
+        assertEquals(
+                Arrays.asList("groupId:root", "groupId:module"),
+                Arrays.asList(snapshot.getVersions().keySet().toArray()));
+        assertEquals("1.0", snapshot.getVersions().get("groupId:module"));
+
+        File checkout = folder.newFolder("checkout");
+        createProject(checkout, "root", "<project>root</project>");
+        createProject(new File(checkout, "module"), "module", "<project>module</project>");
+        assertEquals(Collections.emptyList(), snapshot.verify(checkout));
+
+        createProject(new File(checkout, "module"), "module", "<project>changed</project>");
+        assertEquals(Collections.singletonList("groupId:module: module/pom.xml changed"), snapshot.verify(checkout));
+
+        new File(checkout, "module/pom.xml").delete();
+        assertEquals(Collections.singletonList("groupId:module: missing module/pom.xml"), snapshot.verify(checkout));
+    }
+
+    @Test
+    public void testVerifySources() throws Exception {
+        File workingDirectory = folder.newFolder("work");
+        MavenProject root = createProject(workingDirectory, "root", "<project>root</project>");
+        writeSource(workingDirectory, "App.java", "class App {}");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.addReleaseVersion("groupId:root", "1.0");
+        ReactorSnapshot snapshot =
+                ReactorSnapshot.of(ReleaseUtils.buildReleaseDescriptor(builder), Collections.singletonList(root));
+
+        File checkout = folder.newFolder("checkout");
+        createProject(checkout, "root", "<project>root</project>");
+        writeSource(checkout, "App.java", "class App {}");
+        assertEquals(Collections.emptyList(), snapshot.verify(checkout));
+
+        writeSource(checkout, "App.java", "class App { }");
+        assertEquals(Collections.singletonList("groupId:root: sources changed"), snapshot.verify(checkout));
+
+        writeSource(checkout, "App.java", "class App {}");
+        writeSource(checkout, "Other.java", "class Other {}");
+        assertEquals(Collections.singletonList("groupId:root: sources changed"), snapshot.verify(checkout));
+    }
+
+    @Test
+    public void testVerifyMavenConfiguration() throws Exception {
+        File workingDirectory = folder.newFolder("work");
+        MavenProject root = createProject(workingDirectory, "root", "<project>root</project>");
+        writeFile(workingDirectory, ".mvn/maven.config", "-Dfoo=bar");
+
+        ReactorSnapshot snapshot = ReactorSnapshot.of(
+                ReleaseUtils.buildReleaseDescriptor(new ReleaseDescriptorBuilder()), Collections.singletonList(root));
+
+        File checkout = folder.newFolder("checkout");
+        createProject(checkout, "root", "<project>root</project>");
+        writeFile(checkout, ".mvn/maven.config", "-Dfoo=bar");
+        assertEquals(Collections.emptyList(), snapshot.verify(checkout));
+
+        writeFile(checkout, ".mvn/maven.config", "-DskipTests");
+        assertEquals(Collections.singletonList("groupId:root: sources changed"), snapshot.verify(checkout));
+    }
+
+    @Test
+    public void testVerified() throws Exception {
+        File workingDirectory = folder.newFolder("work");
+        List<MavenProject> reactorProjects =
+                Collections.singletonList(createProject(workingDirectory, "root", "<project>root</project>"));
+        File file = new File(workingDirectory, ReactorSnapshot.FILE_NAME);
+
+        ReactorSnapshot.of(ReleaseUtils.buildReleaseDescriptor(new ReleaseDescriptorBuilder()), reactorProjects)
+                .write(file);
+        assertFalse(ReactorSnapshot.read(file).isVerified());
+
+        ReactorSnapshot.of(
+                        ReleaseUtils.buildReleaseDescriptor(
+                                new ReleaseDescriptorBuilder().setPreparationGoalsVerified(true)),
+                        reactorProjects)
+                .write(file);
+        assertTrue(ReactorSnapshot.read(file).isVerified());
+    }
+
+    @Test
+    public void testReadMissingSnapshot() throws Exception {
+        assertNull(ReactorSnapshot.read(new File(folder.getRoot(), ReactorSnapshot.FILE_NAME)));
+    }
+
+    private static void writeSource(File directory, String fileName, String content) throws Exception {
+        writeFile(directory, "src/main/java/" + fileName, content);
+    }
+
+    private static void writeFile(File directory, String path, String content) throws Exception {
+        File file = new File(directory, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MavenProject createProject(File directory, String artifactId, String content) throws Exception {
+        directory.mkdirs();
+        File pomFile = new File(directory, "pom.xml");
+        Files.write(pomFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        Model model = new Model();
+        model.setGroupId("groupId");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0-SNAPSHOT");
+        MavenProject project = new MavenProject(model);
+        project.setFile(pomFile);
+        return project;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StagingRepositoryTest {
+    private static final String ARTIFACT = "org/example/module/1.0/module-1.0.jar";
+
+    private static final String METADATA = "org/example/module/maven-metadata.xml";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testToDirectory() throws Exception {
+        File directory = folder.getRoot();
+        String url = directory.toURI().toString();
+
+        assertEquals(
+                directory.getCanonicalFile(), StagingRepository.toDirectory(url).getCanonicalFile());
+        assertEquals(
+                directory.getCanonicalFile(),
+                StagingRepository.toDirectory("staging::" + url).getCanonicalFile());
+        assertEquals(
+                directory.getCanonicalFile(),
+                StagingRepository.toDirectory("staging::default::" + url).getCanonicalFile());
+        assertNull(StagingRepository.toDirectory("staging::https://repo.example.org/staging"));
+    }
+
+    @Test
+    public void testPromote() throws Exception {
+        File staging = folder.newFolder("staging");
+        File target = folder.newFolder("target");
+        write(new File(staging, ARTIFACT), "jar");
+        write(new File(staging, ARTIFACT + ".sha1"), "sha1 of jar");
+        write(new File(staging, METADATA), metadata("1.0"));
+        write(new File(staging, METADATA + ".sha1"), "stale");
+        write(new File(target, METADATA), metadata("0.9"));
+
+        StagingRepository repository = new StagingRepository(staging);
+        assertEquals(4, repository.record().size());
+
+        assertEquals(Arrays.asList(ARTIFACT, ARTIFACT + ".sha1", METADATA), repository.promote(target));
+
+        assertEquals("jar", read(new File(target, ARTIFACT)));
+        String metadata = read(new File(target, METADATA));
+        assertTrue(metadata, metadata.contains("<version>0.9</version>"));
+        assertTrue(metadata, metadata.contains("<version>1.0</version>"));
+        assertEquals(40, read(new File(target, METADATA + ".sha1")).length());
+        assertFalse(new File(target, ARTIFACT + ".tmp").exists());
+
+        // promoting again does not change the released files
+        repository.promote(target);
+        assertEquals("jar", read(new File(target, ARTIFACT)));
+    }
+
+    @Test
+    public void testPromoteRejectsChangedStagedFile() throws Exception {
+        File staging = folder.newFolder("staging");
+        File target = folder.newFolder("target");
+        write(new File(staging, ARTIFACT), "jar");
+
+        StagingRepository repository = new StagingRepository(staging);
+        repository.record();
+        write(new File(staging, ARTIFACT), "rebuilt jar");
+
+        try {
+            repository.promote(target);
+            fail("changed staged file promoted");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(ARTIFACT));
+        }
+        assertFalse(new File(target, ARTIFACT).exists());
+    }
+
+    @Test
+    public void testPromoteNeverOverwritesReleasedFile() throws Exception {
+        File staging = folder.newFolder("staging");
+        File target = folder.newFolder("target");
+        write(new File(staging, ARTIFACT), "jar");
+        write(new File(target, ARTIFACT), "released jar");
+
+        StagingRepository repository = new StagingRepository(staging);
+        repository.record();
+
+        try {
+            repository.promote(target);
+            fail("released file overwritten");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(ARTIFACT));
+        }
+        assertEquals("released jar", read(new File(target, ARTIFACT)));
+    }
+
+    private static String metadata(String version) {
+        return "<metadata><groupId>org.example</groupId><artifactId>module</artifactId><versioning>"
+                + "<release>" + version + "</release><versions><version>" + version + "</version></versions>"
+                + "<lastUpdated>20260101000000</lastUpdated></versioning></metadata>";
+    }
+
+    private static void write(File file, String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.versions;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+
+import org.codehaus.plexus.util.StringUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ParsedVersionTest {
+    private static final String[] VERSIONS = {
+        "1",
+        "1.0",
+        "1.0.0",
+        "01.002.0003",
+        "1.0-SNAPSHOT",
+        "1.0SNAPSHOT",
+        "1.0_SNAPSHOT",
+        "1.0-snapshot",
+        "1.0-SNAPSHOT-foo",
+        "1.0-alpha",
+        "1.0-alpha-1",
+        "1.0alpha1",
+        "1.0_alpha_1_SNAPSHOT",
+        "1.0-RC-2-SNAPSHOT",
+        "1.0-alpha--SNAPSHOT",
+        "1.0-alpha-",
+        "1.0--1",
+        "1.0-1",
+        "1.0-1-SNAPSHOT",
+        "1.0-20041114.081234-2",
+        "1.0.",
+        "1..2",
+        "1.2.x",
+        "1.0.a-1",
+        "1.0-beta-1.2",
+        "2.0-M1",
+        "log4j-1.2.9",
+        "SNAPSHOT",
+        "trunk-SNAPSHOT",
+        "trunk_SNAPSHOT",
+        "SNAPSHOT-SNAPSHOT",
+        "trunk1-SNAPSHOT",
+        "-SNAPSHOT",
+        "",
+        "a",
+        "1.0-foo\nbar",
+        "1.0\n",
+        "1.0-é"
+    };
+
+    @Test
+    public void testSameAsPatterns() {
+        for (String version : VERSIONS) {
+            ParsedVersion parsed;
+            try {
+                parsed = ParsedVersion.parse(version);
+            } catch (VersionParseException e) {
+                parsed = null;
+            }
+            String[] expected = parseWithPatterns(version);
+
+            if (expected == null) {
+                assertNull("Expected a parse failure for '" + version + "'", parsed);
+            } else {
+                String[] actual = {
+                    parsed.getDigits() != null
+                            ? StringUtils.join(parsed.getDigits().iterator(), ",")
+                            : null,
+                    parsed.getAnnotationSeparator(),
+                    parsed.getAnnotation(),
+                    parsed.getAnnotationRevSeparator(),
+                    parsed.getAnnotationRevision(),
+                    parsed.getBuildSeparator(),
+                    parsed.getBuildSpecifier()
+                };
+                assertEquals("Parts of '" + version + "'", Arrays.asList(expected), Arrays.asList(actual));
+            }
+        }
+    }
+
+    @Test
+    public void testCached() throws Exception {
+        assertSame(ParsedVersion.parse("1.2.3-SNAPSHOT"), ParsedVersion.parse("1.2.3-SNAPSHOT"));
+    }
+
+    @Test
+    public void testDigitsNotShared() throws Exception {
+        Version version = new Version("1.2");
+        version.getDigits().set(1, "3");
+
+        assertEquals(Arrays.asList("1", "2"), new Version("1.2").getDigits());
+
+        try {
+            ParsedVersion.parse("1.2").getDigits().set(1, "3");
+            fail("Parsed digits are shared");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCompareDerivedVersion() throws Exception {
+        Version version = new Version("1.2-SNAPSHOT");
+
+        assertEquals(-1, version.setBuildSpecifier(null).compareTo(new Version("1.3")));
+    }
+
+    /**
+     * The parsing as done with the patterns before, as reference.
+     */
+    private static String[] parseWithPatterns(String version) {
+        if (Version.ALTERNATE_PATTERN.matcher(version).matches()) {
+            return new String[] {null, null, null, null, null, null, version};
+        }
+
+        Matcher m = Version.STANDARD_PATTERN.matcher(version);
+        if (!m.matches()) {
+            return null;
+        }
+        String[] parts = new String[7];
+        parts[0] = StringUtils.join(StringUtils.split(m.group(1), "."), ",");
+        if (!"SNAPSHOT".equals(m.group(3))) {
+            parts[1] = m.group(2);
+            parts[2] = nullIfEmpty(m.group(3));
+            if (StringUtils.isNotEmpty(m.group(4)) && StringUtils.isEmpty(m.group(5))) {
+                parts[5] = m.group(4);
+                parts[6] = nullIfEmpty(m.group(7));
+            } else {
+                parts[3] = m.group(4);
+                parts[4] = nullIfEmpty(m.group(5));
+                parts[5] = m.group(6);
+                parts[6] = nullIfEmpty(m.group(7));
+            }
+        } else {
+            parts[5] = m.group(2);
+            parts[6] = nullIfEmpty(m.group(3));
+        }
+        return parts;
+    }
+
+    private static String nullIfEmpty(String s) {
+        return (s == null || s.isEmpty()) ? null : s;
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.shared.release.ReleaseManager;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.daemon.RemoteReleaseManager;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.codehaus.plexus.util.StringUtils;
@@ -77,6 +78,16 @@ public abstract class AbstractReleaseMojo extends AbstractMojo {
     @Parameter(property = "pomFileName", defaultValue = "${project.file.name}")
     private String pomFileName;
 
+    /**
+     * The degree of parallelism of the forked Maven executions, passed to them as <code>-T</code>: either a value like
+     * <code>4</code> or <code>1C</code>, or <code>auto</code> for the smaller of the number of projects in the reactor
+     * and the number of available processors. Ignored when the arguments already give <code>-T</code>.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "threads")
+    private String threads;
+
     /**
      */
     @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
@@ -130,6 +141,46 @@ public abstract class AbstractReleaseMojo extends AbstractMojo {
     @Parameter(defaultValue = "default", property = "releaseStrategyId")
     private String releaseStrategyId;
 
+    /**
+     * The role-hint for the {@link org.apache.maven.shared.release.config.ReleaseDescriptorStore} implementation
+     * keeping the release state between the goals: <code>properties</code> for <code>release.properties</code>,
+     * <code>journal</code> for the append-only <code>release.journal</code>, or <code>binary</code> for the compact
+     * <code>release.state</code> of large reactors. All goals of a release must use the same store.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "properties", property = "releaseDescriptorStoreId")
+    private String releaseDescriptorStoreId;
+
+    /**
+     * Store the POM backups as one content-addressed snapshot of the reactor in the <code>.release-pom-backup</code>
+     * directory of the root project, instead of a <code>pom.xml.releaseBackup</code> file next to each POM. Identical POMs are stored once, which saves most of the
+     * file system operations per module on large reactors and network file systems.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "contentAddressedPomBackups")
+    private boolean contentAddressedPomBackups;
+
+    /**
+     * The endpoint file of a release daemon started with <code>release:daemon</code>. When set, the goal is only a
+     * client: it is executed by the daemon, which must run as the same user, and the build must be in batch mode.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "releaseDaemon")
+    private File releaseDaemon;
+
+    /**
+     * Gets the release manager executing the goal: the one of the release daemon if one is configured, otherwise the
+     * one of this build.
+     *
+     * @return The release manager, never <code>null</code>.
+     */
+    protected ReleaseManager getReleaseManager() {
+        return releaseDaemon != null ? new RemoteReleaseManager(releaseDaemon, releaseManager) : releaseManager;
+    }
+
     /**
      * Gets the environment settings configured for this release.
      *
@@ -178,6 +229,7 @@ public abstract class AbstractReleaseMojo extends AbstractMojo {
         }
 
         descriptor.setAdditionalArguments(this.arguments);
+        descriptor.setThreads(this.threads);
 
         List<String> profileIds = session.getRequest().getActiveProfiles();
         String additionalProfiles = getAdditionalProfiles();
@@ -193,6 +245,8 @@ public abstract class AbstractReleaseMojo extends AbstractMojo {
         }
 
         descriptor.setReleaseStrategyId(releaseStrategyId);
+        descriptor.setReleaseDescriptorStoreId(releaseDescriptorStoreId);
+        descriptor.setContentAddressedPomBackups(contentAddressedPomBackups);
 
         return descriptor;
     }
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.plugins.release;
 
+import java.io.File;
 import java.util.Map;
 
 import org.apache.maven.artifact.ArtifactUtils;
@@ -109,6 +110,16 @@ public abstract class AbstractScmReleaseMojo extends AbstractReleaseMojo {
     @Parameter(property = "workItem")
     private String workItem;
 
+    /**
+     * Directory where the change log queries of the version policies are cached. The results are keyed by SCM URL and
+     * HEAD revision, so a dry run directly followed by the real run only queries the change log once. The remote tags
+     * and branches are not cached, as they can change without HEAD moving. No caching is done if not set.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "scmQueryCacheDirectory")
+    private File scmQueryCacheDirectory;
+
     /**
      * Add a new or overwrite the default implementation per provider.
      * The key is the scm prefix and the value is the role hint of the
@@ -151,6 +162,9 @@ public abstract class AbstractScmReleaseMojo extends AbstractReleaseMojo {
 
         descriptor.setPushChanges(pushChanges);
         descriptor.setWorkItem(workItem);
+        if (scmQueryCacheDirectory != null) {
+            descriptor.setScmQueryCacheDirectory(scmQueryCacheDirectory.getAbsolutePath());
+        }
 
         if (project.getScm() != null) {
             if (project.getScm().getDeveloperConnection() != null) {
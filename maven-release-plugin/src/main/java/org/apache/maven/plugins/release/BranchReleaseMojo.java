@@ -18,6 +18,7 @@
  */
 package org.apache.maven.plugins.release;
 
+import java.io.File;
 import java.util.Arrays;
 
 import org.apache.maven.plugin.MojoExecutionException;
@@ -123,6 +124,15 @@ public class BranchReleaseMojo extends AbstractScmReleaseMojo {
     @Parameter(defaultValue = "false", property = "autoVersionSubmodules")
     private boolean autoVersionSubmodules;
 
+    /**
+     * Whether to present the suggested versions of all modules for review at once, accepting them with a single
+     * answer, instead of prompting for the version of each module. Declining falls back to prompting for each module.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "reviewVersions")
+    private boolean reviewVersions;
+
     /**
      * Dry run: don't checkin or tag anything in the scm repository, or modify the checkout.
      * Running <code>mvn -DdryRun=true release:prepare</code> is useful in order to check that modifications to
@@ -134,6 +144,24 @@ public class BranchReleaseMojo extends AbstractScmReleaseMojo {
     @Parameter(defaultValue = "false", property = "dryRun")
     private boolean dryRun;
 
+    /**
+     * Keep the POMs transformed by a dry run in memory instead of writing them alongside the originals. Neither POM
+     * backups nor <code>release.properties</code> are written either, so the dry run leaves nothing behind to clean.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "dryRunInMemory")
+    private boolean dryRunInMemory;
+
+    /**
+     * File to write the changes made to the POMs to, as one unified diff per phase (release, development or branch)
+     * with statistics, so the whole change can be reviewed at once. Works for dry runs as well as real runs.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "pomDiffReport")
+    private File pomDiffReport;
+
     /**
      * Whether to add a schema to the POM if it was previously missing on release.
      *
@@ -253,6 +281,7 @@ public class BranchReleaseMojo extends AbstractScmReleaseMojo {
         config.setScmUseEditMode(useEditMode);
         config.setUpdateDependencies(updateDependencies);
         config.setAutoVersionSubmodules(autoVersionSubmodules);
+        config.setReviewVersions(reviewVersions);
         config.setScmReleaseLabel(branchName);
         config.setScmBranchBase(branchBase);
         config.setBranchCreation(true);
@@ -270,6 +299,10 @@ public class BranchReleaseMojo extends AbstractScmReleaseMojo {
         config.setProjectNamingPolicyId(projectBranchNamingPolicyId);
         config.setScmBranchCommitComment(scmBranchCommitComment);
         config.setPinExternals(pinExternals);
+        config.setDryRunInMemory(dryRunInMemory);
+        if (pomDiffReport != null) {
+            config.setPomDiffReport(pomDiffReport.getAbsolutePath());
+        }
 
         if (checkModificationExcludeList != null) {
             checkModificationExcludes =
@@ -289,7 +322,7 @@ public class BranchReleaseMojo extends AbstractScmReleaseMojo {
             branchRequest.setDryRun(dryRun);
             branchRequest.setUserProperties(session.getUserProperties());
 
-            releaseManager.branch(branchRequest);
+            getReleaseManager().branch(branchRequest);
         } catch (ReleaseExecutionException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (ReleaseFailureException e) {
@@ -48,7 +48,7 @@ public class CleanReleaseMojo extends AbstractReleaseMojo {
         cleanRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog()));
 
         try {
-            releaseManager.clean(cleanRequest);
+            getReleaseManager().clean(cleanRequest);
         } catch (ReleaseFailureException e) {
             throw new MojoFailureException(e.getMessage());
         }
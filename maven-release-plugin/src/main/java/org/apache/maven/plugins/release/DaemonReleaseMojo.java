@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.release;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseManager;
+import org.apache.maven.shared.release.daemon.ReleaseDaemon;
+import org.apache.maven.shared.release.daemon.RemoteReleaseManager;
+
+/**
+ * Run a release daemon: a long-lived process hosting the release manager, which executes the release goals of the
+ * builds started with <code>-DreleaseDaemon</code> pointing to its endpoint file. The release manager, the SCM
+ * providers, the parsed POMs, the decrypted master password and the reactor projects stay warm between the goals.
+ * The daemon only accepts connections from the loopback interface authenticated with the token of its endpoint file,
+ * and runs until it is stopped with <code>-Dstop</code> or interrupted.
+ *
+ * @since 3.0.2
+ */
+@Mojo(name = "daemon", aggregator = true, requiresProject = false)
+public class DaemonReleaseMojo extends AbstractMojo {
+    /**
+     * The endpoint file the daemon writes its port and token to.
+     */
+    @Parameter(property = "releaseDaemon", defaultValue = "${user.home}/.m2/release-daemon.properties")
+    private File releaseDaemon;
+
+    /**
+     * Stop the running daemon instead of starting one.
+     */
+    @Parameter(property = "stop", defaultValue = "false")
+    private boolean stop;
+
+    @Parameter(defaultValue = "${settings}", readonly = true, required = true)
+    private Settings settings;
+
+    @Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
+    @Component
+    private ReleaseManager releaseManager;
+
+    @Component
+    private ProjectBuilder projectBuilder;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (stop) {
+            try {
+                new RemoteReleaseManager(releaseDaemon, releaseManager).stop();
+            } catch (ReleaseExecutionException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            } catch (ReleaseFailureException e) {
+                throw new MojoFailureException(e.getMessage(), e);
+            }
+            getLog().info("Release daemon stopped");
+            return;
+        }
+
+        if (releaseDaemon.exists()) {
+            throw new MojoFailureException("A release daemon is already running with " + releaseDaemon
+                    + ", stop it with -Dstop or delete the file if it is gone");
+        }
+
+        ProjectBuilderReactorLoader reactorLoader =
+                new ProjectBuilderReactorLoader(projectBuilder, session.getProjectBuildingRequest(), getLog());
+        try (ReleaseDaemon daemon = new ReleaseDaemon(releaseManager, reactorLoader, settings)) {
+            daemon.start(releaseDaemon);
+            releaseDaemon.deleteOnExit();
+            getLog().info("Release daemon started, run the release goals with -B -DreleaseDaemon=" + releaseDaemon);
+            daemon.run();
+        } catch (IOException e) {
+            throw new MojoExecutionException("Release daemon failed: " + e.getMessage(), e);
+        }
+    }
+}
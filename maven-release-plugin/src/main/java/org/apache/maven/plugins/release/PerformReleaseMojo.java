@@ -120,7 +120,28 @@ public class PerformReleaseMojo extends AbstractReleaseMojo {
      * The goals (by default at least {@code deploy}) will <strong>not</strong> be executed.
      */
     @Parameter(defaultValue = "false", property = "dryRun")
-    private boolean dryRun;
+    boolean dryRun;
+
+    /**
+     * Skip the tests of the perform goals when the checkout of the tag has exactly the POMs and the
+     * <code>src</code> and <code>.mvn</code> directories of the reactor prepared by <code>release:prepare</code>, and
+     * the preparation goals of that same run reached the <code>test</code> phase without skipping or ignoring tests.
+     * A resumed preparation does not count. Tests skipped by the POMs, profiles or settings are not detected, nor
+     * changes to other inputs of the build, like files outside these directories.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "reuseVerification")
+    private boolean reuseVerification;
+
+    /**
+     * The degree of parallelism of the perform goals, overriding <code>threads</code>. A lower value than for the
+     * preparation goals spares the repository the artifacts are deployed to.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "performThreads")
+    private String performThreads;
 
     /**
      * Add a new or overwrite the default implementation per provider.
@@ -182,6 +203,8 @@ public class PerformReleaseMojo extends AbstractReleaseMojo {
 
             releaseDescriptor.setCheckoutDirectory(workingDirectory.getAbsolutePath());
             releaseDescriptor.setUseReleaseProfile(useReleaseProfile);
+            releaseDescriptor.setReuseVerification(reuseVerification);
+            releaseDescriptor.setPerformThreads(performThreads);
 
             createGoals();
             releaseDescriptor.setPerformGoals(goals);
@@ -193,7 +216,7 @@ public class PerformReleaseMojo extends AbstractReleaseMojo {
             performRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog(), dryRun));
             performRequest.setDryRun(dryRun);
 
-            releaseManager.perform(performRequest);
+            getReleaseManager().perform(performRequest);
         } catch (ReleaseExecutionException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (ReleaseFailureException e) {
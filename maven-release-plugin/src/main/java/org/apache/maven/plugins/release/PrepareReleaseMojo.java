@@ -18,6 +18,7 @@
  */
 package org.apache.maven.plugins.release;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -87,6 +88,15 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
     @Parameter(defaultValue = "false", property = "autoVersionSubmodules")
     private boolean autoVersionSubmodules;
 
+    /**
+     * Whether to present the suggested versions of all modules for review at once, accepting them with a single
+     * answer, instead of prompting for the version of each module. Declining falls back to prompting for each module.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "reviewVersions")
+    private boolean reviewVersions;
+
     /**
      * Dry run: don't checkin or tag anything in the scm repository, or modify the checkout. Running
      * <code>mvn -DdryRun=true release:prepare</code> is useful in order to check that modifications to poms and scm
@@ -96,6 +106,33 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
     @Parameter(defaultValue = "false", property = "dryRun")
     private boolean dryRun;
 
+    /**
+     * Keep the POMs transformed by a dry run in memory instead of writing them alongside the originals. Neither POM
+     * backups nor <code>release.properties</code> are written either, so the dry run leaves nothing behind to clean.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "dryRunInMemory")
+    private boolean dryRunInMemory;
+
+    /**
+     * The degree of parallelism of the preparation goals, overriding <code>threads</code>.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "preparationThreads")
+    private String preparationThreads;
+
+    /**
+     * File to write the changes made to the POMs to, as one unified diff per phase (release, development or branch)
+     * with statistics, so the whole change can be reviewed at once. Works for dry runs as well as real runs. It is
+     * not written when resuming a preparation whose POMs were already rewritten, as the original POMs are gone.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(property = "pomDiffReport")
+    private File pomDiffReport;
+
     /**
      * Whether to add a schema to the POM if it was previously missing on release.
      */
@@ -166,6 +203,18 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
     @Parameter(property = "checkModificationExcludeList")
     private String checkModificationExcludeList;
 
+    /**
+     * Whether to restrict the check for local modifications to the directories of the reactor projects. Useful when
+     * the reactor is only a small part of a large working copy, as the SCM status is then only requested for the
+     * directories of the reactor projects. Of an aggregator POM containing other reactor projects, like the root
+     * project, only the POM and the <code>.mvn</code> directory are checked, not the other directories next to its
+     * modules.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "checkModificationReactorOnly")
+    private boolean checkModificationReactorOnly;
+
     /**
      * Default version to use when preparing a release or a branch.
      *
@@ -388,6 +437,7 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
         config.setCommitByProject(commitByProject);
         config.setUpdateDependencies(updateDependencies);
         config.setAutoVersionSubmodules(autoVersionSubmodules);
+        config.setReviewVersions(reviewVersions);
         config.setAllowTimestampedSnapshots(allowTimestampedSnapshots);
         config.setSnapshotReleasePluginAllowed(allowReleasePluginSnapshot);
         config.setDefaultReleaseVersion(releaseVersion);
@@ -406,6 +456,11 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
         config.setScmReleaseCommitComment(scmReleaseCommitComment);
         config.setAutoResolveSnapshots(autoResolveSnapshots);
         config.setPinExternals(pinExternals);
+        config.setDryRunInMemory(dryRunInMemory);
+        config.setPreparationThreads(preparationThreads);
+        if (pomDiffReport != null) {
+            config.setPomDiffReport(pomDiffReport.getAbsolutePath());
+        }
         config.setLineSeparator(resolveLineSeparator());
 
         if (checkModificationExcludeList != null) {
@@ -416,6 +471,7 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
         if (checkModificationExcludes != null) {
             config.setCheckModificationExcludes(Arrays.asList(checkModificationExcludes));
         }
+        config.setCheckModificationReactorOnly(checkModificationReactorOnly);
 
         ReleasePrepareRequest prepareRequest = new ReleasePrepareRequest();
         prepareRequest.setReleaseDescriptorBuilder(config);
@@ -427,7 +483,7 @@ public class PrepareReleaseMojo extends AbstractScmReleaseMojo {
         prepareRequest.setUserProperties(session.getUserProperties());
 
         try {
-            releaseManager.prepare(prepareRequest);
+            getReleaseManager().prepare(prepareRequest);
         } catch (ReleaseExecutionException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (ReleaseFailureException e) {
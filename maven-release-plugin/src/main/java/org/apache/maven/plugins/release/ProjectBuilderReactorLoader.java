@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.release;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.DependencyResolutionResult;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingResult;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.daemon.ReactorLoader;
+import org.apache.maven.shared.release.util.Digests;
+
+/**
+ * Builds the reactor projects of the requests to the release daemon with the project builder of the daemon, and keeps
+ * the projects of the last reactor until one of its POM files changes.
+ *
+ * @since 3.0.2
+ */
+class ProjectBuilderReactorLoader implements ReactorLoader {
+    private final ProjectBuilder projectBuilder;
+
+    private final ProjectBuildingRequest projectBuildingRequest;
+
+    private final Log log;
+
+    private List<File> pomFiles;
+
+    private List<String> digests;
+
+    private List<MavenProject> projects;
+
+    ProjectBuilderReactorLoader(ProjectBuilder projectBuilder, ProjectBuildingRequest projectBuildingRequest, Log log) {
+        this.projectBuilder = projectBuilder;
+        this.projectBuildingRequest = new DefaultProjectBuildingRequest(projectBuildingRequest);
+        this.projectBuildingRequest.setResolveDependencies(true);
+        this.log = log;
+    }
+
+    @Override
+    public List<MavenProject> load(List<File> pomFiles) throws ReleaseExecutionException {
+        List<String> digests = new ArrayList<>();
+        for (File pomFile : pomFiles) {
+            try {
+                digests.add(Digests.sha1(Files.readAllBytes(pomFile.toPath())));
+            } catch (IOException e) {
+                throw new ReleaseExecutionException("Cannot read " + pomFile + ": " + e.getMessage(), e);
+            }
+        }
+
+        // a changed parent changes its modules as well, so the reactor is only kept as a whole
+        if (!pomFiles.equals(this.pomFiles) || !digests.equals(this.digests)) {
+            log.info("Building " + pomFiles.size() + " reactor projects");
+            projects = build(pomFiles);
+            this.pomFiles = new ArrayList<>(pomFiles);
+            this.digests = digests;
+        }
+        return new ArrayList<>(projects);
+    }
+
+    private List<MavenProject> build(List<File> pomFiles) throws ReleaseExecutionException {
+        List<ProjectBuildingResult> results;
+        try {
+            results = projectBuilder.build(pomFiles, false, projectBuildingRequest);
+        } catch (ProjectBuildingException e) {
+            throw new ReleaseExecutionException("Cannot build the reactor projects: " + e.getMessage(), e);
+        }
+
+        Map<File, MavenProject> projectsByFile = new HashMap<>();
+        for (ProjectBuildingResult result : results) {
+            DependencyResolutionResult resolution = result.getDependencyResolutionResult();
+            if (resolution != null && !resolution.getCollectionErrors().isEmpty()) {
+                log.warn("Cannot resolve all dependencies of " + result.getProjectId() + ": "
+                        + resolution.getCollectionErrors().get(0).getMessage());
+            }
+            projectsByFile.put(result.getPomFile().getAbsoluteFile(), result.getProject());
+        }
+
+        List<MavenProject> projects = new ArrayList<>();
+        for (File pomFile : pomFiles) {
+            projects.add(projectsByFile.get(pomFile.getAbsoluteFile()));
+        }
+        return projects;
+    }
+}
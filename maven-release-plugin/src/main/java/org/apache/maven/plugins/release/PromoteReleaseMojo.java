@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.release;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.shared.release.util.StagingRepository;
+
+/**
+ * Promote a release staged by <code>release:stage</code> to the release repository, without building or deploying
+ * it again. The staged files are checked against the hashes recorded when staging, then hard linked or copied into
+ * the release repository, and the repository metadata is merged. Both repositories must be <code>file:</code> URLs.
+ *
+ * @since 3.0.2
+ */
+@Mojo(name = "promote", aggregator = true, requiresProject = false)
+public class PromoteReleaseMojo extends AbstractMojo {
+    /**
+     * URL of the staging repository the release was staged to.
+     */
+    @Parameter(property = "stagingRepository", required = true)
+    private String stagingRepository;
+
+    /**
+     * URL of the release repository to promote the staged release to.
+     */
+    @Parameter(property = "targetRepository", required = true)
+    private String targetRepository;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        File stagingDirectory = toDirectory(stagingRepository);
+        File targetDirectory = toDirectory(targetRepository);
+
+        try {
+            List<String> promoted = new StagingRepository(stagingDirectory).promote(targetDirectory);
+            getLog().info("Promoted " + promoted.size() + " files from " + stagingDirectory + " to " + targetDirectory);
+        } catch (IOException e) {
+            throw new MojoFailureException("Cannot promote the staged release: " + e.getMessage(), e);
+        }
+    }
+
+    private static File toDirectory(String repository) throws MojoFailureException {
+        File directory = StagingRepository.toDirectory(repository);
+        if (directory == null) {
+            throw new MojoFailureException("Only file: repositories can be promoted, got " + repository);
+        }
+        return directory;
+    }
+}
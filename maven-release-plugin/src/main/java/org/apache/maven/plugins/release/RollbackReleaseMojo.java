@@ -75,7 +75,7 @@ public class RollbackReleaseMojo extends AbstractScmReleaseMojo {
             rollbackRequest.setReactorProjects(getReactorProjects());
             rollbackRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog()));
 
-            releaseManager.rollback(rollbackRequest);
+            getReleaseManager().rollback(rollbackRequest);
         } catch (ReleaseExecutionException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (ReleaseFailureException e) {
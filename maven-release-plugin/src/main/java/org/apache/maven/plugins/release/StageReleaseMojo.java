@@ -18,8 +18,15 @@
  */
 package org.apache.maven.plugins.release;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.shared.release.util.StagingRepository;
 
 /**
  * Perform a release from SCM to a staging repository.
@@ -30,6 +37,9 @@ import org.apache.maven.plugins.annotations.Parameter;
  * If the goals contain <code>site-deploy</code> or <code>site:deploy</code>, these
  * are overridden with <code>site:stage-deploy</code>.
  *
+ * If the staging repository is a <code>file:</code> URL, the hashes of the staged files are recorded, so
+ * <code>release:promote</code> can later move them to the release repository without building them again.
+ *
  * @author <a href="mailto:nicolas@apache.org">Nicolas De Loof</a>
  * @since 2.0-beta-8
  */
@@ -43,6 +53,21 @@ public class StageReleaseMojo extends PerformReleaseMojo {
     @Parameter(property = "stagingRepository", required = true)
     private String stagingRepository;
 
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        super.execute();
+
+        File stagingDirectory = StagingRepository.toDirectory(stagingRepository);
+        if (!dryRun && stagingDirectory != null && stagingDirectory.isDirectory()) {
+            try {
+                Map<String, String> hashes = new StagingRepository(stagingDirectory).record();
+                getLog().info("Recorded " + hashes.size() + " staged files in " + stagingDirectory);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot record the staged files: " + e.getMessage(), e);
+            }
+        }
+    }
+
     @Override
     void createGoals() {
         if (goals == null) {
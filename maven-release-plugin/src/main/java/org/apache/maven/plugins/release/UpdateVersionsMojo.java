@@ -51,6 +51,15 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
     @Parameter(defaultValue = "false", property = "autoVersionSubmodules")
     private boolean autoVersionSubmodules;
 
+    /**
+     * Whether to present the suggested versions of all modules for review at once, accepting them with a single
+     * answer, instead of prompting for the version of each module. Declining falls back to prompting for each module.
+     *
+     * @since 3.0.2
+     */
+    @Parameter(defaultValue = "false", property = "reviewVersions")
+    private boolean reviewVersions;
+
     /**
      * Whether to add a schema to the POM if it was previously missing on release.
      *
@@ -104,6 +113,7 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
         final ReleaseDescriptorBuilder config = createReleaseDescriptor();
         config.setAddSchema(addSchema);
         config.setAutoVersionSubmodules(autoVersionSubmodules);
+        config.setReviewVersions(reviewVersions);
         config.setDefaultDevelopmentVersion(developmentVersion);
         config.setScmUseEditMode(useEditMode);
         config.setUpdateDependencies(updateDependencies);
@@ -122,7 +132,7 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
             updateVersionsRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog()));
             updateVersionsRequest.setUserProperties(session.getUserProperties());
 
-            releaseManager.updateVersions(updateVersionsRequest);
+            getReleaseManager().updateVersions(updateVersionsRequest);
         } catch (ReleaseExecutionException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (ReleaseFailureException e) {